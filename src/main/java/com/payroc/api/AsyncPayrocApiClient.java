@@ -3,7 +3,10 @@
  */
 package com.payroc.api;
 
+import com.payroc.api.core.CircuitBreaker;
 import com.payroc.api.core.ClientOptions;
+import com.payroc.api.core.ObjectMappers;
+import com.payroc.api.core.RetryBudget;
 import com.payroc.api.core.Suppliers;
 import com.payroc.api.resources.applepaysessions.AsyncApplePaySessionsClient;
 import com.payroc.api.resources.attachments.AsyncAttachmentsClient;
@@ -20,6 +23,8 @@ import com.payroc.api.resources.payroccloud.AsyncPayrocCloudClient;
 import com.payroc.api.resources.repeatpayments.AsyncRepeatPaymentsClient;
 import com.payroc.api.resources.reporting.AsyncReportingClient;
 import com.payroc.api.resources.tokenization.AsyncTokenizationClient;
+import java.util.Map;
+import java.util.Optional;
 import java.util.function.Supplier;
 
 public class AsyncPayrocApiClient {
@@ -134,6 +139,38 @@ public class AsyncPayrocApiClient {
         return this.tokenizationClient.get();
     }
 
+    /**
+     * Builds the JSON writers for the request types and readers for the response types of every resource, so that
+     * the first request to each endpoint does not pay for serializer construction. Call once at startup.
+     */
+    public void warmUp() {
+        warmUp(PayrocApiResource.values());
+    }
+
+    /**
+     * Builds the JSON writers for the request types and readers for the response types of the given resources.
+     */
+    public void warmUp(PayrocApiResource... resources) {
+        for (PayrocApiResource resource : resources) {
+            ObjectMappers.warmUp(resource.getRequestTypes(), resource.getResponseTypes());
+        }
+    }
+
+    /**
+     * Returns the retry budget shared by this client's requests, if one is configured.
+     */
+    public Optional<RetryBudget> retryBudget() {
+        return clientOptions.retryBudgetState();
+    }
+
+    /**
+     * Returns the circuit breaker of every host this client has called, keyed by host name. Empty when no circuit
+     * breaker is configured.
+     */
+    public Map<String, CircuitBreaker> circuitBreakers() {
+        return clientOptions.circuitBreakers();
+    }
+
     public static AsyncPayrocApiClientBuilder builder() {
         return new AsyncPayrocApiClientBuilder();
     }
@@ -3,14 +3,26 @@
  */
 package com.payroc.api;
 
+import com.payroc.api.core.CircuitBreakerConfig;
+import com.payroc.api.core.CircuitBreakerInterceptor;
 import com.payroc.api.core.ClientOptions;
 import com.payroc.api.core.Environment;
+import com.payroc.api.core.HedgingConfig;
+import com.payroc.api.core.HedgingInterceptor;
 import com.payroc.api.core.InferredAuthTokenSupplier;
 import com.payroc.api.core.LogConfig;
+import com.payroc.api.core.Logger;
+import com.payroc.api.core.LoggingInterceptor;
+import com.payroc.api.core.RateLimitConfig;
+import com.payroc.api.core.RateLimitInterceptor;
+import com.payroc.api.core.RetryBudgetConfig;
+import com.payroc.api.core.RetryInterceptor;
 import com.payroc.api.resources.auth.AuthClient;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Supplier;
 import okhttp3.OkHttpClient;
 
 public class PayrocApiClientBuilder {
@@ -28,6 +40,20 @@ public class PayrocApiClientBuilder {
 
     private Optional<LogConfig> logging = Optional.empty();
 
+    private Optional<Boolean> streamRequestBodies = Optional.empty();
+
+    private Optional<RateLimitConfig> rateLimiting = Optional.empty();
+
+    private Optional<RetryBudgetConfig> retryBudget = Optional.empty();
+
+    private Optional<CircuitBreakerConfig> circuitBreaker = Optional.empty();
+
+    private Optional<HedgingConfig> hedging = Optional.empty();
+
+    private Optional<Supplier<String>> idempotencyKeyGenerator = Optional.empty();
+
+    private AtomicReference<OkHttpClient> builtHttpClient = new AtomicReference<>();
+
     /**
      * Sets apiKey
      */
@@ -50,7 +76,7 @@ public class PayrocApiClientBuilder {
     }
 
     /**
-     * Sets the maximum number of retries for the client. Defaults to 2 retries.
+     * Sets the maximum number of retries for the client, including its token requests. Defaults to 2 retries.
      */
     public PayrocApiClientBuilder maxRetries(int maxRetries) {
         this.maxRetries = Optional.of(maxRetries);
@@ -73,6 +99,60 @@ public class PayrocApiClientBuilder {
         return this;
     }
 
+    /**
+     * Cap retries at a fraction of recent requests, so that an outage does not multiply the load on the API.
+     * Disabled by default.
+     */
+    public PayrocApiClientBuilder retryBudget(RetryBudgetConfig retryBudget) {
+        this.retryBudget = Optional.of(retryBudget);
+        return this;
+    }
+
+    /**
+     * Sets how idempotency keys are generated for requests whose key is left empty. Defaults to random UUIDs.
+     * Requests with an idempotency key are also retried after network failures.
+     */
+    public PayrocApiClientBuilder idempotencyKeyGenerator(Supplier<String> idempotencyKeyGenerator) {
+        this.idempotencyKeyGenerator = Optional.of(idempotencyKeyGenerator);
+        return this;
+    }
+
+    /**
+     * Fail requests to a host immediately after repeated failures, probing it again after a pause.
+     * Disabled by default.
+     */
+    public PayrocApiClientBuilder circuitBreaker(CircuitBreakerConfig circuitBreaker) {
+        this.circuitBreaker = Optional.of(circuitBreaker);
+        return this;
+    }
+
+    /**
+     * Hedge GET requests that have not answered within a latency percentile by sending a second identical request
+     * and using whichever answers first. Hedges are capped by a budget. Disabled by default.
+     */
+    public PayrocApiClientBuilder hedging(HedgingConfig hedging) {
+        this.hedging = Optional.of(hedging);
+        return this;
+    }
+
+    /**
+     * Pace requests across all resource clients using the rate-limit headers of earlier responses, instead of
+     * waiting for the API to answer 429. Disabled by default.
+     */
+    public PayrocApiClientBuilder rateLimiting(RateLimitConfig rateLimiting) {
+        this.rateLimiting = Optional.of(rateLimiting);
+        return this;
+    }
+
+    /**
+     * Serialize JSON request bodies while they are sent, with chunked transfer encoding, instead of up front with a
+     * known content length. Useful for very large payloads. Disabled by default.
+     */
+    public PayrocApiClientBuilder streamRequestBodies(boolean streamRequestBodies) {
+        this.streamRequestBodies = Optional.of(streamRequestBodies);
+        return this;
+    }
+
     /**
      * Add a custom header to be sent with all requests.
      * For headers that need to be computed dynamically or conditionally, use the setAdditional() method override instead.
@@ -87,18 +167,25 @@ public class PayrocApiClientBuilder {
     }
 
     protected ClientOptions buildClientOptions() {
+        this.builtHttpClient = new AtomicReference<>();
         ClientOptions.Builder builder = ClientOptions.builder();
         setEnvironment(builder);
         setAuthentication(builder);
         setHttpClient(builder);
         setTimeouts(builder);
         setRetries(builder);
+        setCircuitBreaker(builder);
+        setRateLimiting(builder);
+        setHedging(builder);
         setLogging(builder);
+        setSerialization(builder);
         for (Map.Entry<String, String> header : this.customHeaders.entrySet()) {
             builder.addHeader(header.getKey(), header.getValue());
         }
         setAdditional(builder);
-        return builder.build();
+        ClientOptions clientOptions = builder.build();
+        this.builtHttpClient.set(clientOptions.httpClient());
+        return clientOptions;
     }
 
     /**
@@ -128,16 +215,48 @@ public class PayrocApiClientBuilder {
      */
     protected void setAuthentication(ClientOptions.Builder builder) {
         if (this.apiKey != null) {
-            ClientOptions.Builder authClientOptionsBuilder =
-                    ClientOptions.builder().environment(this.environment);
-            AuthClient authClient = new AuthClient(authClientOptionsBuilder.build());
-            InferredAuthTokenSupplier inferredAuthTokenSupplier =
-                    new InferredAuthTokenSupplier(this.apiKey, authClient);
+            Environment environment = this.environment;
+            AtomicReference<OkHttpClient> apiHttpClient = this.builtHttpClient;
+            Logger logger = Logger.from(this.logging);
+            // The token client is created on first use so that it can be derived from the API client's
+            // OkHttpClient and share its connection pool, dispatcher and configuration.
+            InferredAuthTokenSupplier inferredAuthTokenSupplier = new InferredAuthTokenSupplier(
+                    this.apiKey,
+                    () -> {
+                        int tokenMaxRetries = this.maxRetries.orElse(2);
+                        ClientOptions.Builder authClientOptionsBuilder =
+                                ClientOptions.builder().environment(environment).maxRetries(tokenMaxRetries);
+                        if (apiHttpClient.get() != null) {
+                            authClientOptionsBuilder.httpClient(tokenHttpClient(apiHttpClient.get(), tokenMaxRetries));
+                        }
+                        return new AuthClient(authClientOptionsBuilder.build());
+                    },
+                    logger);
             builder.addHeader(
                     "Authorization", () -> inferredAuthTokenSupplier.get().get("Authorization"));
         }
     }
 
+    /**
+     * Derives the token client's OkHttpClient from the API client's. The SDK's interceptors are dropped, so token
+     * calls are not logged twice and do not share the API client's retry budget, rate limits, circuit breakers or
+     * hedging; the token client gets its own retries instead, up to {@code maxRetries}. Interceptors of a
+     * user-supplied client are kept.
+     */
+    private static OkHttpClient tokenHttpClient(OkHttpClient apiHttpClient, int maxRetries) {
+        OkHttpClient.Builder tokenHttpClientBuilder = apiHttpClient.newBuilder();
+        tokenHttpClientBuilder
+                .interceptors()
+                .removeIf(interceptor -> interceptor instanceof RetryInterceptor
+                        || interceptor instanceof CircuitBreakerInterceptor
+                        || interceptor instanceof RateLimitInterceptor
+                        || interceptor instanceof HedgingInterceptor
+                        || interceptor instanceof LoggingInterceptor);
+        return tokenHttpClientBuilder
+                .addInterceptor(new RetryInterceptor(maxRetries))
+                .build();
+    }
+
     /**
      * Sets the request timeout configuration.
      * Override this method to customize timeout behavior.
@@ -160,6 +279,48 @@ public class PayrocApiClientBuilder {
         if (this.maxRetries.isPresent()) {
             builder.maxRetries(this.maxRetries.get());
         }
+        if (this.retryBudget.isPresent()) {
+            builder.retryBudget(this.retryBudget.get());
+        }
+        if (this.idempotencyKeyGenerator.isPresent()) {
+            builder.idempotencyKeyGenerator(this.idempotencyKeyGenerator.get());
+        }
+    }
+
+    /**
+     * Sets the circuit breaker configuration.
+     * Override this method to customize how failing hosts are detected.
+     *
+     * @param builder The ClientOptions.Builder to configure
+     */
+    protected void setCircuitBreaker(ClientOptions.Builder builder) {
+        if (this.circuitBreaker.isPresent()) {
+            builder.circuitBreaker(this.circuitBreaker.get());
+        }
+    }
+
+    /**
+     * Sets the hedging configuration.
+     * Override this method to customize how slow GET requests are hedged.
+     *
+     * @param builder The ClientOptions.Builder to configure
+     */
+    protected void setHedging(ClientOptions.Builder builder) {
+        if (this.hedging.isPresent()) {
+            builder.hedging(this.hedging.get());
+        }
+    }
+
+    /**
+     * Sets the client-side rate limiting configuration.
+     * Override this method to customize how requests are paced.
+     *
+     * @param builder The ClientOptions.Builder to configure
+     */
+    protected void setRateLimiting(ClientOptions.Builder builder) {
+        if (this.rateLimiting.isPresent()) {
+            builder.rateLimiting(this.rateLimiting.get());
+        }
     }
 
     /**
@@ -186,6 +347,18 @@ public class PayrocApiClientBuilder {
         }
     }
 
+    /**
+     * Sets how request and response bodies are serialized.
+     * Override this method to customize serialization behavior.
+     *
+     * @param builder The ClientOptions.Builder to configure
+     */
+    protected void setSerialization(ClientOptions.Builder builder) {
+        if (this.streamRequestBodies.isPresent()) {
+            builder.streamRequestBodies(this.streamRequestBodies.get());
+        }
+    }
+
     /**
      * Override this method to add any additional configuration to the client.
      * This method is called at the end of the configuration chain, allowing you to add
@@ -0,0 +1,285 @@
+package com.payroc.api;
+
+import com.fasterxml.jackson.databind.JavaType;
+import com.payroc.api.core.ObjectMappers;
+import java.lang.reflect.Type;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * The top-level resources of the API, each with the request body types its endpoints write and the response body
+ * types they read, as Jackson types so that generic bodies such as {@code List<PatchDocument>} are included.
+ *
+ * <p>Used with {@link PayrocApiClient#warmUp(PayrocApiResource...)} to build JSON serializers ahead of the first
+ * request. The lists are maintained by hand; {@code PayrocApiResourceTest} checks them against the raw clients, so
+ * add the types of any new or changed endpoint here.
+ */
+public enum PayrocApiResource {
+    /**
+     * Types used by {@link PayrocApiClient#paymentLinks()}.
+     */
+    PAYMENT_LINKS(
+            requests(
+                    com.payroc.api.resources.paymentlinks.types.CreatePaymentLinksRequestBody.class,
+                    com.payroc.api.types.PaymentLinkEmailShareEvent.class,
+                    listOf(com.payroc.api.types.PatchDocument.class)),
+            responses(
+                    com.payroc.api.resources.paymentlinks.types.CreatePaymentLinksResponse.class,
+                    com.payroc.api.resources.paymentlinks.types.DeactivatePaymentLinksResponse.class,
+                    com.payroc.api.resources.paymentlinks.types.PartiallyUpdatePaymentLinksResponse.class,
+                    com.payroc.api.resources.paymentlinks.types.RetrievePaymentLinksResponse.class,
+                    com.payroc.api.types.PaymentLinkEmailShareEvent.class,
+                    com.payroc.api.types.PaymentLinkPaginatedList.class,
+                    com.payroc.api.types.SharingEventPaginatedList.class)),
+
+    /**
+     * Types used by {@link PayrocApiClient#hostedFields()}.
+     */
+    HOSTED_FIELDS(
+            requests(com.payroc.api.resources.hostedfields.requests.HostedFieldsCreateSessionRequest.class),
+            responses(com.payroc.api.types.HostedFieldsCreateSessionResponse.class)),
+
+    /**
+     * Types used by {@link PayrocApiClient#applePaySessions()}.
+     */
+    APPLE_PAY_SESSIONS(
+            requests(com.payroc.api.resources.applepaysessions.requests.ApplePaySessions.class),
+            responses(com.payroc.api.types.ApplePayResponseSession.class)),
+
+    /**
+     * Types used by {@link PayrocApiClient#attachments()}.
+     */
+    ATTACHMENTS(requests(), responses(com.payroc.api.resources.attachments.types.Attachment.class)),
+
+    /**
+     * Types used by {@link PayrocApiClient#auth()}.
+     */
+    AUTH(requests(), responses(com.payroc.api.resources.auth.types.GetTokenResponse.class)),
+
+    /**
+     * Types used by {@link PayrocApiClient#funding()}.
+     */
+    FUNDING(
+            requests(
+                    com.payroc.api.resources.funding.fundingrecipients.requests.CreateFundingRecipient.class,
+                    com.payroc.api.types.FundingAccount.class,
+                    com.payroc.api.types.FundingRecipient.class,
+                    com.payroc.api.types.Instruction.class,
+                    com.payroc.api.types.Owner.class),
+            responses(
+                    com.payroc.api.resources.funding.fundingactivity.types.ListFundingActivityResponse.class,
+                    com.payroc.api.resources.funding.fundingactivity.types.RetrieveBalanceFundingActivityResponse.class,
+                    com.payroc.api.resources.funding.fundinginstructions.types.ListFundingInstructionsResponse.class,
+                    com.payroc.api.types.FundingAccount.class,
+                    com.payroc.api.types.FundingRecipient.class,
+                    com.payroc.api.types.Instruction.class,
+                    com.payroc.api.types.ListFundingAccounts.class,
+                    com.payroc.api.types.Owner.class,
+                    com.payroc.api.types.PaginatedFundRecipients.class,
+                    listOf(com.payroc.api.types.FundingAccount.class),
+                    listOf(com.payroc.api.types.Owner.class))),
+
+    /**
+     * Types used by {@link PayrocApiClient#bankTransferPayments()}.
+     */
+    BANK_TRANSFER_PAYMENTS(
+            requests(
+                    com.payroc.api.resources.banktransferpayments.payments.requests.BankTransferPaymentRequest.class,
+                    com.payroc.api.resources.banktransferpayments.payments.requests.Representment.class,
+                    com.payroc.api.resources.banktransferpayments.refunds.requests.BankTransferReferencedRefund.class,
+                    com.payroc.api.resources.banktransferpayments.refunds.requests.BankTransferUnreferencedRefund
+                            .class),
+            responses(
+                    com.payroc.api.types.BankTransferPayment.class,
+                    com.payroc.api.types.BankTransferPaymentPaginatedList.class,
+                    com.payroc.api.types.BankTransferRefund.class,
+                    com.payroc.api.types.BankTransferRefundPaginatedList.class)),
+
+    /**
+     * Types used by {@link PayrocApiClient#boarding()}.
+     */
+    BOARDING(
+            requests(
+                    com.payroc.api.resources.boarding.merchantplatforms.requests.CreateMerchantAccount.class,
+                    com.payroc.api.resources.boarding.processingaccounts.requests.CreateTerminalOrder.class,
+                    com.payroc.api.resources.boarding.processingaccounts.types
+                            .CreateReminderProcessingAccountsRequestBody.class,
+                    com.payroc.api.types.Contact.class,
+                    com.payroc.api.types.CreateProcessingAccount.class,
+                    com.payroc.api.types.Owner.class,
+                    com.payroc.api.types.PricingIntent52.class,
+                    listOf(com.payroc.api.types.PatchDocument.class)),
+            responses(
+                    com.payroc.api.resources.boarding.processingaccounts.types.CreateReminderProcessingAccountsResponse
+                            .class,
+                    com.payroc.api.types.Contact.class,
+                    com.payroc.api.types.HostConfiguration.class,
+                    com.payroc.api.types.MerchantPlatform.class,
+                    com.payroc.api.types.Owner.class,
+                    com.payroc.api.types.PaginatedContacts.class,
+                    com.payroc.api.types.PaginatedMerchants.class,
+                    com.payroc.api.types.PaginatedOwners.class,
+                    com.payroc.api.types.PaginatedPricingIntent.class,
+                    com.payroc.api.types.PaginatedProcessingAccounts.class,
+                    com.payroc.api.types.PaginatedProcessingTerminals.class,
+                    com.payroc.api.types.PricingIntent52.class,
+                    com.payroc.api.types.ProcessingAccount.class,
+                    com.payroc.api.types.ProcessingTerminal.class,
+                    com.payroc.api.types.TerminalOrder.class,
+                    listOf(com.payroc.api.types.FundingAccount.class),
+                    listOf(com.payroc.api.types.TerminalOrder.class))),
+
+    /**
+     * Types used by {@link PayrocApiClient#cardPayments()}.
+     */
+    CARD_PAYMENTS(
+            requests(
+                    com.payroc.api.resources.cardpayments.payments.requests.PaymentAdjustment.class,
+                    com.payroc.api.resources.cardpayments.payments.requests.PaymentCapture.class,
+                    com.payroc.api.resources.cardpayments.payments.requests.PaymentRequest.class,
+                    com.payroc.api.resources.cardpayments.refunds.requests.PaymentReversal.class,
+                    com.payroc.api.resources.cardpayments.refunds.requests.ReferencedRefund.class,
+                    com.payroc.api.resources.cardpayments.refunds.requests.RefundAdjustment.class,
+                    com.payroc.api.resources.cardpayments.refunds.requests.UnreferencedRefund.class),
+            responses(
+                    com.payroc.api.types.Payment.class,
+                    com.payroc.api.types.PaymentPaginatedListForRead.class,
+                    com.payroc.api.types.RefundPaginatedList.class,
+                    com.payroc.api.types.RetrievedPayment.class,
+                    com.payroc.api.types.RetrievedRefund.class)),
+
+    /**
+     * Types used by {@link PayrocApiClient#notifications()}.
+     */
+    NOTIFICATIONS(
+            requests(com.payroc.api.types.EventSubscription.class, listOf(com.payroc.api.types.PatchDocument.class)),
+            responses(
+                    com.payroc.api.types.EventSubscription.class,
+                    com.payroc.api.types.PaginatedEventSubscriptions.class)),
+
+    /**
+     * Types used by {@link PayrocApiClient#paymentFeatures()}.
+     */
+    PAYMENT_FEATURES(
+            requests(
+                    com.payroc.api.resources.paymentfeatures.bank.requests.BankAccountVerificationRequest.class,
+                    com.payroc.api.resources.paymentfeatures.cards.requests.BalanceInquiry.class,
+                    com.payroc.api.resources.paymentfeatures.cards.requests.BinLookup.class,
+                    com.payroc.api.resources.paymentfeatures.cards.requests.CardVerificationRequest.class,
+                    com.payroc.api.resources.paymentfeatures.cards.requests.FxRateInquiry.class),
+            responses(
+                    com.payroc.api.types.Balance.class,
+                    com.payroc.api.types.BankAccountVerificationResult.class,
+                    com.payroc.api.types.CardInfo.class,
+                    com.payroc.api.types.CardVerificationResult.class,
+                    com.payroc.api.types.FxRate.class)),
+
+    /**
+     * Types used by {@link PayrocApiClient#payrocCloud()}.
+     */
+    PAYROC_CLOUD(
+            requests(
+                    com.payroc.api.resources.payroccloud.paymentinstructions.requests.PaymentInstructionRequest.class,
+                    com.payroc.api.resources.payroccloud.refundinstructions.requests.RefundInstructionRequest.class,
+                    com.payroc.api.resources.payroccloud.signatureinstructions.requests.SignatureInstructionRequest
+                            .class),
+            responses(
+                    com.payroc.api.resources.payroccloud.signatures.types.RetrieveSignaturesResponse.class,
+                    com.payroc.api.types.ClosedLoopResponse.class,
+                    com.payroc.api.types.PaymentInstruction.class,
+                    com.payroc.api.types.RefundInstruction.class,
+                    com.payroc.api.types.SignatureInstruction.class)),
+
+    /**
+     * Types used by {@link PayrocApiClient#repeatPayments()}.
+     */
+    REPEAT_PAYMENTS(
+            requests(
+                    com.payroc.api.resources.repeatpayments.subscriptions.requests.SubscriptionPaymentRequest.class,
+                    com.payroc.api.resources.repeatpayments.subscriptions.requests.SubscriptionRequest.class,
+                    com.payroc.api.types.PaymentPlan.class,
+                    listOf(com.payroc.api.types.PatchDocument.class)),
+            responses(
+                    com.payroc.api.types.PaymentPlan.class,
+                    com.payroc.api.types.PaymentPlanPaginatedList.class,
+                    com.payroc.api.types.Subscription.class,
+                    com.payroc.api.types.SubscriptionPaginatedList.class,
+                    com.payroc.api.types.SubscriptionPayment.class)),
+
+    /**
+     * Types used by {@link PayrocApiClient#reporting()}.
+     */
+    REPORTING(
+            requests(),
+            responses(
+                    com.payroc.api.resources.reporting.settlement.types.ListAchDepositFeesSettlementResponse.class,
+                    com.payroc.api.resources.reporting.settlement.types.ListAchDepositsSettlementResponse.class,
+                    com.payroc.api.resources.reporting.settlement.types.ListAuthorizationsSettlementResponse.class,
+                    com.payroc.api.resources.reporting.settlement.types.ListBatchesSettlementResponse.class,
+                    com.payroc.api.resources.reporting.settlement.types.ListDisputesSettlementResponse.class,
+                    com.payroc.api.resources.reporting.settlement.types.ListTransactionsSettlementResponse.class,
+                    com.payroc.api.types.AchDeposit.class,
+                    com.payroc.api.types.Authorization.class,
+                    com.payroc.api.types.Batch.class,
+                    com.payroc.api.types.Transaction.class,
+                    listOf(com.payroc.api.types.DisputeStatus.class))),
+
+    /**
+     * Types used by {@link PayrocApiClient#tokenization()}.
+     */
+    TOKENIZATION(
+            requests(
+                    com.payroc.api.resources.tokenization.securetokens.requests.TokenizationRequest.class,
+                    com.payroc.api.resources.tokenization.singleusetokens.requests.SingleUseTokenRequest.class,
+                    com.payroc.api.types.AccountUpdate.class,
+                    listOf(com.payroc.api.types.PatchDocument.class)),
+            responses(
+                    com.payroc.api.types.SecureToken.class,
+                    com.payroc.api.types.SecureTokenPaginatedListWithAccountType.class,
+                    com.payroc.api.types.SecureTokenWithAccountType.class,
+                    com.payroc.api.types.SingleUseToken.class));
+
+    private final List<JavaType> requestTypes;
+
+    private final List<JavaType> responseTypes;
+
+    PayrocApiResource(List<JavaType> requestTypes, List<JavaType> responseTypes) {
+        this.requestTypes = requestTypes;
+        this.responseTypes = responseTypes;
+    }
+
+    /**
+     * Returns the request body types this resource's endpoints serialize.
+     */
+    public List<JavaType> getRequestTypes() {
+        return this.requestTypes;
+    }
+
+    /**
+     * Returns the response body types this resource's endpoints deserialize.
+     */
+    public List<JavaType> getResponseTypes() {
+        return this.responseTypes;
+    }
+
+    private static List<JavaType> requests(Type... types) {
+        return constructTypes(types);
+    }
+
+    private static List<JavaType> responses(Type... types) {
+        return constructTypes(types);
+    }
+
+    private static List<JavaType> constructTypes(Type... types) {
+        List<JavaType> javaTypes = new ArrayList<>();
+        for (Type type : types) {
+            javaTypes.add(ObjectMappers.JSON_MAPPER.constructType(type));
+        }
+        return Collections.unmodifiableList(javaTypes);
+    }
+
+    private static JavaType listOf(Class<?> elementType) {
+        return ObjectMappers.JSON_MAPPER.getTypeFactory().constructCollectionType(List.class, elementType);
+    }
+}
@@ -0,0 +1,77 @@
+package com.payroc.api.core;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.util.TokenBuffer;
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * A JSON value buffered once as tokens, used by union deserializers to choose a variant.
+ *
+ * <p>The top-level field names of an object, and the text of its scalar fields, can be inspected without
+ * building a tree. The chosen variant is then deserialized directly from the buffered tokens.
+ */
+public final class BufferedJsonValue {
+    private final TokenBuffer buffer;
+
+    private final Map<String, String> fields;
+
+    private BufferedJsonValue(TokenBuffer buffer, Map<String, String> fields) {
+        this.buffer = buffer;
+        this.fields = fields;
+    }
+
+    /**
+     * Buffers the value at the parser's current token.
+     */
+    public static BufferedJsonValue read(JsonParser p, DeserializationContext context) throws IOException {
+        TokenBuffer buffer = context.bufferAsCopyOfValue(p);
+        Map<String, String> fields = new HashMap<>();
+        try (JsonParser scanner = buffer.asParserOnFirstToken()) {
+            if (scanner.currentToken() == JsonToken.START_OBJECT) {
+                while (scanner.nextToken() == JsonToken.FIELD_NAME) {
+                    String name = scanner.currentName();
+                    JsonToken value = scanner.nextToken();
+                    if (value.isScalarValue()) {
+                        fields.put(name, value == JsonToken.VALUE_NULL ? null : scanner.getText());
+                    } else {
+                        fields.put(name, null);
+                        scanner.skipChildren();
+                    }
+                }
+            }
+        }
+        return new BufferedJsonValue(buffer, fields);
+    }
+
+    /**
+     * Returns true if the value is an object that has all of the given top-level fields.
+     */
+    public boolean hasFields(String... names) {
+        for (String name : names) {
+            if (!fields.containsKey(name)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Returns true if the given top-level field is a scalar whose text equals {@code text}.
+     */
+    public boolean fieldEquals(String name, String text) {
+        return text.equals(fields.get(name));
+    }
+
+    /**
+     * Deserializes the buffered value as the given type.
+     */
+    public <T> T readAs(Class<T> type, DeserializationContext context) throws IOException {
+        try (JsonParser parser = buffer.asParserOnFirstToken()) {
+            return context.readValue(parser, type);
+        }
+    }
+}
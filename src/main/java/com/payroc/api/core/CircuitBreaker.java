@@ -0,0 +1,97 @@
+package com.payroc.api.core;
+
+import java.time.Clock;
+
+/**
+ * Tracks the health of one host and decides whether requests to it may be sent.
+ *
+ * <p>The breaker starts closed. Consecutive failures open it; while open, requests are rejected without being
+ * sent. When the open duration has passed the breaker is half-open and lets a single probe through, whose outcome
+ * closes the breaker or opens it again.
+ */
+public final class CircuitBreaker {
+    public enum State {
+        CLOSED,
+
+        OPEN,
+
+        HALF_OPEN
+    }
+
+    private final CircuitBreakerConfig config;
+
+    private final Clock clock;
+
+    private State state = State.CLOSED;
+
+    private int consecutiveFailures = 0;
+
+    private long openedAtMillis = 0;
+
+    private boolean probeInFlight = false;
+
+    CircuitBreaker(CircuitBreakerConfig config, Clock clock) {
+        this.config = config;
+        this.clock = clock;
+    }
+
+    public synchronized State getState() {
+        if (state == State.OPEN && openDurationElapsed()) {
+            return State.HALF_OPEN;
+        }
+        return state;
+    }
+
+    public synchronized int getConsecutiveFailures() {
+        return consecutiveFailures;
+    }
+
+    /**
+     * Returns true if a request may be sent now. In the half-open state, only the probe is allowed.
+     */
+    synchronized boolean tryAcquire() {
+        switch (state) {
+            case CLOSED:
+                return true;
+            case OPEN:
+                if (!openDurationElapsed()) {
+                    return false;
+                }
+                state = State.HALF_OPEN;
+                probeInFlight = true;
+                return true;
+            default:
+                if (probeInFlight) {
+                    return false;
+                }
+                probeInFlight = true;
+                return true;
+        }
+    }
+
+    synchronized void recordSuccess() {
+        state = State.CLOSED;
+        consecutiveFailures = 0;
+        probeInFlight = false;
+    }
+
+    synchronized void recordFailure() {
+        consecutiveFailures++;
+        probeInFlight = false;
+        if (state == State.HALF_OPEN || consecutiveFailures >= config.failureThreshold()) {
+            state = State.OPEN;
+            openedAtMillis = clock.millis();
+        }
+    }
+
+    /**
+     * Records a request that ended without telling anything about the host, such as a cancelled call.
+     */
+    synchronized void recordIgnored() {
+        probeInFlight = false;
+    }
+
+    private boolean openDurationElapsed() {
+        return clock.millis() - openedAtMillis >= config.openDuration().toMillis();
+    }
+}
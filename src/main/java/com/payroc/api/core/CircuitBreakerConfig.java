@@ -0,0 +1,76 @@
+package com.payroc.api.core;
+
+import java.time.Duration;
+
+/**
+ * Configuration for the per-host circuit breaker.
+ *
+ * <p>After {@code failureThreshold} consecutive failures (network errors or 5XX responses) to a host, the breaker
+ * opens and requests to that host fail immediately with a {@link CircuitBreakerOpenException}. Once
+ * {@code openDuration} has passed, a single probe request is let through: if it succeeds the breaker closes,
+ * otherwise it opens again.
+ * <pre>{@code
+ * CircuitBreakerConfig config = CircuitBreakerConfig.builder()
+ *     .failureThreshold(5)
+ *     .openDuration(Duration.ofSeconds(30))
+ *     .build();
+ * }</pre>
+ *
+ * <p>Defaults:
+ * <ul>
+ *   <li>{@code failureThreshold} — {@code 5}</li>
+ *   <li>{@code openDuration} — 30 seconds</li>
+ * </ul>
+ */
+public final class CircuitBreakerConfig {
+
+    private final int failureThreshold;
+    private final Duration openDuration;
+
+    private CircuitBreakerConfig(int failureThreshold, Duration openDuration) {
+        this.failureThreshold = failureThreshold;
+        this.openDuration = openDuration;
+    }
+
+    public int failureThreshold() {
+        return failureThreshold;
+    }
+
+    public Duration openDuration() {
+        return openDuration;
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    public static final class Builder {
+        private int failureThreshold = 5;
+        private Duration openDuration = Duration.ofSeconds(30);
+
+        private Builder() {}
+
+        /**
+         * Set the number of consecutive failures that opens the breaker. Defaults to {@code 5}.
+         */
+        public Builder failureThreshold(int failureThreshold) {
+            if (failureThreshold < 1) {
+                throw new IllegalArgumentException("failureThreshold must be at least 1");
+            }
+            this.failureThreshold = failureThreshold;
+            return this;
+        }
+
+        /**
+         * Set how long the breaker stays open before a probe request is let through. Defaults to 30 seconds.
+         */
+        public Builder openDuration(Duration openDuration) {
+            this.openDuration = openDuration;
+            return this;
+        }
+
+        public CircuitBreakerConfig build() {
+            return new CircuitBreakerConfig(failureThreshold, openDuration);
+        }
+    }
+}
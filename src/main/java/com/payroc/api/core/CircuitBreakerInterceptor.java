@@ -0,0 +1,66 @@
+package com.payroc.api.core;
+
+import java.io.IOException;
+import java.time.Clock;
+import java.util.Collections;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import okhttp3.Interceptor;
+import okhttp3.Response;
+
+/**
+ * Keeps a {@link CircuitBreaker} per host and rejects requests to hosts whose breaker is open.
+ *
+ * <p>It sits inside the {@link RetryInterceptor}, so every attempt, including retries, is counted. Network errors
+ * and 5XX responses count as failures; cancelled calls are not counted.
+ */
+public final class CircuitBreakerInterceptor implements Interceptor {
+    private final CircuitBreakerConfig config;
+
+    private final Clock clock;
+
+    private final ConcurrentMap<String, CircuitBreaker> breakers = new ConcurrentHashMap<>();
+
+    public CircuitBreakerInterceptor(CircuitBreakerConfig config) {
+        this(config, Clock.systemUTC());
+    }
+
+    CircuitBreakerInterceptor(CircuitBreakerConfig config, Clock clock) {
+        this.config = config;
+        this.clock = clock;
+    }
+
+    /**
+     * Returns the breaker of every host called so far, keyed by host name.
+     */
+    public Map<String, CircuitBreaker> circuitBreakers() {
+        return Collections.unmodifiableMap(breakers);
+    }
+
+    @Override
+    public Response intercept(Chain chain) throws IOException {
+        String host = chain.request().url().host();
+        CircuitBreaker breaker = breakers.computeIfAbsent(host, ignored -> new CircuitBreaker(config, clock));
+        if (!breaker.tryAcquire()) {
+            throw new CircuitBreakerOpenException(host);
+        }
+        Response response;
+        try {
+            response = chain.proceed(chain.request());
+        } catch (IOException | RuntimeException e) {
+            if (chain.call().isCanceled()) {
+                breaker.recordIgnored();
+            } else {
+                breaker.recordFailure();
+            }
+            throw e;
+        }
+        if (response.code() >= 500) {
+            breaker.recordFailure();
+        } else {
+            breaker.recordSuccess();
+        }
+        return response;
+    }
+}
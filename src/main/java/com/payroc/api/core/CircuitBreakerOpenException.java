@@ -0,0 +1,19 @@
+package com.payroc.api.core;
+
+import java.io.IOException;
+
+/**
+ * Thrown when a request is rejected without being sent because the circuit breaker for its host is open.
+ */
+public class CircuitBreakerOpenException extends IOException {
+    private final String host;
+
+    public CircuitBreakerOpenException(String host) {
+        super("Circuit breaker is open for host " + host);
+        this.host = host;
+    }
+
+    public String getHost() {
+        return host;
+    }
+}
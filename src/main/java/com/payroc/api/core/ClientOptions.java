@@ -3,18 +3,30 @@
  */
 package com.payroc.api.core;
 
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 import java.util.concurrent.TimeUnit;
 import java.util.function.Supplier;
+import okhttp3.Headers;
 import okhttp3.OkHttpClient;
 
 public final class ClientOptions {
+    /**
+     * Upper bound on the number of distinct per-request timeouts for which a derived client is kept.
+     */
+    private static final int MAX_CACHED_TIMEOUT_CLIENTS = 16;
+
     private final Environment environment;
 
     private final Map<String, String> headers;
 
+    private final Headers staticHeaders;
+
     private final Map<String, Supplier<String>> headerSuppliers;
 
     private final OkHttpClient httpClient;
@@ -25,6 +37,20 @@ public final class ClientOptions {
 
     private final Optional<LogConfig> logging;
 
+    private final boolean streamRequestBodies;
+
+    private final Optional<RateLimitConfig> rateLimiting;
+
+    private final Optional<RetryBudgetConfig> retryBudget;
+
+    private final Optional<CircuitBreakerConfig> circuitBreaker;
+
+    private final Optional<HedgingConfig> hedging;
+
+    private final Supplier<String> idempotencyKeyGenerator;
+
+    private final ConcurrentMap<Long, OkHttpClient> httpClientsByTimeout = new ConcurrentHashMap<>();
+
     private ClientOptions(
             Environment environment,
             Map<String, String> headers,
@@ -32,7 +58,13 @@ public final class ClientOptions {
             OkHttpClient httpClient,
             int timeout,
             int maxRetries,
-            Optional<LogConfig> logging) {
+            Optional<LogConfig> logging,
+            boolean streamRequestBodies,
+            Optional<RateLimitConfig> rateLimiting,
+            Optional<RetryBudgetConfig> retryBudget,
+            Optional<CircuitBreakerConfig> circuitBreaker,
+            Optional<HedgingConfig> hedging,
+            Supplier<String> idempotencyKeyGenerator) {
         this.environment = environment;
         this.headers = new HashMap<>();
         this.headers.putAll(headers);
@@ -43,11 +75,18 @@ public final class ClientOptions {
                 put("X-Fern-SDK-Version", "0.0.1447");
             }
         });
+        this.staticHeaders = Headers.of(this.headers);
         this.headerSuppliers = headerSuppliers;
         this.httpClient = httpClient;
         this.timeout = timeout;
         this.maxRetries = maxRetries;
         this.logging = logging;
+        this.streamRequestBodies = streamRequestBodies;
+        this.rateLimiting = rateLimiting;
+        this.retryBudget = retryBudget;
+        this.circuitBreaker = circuitBreaker;
+        this.hedging = hedging;
+        this.idempotencyKeyGenerator = idempotencyKeyGenerator;
     }
 
     public Environment environment() {
@@ -65,6 +104,23 @@ public final class ClientOptions {
         return values;
     }
 
+    /**
+     * Returns the headers to send with a request. The static headers are built once; only header suppliers
+     * and request-specific headers are applied per call.
+     */
+    public Headers httpHeaders(RequestOptions requestOptions) {
+        boolean hasRequestHeaders = requestOptions != null && requestOptions.hasHeaders();
+        if (headerSuppliers.isEmpty() && !hasRequestHeaders) {
+            return this.staticHeaders;
+        }
+        Headers.Builder builder = this.staticHeaders.newBuilder();
+        headerSuppliers.forEach((key, supplier) -> builder.set(key, supplier.get()));
+        if (hasRequestHeaders) {
+            requestOptions.setHeaders(builder);
+        }
+        return builder.build();
+    }
+
     public int timeout(RequestOptions requestOptions) {
         if (requestOptions == null) {
             return this.timeout;
@@ -76,13 +132,33 @@ public final class ClientOptions {
         return this.httpClient;
     }
 
+    /**
+     * Returns a client that applies the request's timeout as its call timeout. Clients are derived from
+     * {@link #httpClient()} once per distinct timeout and reused, so they share its connection pool and dispatcher.
+     */
     public OkHttpClient httpClientWithTimeout(RequestOptions requestOptions) {
-        if (requestOptions == null) {
+        if (requestOptions == null || !requestOptions.getTimeout().isPresent()) {
             return this.httpClient;
         }
+        long timeoutNanos = requestOptions
+                .getTimeoutTimeUnit()
+                .toNanos(requestOptions.getTimeout().get());
+        OkHttpClient cached = httpClientsByTimeout.get(timeoutNanos);
+        if (cached != null) {
+            return cached;
+        }
+        OkHttpClient client = buildHttpClientWithTimeout(timeoutNanos);
+        if (httpClientsByTimeout.size() >= MAX_CACHED_TIMEOUT_CLIENTS) {
+            return client;
+        }
+        cached = httpClientsByTimeout.putIfAbsent(timeoutNanos, client);
+        return cached != null ? cached : client;
+    }
+
+    private OkHttpClient buildHttpClientWithTimeout(long timeoutNanos) {
         return this.httpClient
                 .newBuilder()
-                .callTimeout(requestOptions.getTimeout().get(), requestOptions.getTimeoutTimeUnit())
+                .callTimeout(timeoutNanos, TimeUnit.NANOSECONDS)
                 .connectTimeout(0, TimeUnit.SECONDS)
                 .writeTimeout(0, TimeUnit.SECONDS)
                 .readTimeout(0, TimeUnit.SECONDS)
@@ -97,10 +173,77 @@ public final class ClientOptions {
         return this.logging;
     }
 
+    /**
+     * Returns true if JSON request bodies are serialized while they are sent, with chunked transfer encoding,
+     * rather than up front with a known content length.
+     */
+    public boolean streamRequestBodies() {
+        return this.streamRequestBodies;
+    }
+
+    public Optional<RateLimitConfig> rateLimiting() {
+        return this.rateLimiting;
+    }
+
+    public Optional<RetryBudgetConfig> retryBudget() {
+        return this.retryBudget;
+    }
+
+    public Optional<CircuitBreakerConfig> circuitBreaker() {
+        return this.circuitBreaker;
+    }
+
+    public Optional<HedgingConfig> hedging() {
+        return this.hedging;
+    }
+
+    public Supplier<String> idempotencyKeyGenerator() {
+        return this.idempotencyKeyGenerator;
+    }
+
+    /**
+     * Returns the idempotency key to send with a request: the caller's key, or a generated one if the caller's
+     * key is empty. The key is part of the request, so every retry of the request sends the same key.
+     */
+    public String idempotencyKey(String idempotencyKey) {
+        if (idempotencyKey != null && !idempotencyKey.trim().isEmpty()) {
+            return idempotencyKey;
+        }
+        return this.idempotencyKeyGenerator.get();
+    }
+
+    /**
+     * Returns the live retry budget shared by this client's requests, if one is installed.
+     */
+    public Optional<RetryBudget> retryBudgetState() {
+        return HttpCalls.find(this.httpClient, RetryInterceptor.class).flatMap(RetryInterceptor::retryBudget);
+    }
+
+    /**
+     * Returns the circuit breaker of every host this client has called, keyed by host name. Empty when circuit
+     * breaking is not installed.
+     */
+    public Map<String, CircuitBreaker> circuitBreakers() {
+        return HttpCalls.find(this.httpClient, CircuitBreakerInterceptor.class)
+                .map(CircuitBreakerInterceptor::circuitBreakers)
+                .orElse(Collections.emptyMap());
+    }
+
+    /**
+     * Returns the live budget of hedged GET requests, if hedging is installed.
+     */
+    public Optional<RetryBudget> hedgingBudget() {
+        return HttpCalls.find(this.httpClient, HedgingInterceptor.class).map(HedgingInterceptor::hedgingBudget);
+    }
+
     public static Builder builder() {
         return new Builder();
     }
 
+    private static String randomIdempotencyKey() {
+        return UUID.randomUUID().toString();
+    }
+
     public static class Builder {
         private Environment environment;
 
@@ -116,6 +259,18 @@ public final class ClientOptions {
 
         private Optional<LogConfig> logging = Optional.empty();
 
+        private boolean streamRequestBodies = false;
+
+        private Optional<RateLimitConfig> rateLimiting = Optional.empty();
+
+        private Optional<RetryBudgetConfig> retryBudget = Optional.empty();
+
+        private Optional<CircuitBreakerConfig> circuitBreaker = Optional.empty();
+
+        private Optional<HedgingConfig> hedging = Optional.empty();
+
+        private Supplier<String> idempotencyKeyGenerator = ClientOptions::randomIdempotencyKey;
+
         public Builder environment(Environment environment) {
             this.environment = environment;
             return this;
@@ -168,6 +323,61 @@ public final class ClientOptions {
             return this;
         }
 
+        /**
+         * Serialize JSON request bodies while they are sent instead of up front. Streaming avoids holding large
+         * payloads in memory, but the body has no known length and is sent with chunked transfer encoding.
+         * Disabled by default.
+         */
+        public Builder streamRequestBodies(boolean streamRequestBodies) {
+            this.streamRequestBodies = streamRequestBodies;
+            return this;
+        }
+
+        /**
+         * Pace requests using the rate-limit headers of earlier responses. Disabled by default. Like retries, this
+         * applies only when the SDK creates the HTTP client.
+         */
+        public Builder rateLimiting(RateLimitConfig rateLimiting) {
+            this.rateLimiting = Optional.of(rateLimiting);
+            return this;
+        }
+
+        /**
+         * Cap retries at a fraction of recent requests. Disabled by default. Like retries, this applies only when
+         * the SDK creates the HTTP client.
+         */
+        public Builder retryBudget(RetryBudgetConfig retryBudget) {
+            this.retryBudget = Optional.of(retryBudget);
+            return this;
+        }
+
+        /**
+         * Reject requests to a host without sending them after repeated failures. Disabled by default. Like
+         * retries, this applies only when the SDK creates the HTTP client.
+         */
+        public Builder circuitBreaker(CircuitBreakerConfig circuitBreaker) {
+            this.circuitBreaker = Optional.of(circuitBreaker);
+            return this;
+        }
+
+        /**
+         * Hedge slow GET requests by sending a second identical request and using the first answer. Disabled by
+         * default. Like retries, this applies only when the SDK creates the HTTP client.
+         */
+        public Builder hedging(HedgingConfig hedging) {
+            this.hedging = Optional.of(hedging);
+            return this;
+        }
+
+        /**
+         * Override how idempotency keys are generated for requests whose key is left empty. Defaults to random
+         * UUIDs.
+         */
+        public Builder idempotencyKeyGenerator(Supplier<String> idempotencyKeyGenerator) {
+            this.idempotencyKeyGenerator = idempotencyKeyGenerator;
+            return this;
+        }
+
         public ClientOptions build() {
             OkHttpClient.Builder httpClientBuilder =
                     this.httpClient != null ? this.httpClient.newBuilder() : new OkHttpClient.Builder();
@@ -184,7 +394,11 @@ public final class ClientOptions {
                         .connectTimeout(0, TimeUnit.SECONDS)
                         .writeTimeout(0, TimeUnit.SECONDS)
                         .readTimeout(0, TimeUnit.SECONDS)
-                        .addInterceptor(new RetryInterceptor(this.maxRetries));
+                        .addInterceptor(new RetryInterceptor(this.maxRetries, this.retryBudget.map(RetryBudget::new)));
+                circuitBreaker.ifPresent(
+                        config -> httpClientBuilder.addInterceptor(new CircuitBreakerInterceptor(config)));
+                rateLimiting.ifPresent(config -> httpClientBuilder.addInterceptor(new RateLimitInterceptor(config)));
+                hedging.ifPresent(config -> httpClientBuilder.addInterceptor(new HedgingInterceptor(config)));
             }
 
             Logger logger = Logger.from(this.logging);
@@ -200,7 +414,13 @@ public final class ClientOptions {
                     httpClient,
                     this.timeout.get(),
                     this.maxRetries,
-                    this.logging);
+                    this.logging,
+                    this.streamRequestBodies,
+                    this.rateLimiting,
+                    this.retryBudget,
+                    this.circuitBreaker,
+                    this.hedging,
+                    this.idempotencyKeyGenerator);
         }
 
         /**
@@ -215,6 +435,12 @@ public final class ClientOptions {
             builder.headerSuppliers.putAll(clientOptions.headerSuppliers);
             builder.maxRetries = clientOptions.maxRetries();
             builder.logging = clientOptions.logging();
+            builder.streamRequestBodies = clientOptions.streamRequestBodies();
+            builder.rateLimiting = clientOptions.rateLimiting();
+            builder.retryBudget = clientOptions.retryBudget();
+            builder.circuitBreaker = clientOptions.circuitBreaker();
+            builder.hedging = clientOptions.hedging();
+            builder.idempotencyKeyGenerator = clientOptions.idempotencyKeyGenerator();
             return builder;
         }
     }
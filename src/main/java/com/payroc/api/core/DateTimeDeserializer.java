@@ -9,6 +9,7 @@ import com.fasterxml.jackson.databind.DeserializationContext;
 import com.fasterxml.jackson.databind.JsonDeserializer;
 import com.fasterxml.jackson.databind.module.SimpleModule;
 import java.io.IOException;
+import java.time.DateTimeException;
 import java.time.Instant;
 import java.time.LocalDateTime;
 import java.time.OffsetDateTime;
@@ -42,8 +43,14 @@ class DateTimeDeserializer extends JsonDeserializer<OffsetDateTime> {
         if (token == JsonToken.VALUE_NUMBER_INT) {
             return OffsetDateTime.ofInstant(Instant.ofEpochSecond(parser.getValueAsLong()), ZoneOffset.UTC);
         } else {
-            TemporalAccessor temporal = DateTimeFormatter.ISO_DATE_TIME.parseBest(
-                    parser.getValueAsString(), OffsetDateTime::from, LocalDateTime::from);
+            String text = parser.getValueAsString();
+            OffsetDateTime fixedWidth = parseFixedWidth(text);
+            if (fixedWidth != null) {
+                return fixedWidth;
+            }
+
+            TemporalAccessor temporal =
+                    DateTimeFormatter.ISO_DATE_TIME.parseBest(text, OffsetDateTime::from, LocalDateTime::from);
 
             if (temporal.query(TemporalQueries.offset()) == null) {
                 return LocalDateTime.from(temporal).atOffset(ZoneOffset.UTC);
@@ -52,4 +59,90 @@ class DateTimeDeserializer extends JsonDeserializer<OffsetDateTime> {
             }
         }
     }
+
+    /**
+     * Parses the common {@code yyyy-MM-ddTHH:mm:ss[.fraction][Z|+HH:MM]} form without going through
+     * {@link DateTimeFormatter}. A missing offset means UTC, as in the general path.
+     *
+     * @return The parsed value, or null if the text has any other shape and must be parsed by the general parser
+     */
+    static OffsetDateTime parseFixedWidth(String text) {
+        int length = text == null ? 0 : text.length();
+        if (length < 19
+                || text.charAt(4) != '-'
+                || text.charAt(7) != '-'
+                || text.charAt(10) != 'T'
+                || text.charAt(13) != ':'
+                || text.charAt(16) != ':') {
+            return null;
+        }
+        int year = digits(text, 0, 4);
+        int month = digits(text, 5, 2);
+        int day = digits(text, 8, 2);
+        int hour = digits(text, 11, 2);
+        int minute = digits(text, 14, 2);
+        int second = digits(text, 17, 2);
+        if (year < 0 || month < 0 || day < 0 || hour < 0 || minute < 0 || second < 0) {
+            return null;
+        }
+
+        int index = 19;
+        int nano = 0;
+        if (index < length && text.charAt(index) == '.') {
+            int start = ++index;
+            while (index < length && index - start < 9 && isDigit(text.charAt(index))) {
+                nano = nano * 10 + (text.charAt(index) - '0');
+                index++;
+            }
+            if (index == start) {
+                return null;
+            }
+            for (int i = index - start; i < 9; i++) {
+                nano *= 10;
+            }
+        }
+
+        int offsetSeconds;
+        if (index == length || (index + 1 == length && text.charAt(index) == 'Z')) {
+            offsetSeconds = 0;
+        } else if (index + 6 == length
+                && (text.charAt(index) == '+' || text.charAt(index) == '-')
+                && text.charAt(index + 3) == ':') {
+            int offsetHours = digits(text, index + 1, 2);
+            int offsetMinutes = digits(text, index + 4, 2);
+            if (offsetHours < 0 || offsetMinutes < 0 || offsetMinutes > 59) {
+                return null;
+            }
+            offsetSeconds = offsetHours * 3600 + offsetMinutes * 60;
+            if (text.charAt(index) == '-') {
+                offsetSeconds = -offsetSeconds;
+            }
+        } else {
+            return null;
+        }
+
+        try {
+            return OffsetDateTime.of(
+                    year, month, day, hour, minute, second, nano, ZoneOffset.ofTotalSeconds(offsetSeconds));
+        } catch (DateTimeException e) {
+            // Out-of-range fields are reported by the general parser
+            return null;
+        }
+    }
+
+    private static int digits(String text, int offset, int count) {
+        int value = 0;
+        for (int i = offset; i < offset + count; i++) {
+            char c = text.charAt(i);
+            if (!isDigit(c)) {
+                return -1;
+            }
+            value = value * 10 + (c - '0');
+        }
+        return value;
+    }
+
+    private static boolean isDigit(char c) {
+        return c >= '0' && c <= '9';
+    }
 }
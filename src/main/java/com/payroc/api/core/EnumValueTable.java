@@ -0,0 +1,129 @@
+package com.payroc.api.core;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.deser.std.StdDeserializer;
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Function;
+
+/**
+ * Immutable lookup table from wire strings to the constants of a forward-compatible enum.
+ *
+ * <p>Known values are found with an open-addressing hash table that can be probed either with a
+ * {@link String} or with a region of a character buffer, so a JSON string can be decoded without allocating a
+ * String for it. Unknown values are created on demand and kept in a small bounded cache, so a repeated unknown
+ * value maps to a single instance.
+ */
+public final class EnumValueTable<T> {
+    private static final int MAX_CACHED_UNKNOWN_VALUES = 64;
+
+    private final String[] keys;
+
+    private final Object[] values;
+
+    private final int mask;
+
+    private final Function<String, T> unknownFactory;
+
+    private final ConcurrentMap<String, T> unknownValues = new ConcurrentHashMap<>();
+
+    /**
+     * @param knownValues The enum's constants
+     * @param toWireValue Returns the wire string of a constant
+     * @param unknownFactory Creates the instance that represents an unknown wire string
+     */
+    public EnumValueTable(List<T> knownValues, Function<T, String> toWireValue, Function<String, T> unknownFactory) {
+        int capacity = Integer.highestOneBit(Math.max(knownValues.size(), 1) * 2 - 1) << 1;
+        this.keys = new String[capacity];
+        this.values = new Object[capacity];
+        this.mask = capacity - 1;
+        this.unknownFactory = unknownFactory;
+        for (T value : knownValues) {
+            String key = toWireValue.apply(value);
+            int index = key.hashCode() & mask;
+            while (keys[index] != null) {
+                index = (index + 1) & mask;
+            }
+            keys[index] = key;
+            values[index] = value;
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    public T get(String value) {
+        for (int index = value.hashCode() & mask; keys[index] != null; index = (index + 1) & mask) {
+            if (keys[index].equals(value)) {
+                return (T) values[index];
+            }
+        }
+        return unknown(value);
+    }
+
+    @SuppressWarnings("unchecked")
+    public T get(char[] buffer, int offset, int length) {
+        // Same hash as String.hashCode, so keys inserted by String are found by characters
+        int hash = 0;
+        for (int i = offset; i < offset + length; i++) {
+            hash = 31 * hash + buffer[i];
+        }
+        for (int index = hash & mask; keys[index] != null; index = (index + 1) & mask) {
+            if (regionEquals(keys[index], buffer, offset, length)) {
+                return (T) values[index];
+            }
+        }
+        return unknown(new String(buffer, offset, length));
+    }
+
+    private T unknown(String value) {
+        T cached = unknownValues.get(value);
+        if (cached != null) {
+            return cached;
+        }
+        T created = unknownFactory.apply(value);
+        if (unknownValues.size() >= MAX_CACHED_UNKNOWN_VALUES) {
+            return created;
+        }
+        cached = unknownValues.putIfAbsent(value, created);
+        return cached != null ? cached : created;
+    }
+
+    private static boolean regionEquals(String key, char[] buffer, int offset, int length) {
+        if (key.length() != length) {
+            return false;
+        }
+        for (int i = 0; i < length; i++) {
+            if (key.charAt(i) != buffer[offset + i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Deserializes a JSON string through an {@link EnumValueTable}, reading the parser's character buffer directly.
+     */
+    public static class Deserializer<T> extends StdDeserializer<T> {
+        private final EnumValueTable<T> table;
+
+        protected Deserializer(Class<T> valueClass, EnumValueTable<T> table) {
+            super(valueClass);
+            this.table = table;
+        }
+
+        @java.lang.Override
+        @SuppressWarnings("unchecked")
+        public T deserialize(JsonParser p, DeserializationContext context) throws IOException {
+            if (p.hasToken(JsonToken.VALUE_STRING)) {
+                return table.get(p.getTextCharacters(), p.getTextOffset(), p.getTextLength());
+            }
+            if (p.currentToken() != null && p.currentToken().isScalarValue()) {
+                return table.get(p.getText());
+            }
+            return (T) context.handleUnexpectedToken(handledType(), p);
+        }
+    }
+}
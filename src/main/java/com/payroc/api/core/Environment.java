@@ -3,6 +3,8 @@
  */
 package com.payroc.api.core;
 
+import okhttp3.HttpUrl;
+
 public final class Environment {
     public static final Environment PRODUCTION =
             new Environment("https://api.payroc.com/v1", "https://identity.payroc.com");
@@ -14,9 +16,15 @@ public final class Environment {
 
     private final String identity;
 
+    private final HttpUrl apiHttpUrl;
+
+    private final HttpUrl identityHttpUrl;
+
     Environment(String api, String identity) {
         this.api = api;
         this.identity = identity;
+        this.apiHttpUrl = api != null ? HttpUrl.parse(api) : null;
+        this.identityHttpUrl = identity != null ? HttpUrl.parse(identity) : null;
     }
 
     public String getApiURL() {
@@ -27,6 +35,27 @@ public final class Environment {
         return this.identity;
     }
 
+    /**
+     * Returns the API base URL, parsed once when the environment is created.
+     */
+    public HttpUrl getApiHttpUrl() {
+        return requireHttpUrl(this.apiHttpUrl, "api", this.api);
+    }
+
+    /**
+     * Returns the identity base URL, parsed once when the environment is created.
+     */
+    public HttpUrl getIdentityHttpUrl() {
+        return requireHttpUrl(this.identityHttpUrl, "identity", this.identity);
+    }
+
+    private static HttpUrl requireHttpUrl(HttpUrl httpUrl, String name, String url) {
+        if (httpUrl == null) {
+            throw new IllegalStateException("Environment " + name + " URL is not a valid HTTP URL: " + url);
+        }
+        return httpUrl;
+    }
+
     public static Builder custom() {
         return new Builder();
     }
@@ -0,0 +1,114 @@
+package com.payroc.api.core;
+
+import java.time.Duration;
+
+/**
+ * Configuration for hedged GET requests.
+ *
+ * <p>When a GET request has not answered within the hedge delay, a second identical request is sent and whichever
+ * answers first is used; the other is cancelled. The delay is the {@code percentile} of recent GET latencies,
+ * kept between {@code minDelay} and {@code maxDelay}, so only the slowest requests are hedged. Until enough
+ * latencies have been seen, {@code maxDelay} is used. Hedges take tokens from {@code budget}, which caps them at a
+ * fraction of recent GET requests.
+ * <pre>{@code
+ * HedgingConfig config = HedgingConfig.builder()
+ *     .percentile(0.95)
+ *     .maxDelay(Duration.ofMillis(500))
+ *     .build();
+ * }</pre>
+ *
+ * <p>Defaults:
+ * <ul>
+ *   <li>{@code percentile} — {@code 0.95}</li>
+ *   <li>{@code minDelay} — 10 milliseconds</li>
+ *   <li>{@code maxDelay} — 1 second</li>
+ *   <li>{@code budget} — a ratio of {@code 0.05} with {@code minRetries} of {@code 1} over 10 seconds</li>
+ * </ul>
+ */
+public final class HedgingConfig {
+
+    private final double percentile;
+    private final Duration minDelay;
+    private final Duration maxDelay;
+    private final RetryBudgetConfig budget;
+
+    private HedgingConfig(double percentile, Duration minDelay, Duration maxDelay, RetryBudgetConfig budget) {
+        this.percentile = percentile;
+        this.minDelay = minDelay;
+        this.maxDelay = maxDelay;
+        this.budget = budget;
+    }
+
+    public double percentile() {
+        return percentile;
+    }
+
+    public Duration minDelay() {
+        return minDelay;
+    }
+
+    public Duration maxDelay() {
+        return maxDelay;
+    }
+
+    public RetryBudgetConfig budget() {
+        return budget;
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    public static final class Builder {
+        private double percentile = 0.95;
+        private Duration minDelay = Duration.ofMillis(10);
+        private Duration maxDelay = Duration.ofSeconds(1);
+        private RetryBudgetConfig budget =
+                RetryBudgetConfig.builder().ratio(0.05).minRetries(1).build();
+
+        private Builder() {}
+
+        /**
+         * Set the latency percentile, between 0 and 1, after which a request is hedged. Defaults to {@code 0.95}.
+         */
+        public Builder percentile(double percentile) {
+            if (percentile <= 0 || percentile > 1) {
+                throw new IllegalArgumentException("percentile must be greater than 0 and at most 1");
+            }
+            this.percentile = percentile;
+            return this;
+        }
+
+        /**
+         * Set the shortest hedge delay. Defaults to 10 milliseconds.
+         */
+        public Builder minDelay(Duration minDelay) {
+            this.minDelay = minDelay;
+            return this;
+        }
+
+        /**
+         * Set the longest hedge delay, also used until enough latencies have been seen. Defaults to 1 second.
+         */
+        public Builder maxDelay(Duration maxDelay) {
+            this.maxDelay = maxDelay;
+            return this;
+        }
+
+        /**
+         * Set the budget that caps hedges at a fraction of recent GET requests. Defaults to 5% of requests, with at
+         * least one hedge per 10 seconds.
+         */
+        public Builder budget(RetryBudgetConfig budget) {
+            this.budget = budget;
+            return this;
+        }
+
+        public HedgingConfig build() {
+            if (minDelay.compareTo(maxDelay) > 0) {
+                throw new IllegalArgumentException("minDelay must not be longer than maxDelay");
+            }
+            return new HedgingConfig(percentile, minDelay, maxDelay, budget);
+        }
+    }
+}
@@ -0,0 +1,99 @@
+package com.payroc.api.core;
+
+import java.io.IOException;
+import java.time.Clock;
+import java.util.Arrays;
+import okhttp3.Interceptor;
+import okhttp3.Request;
+import okhttp3.Response;
+
+/**
+ * Holds the latency samples and the budget for hedging GET requests.
+ *
+ * <p>The interceptor passes requests through unchanged; it is installed so that {@link HttpCalls} can find the
+ * hedging policy of a client. {@link HttpCalls} races each GET against a hedge sent after
+ * {@link #hedgeDelayMillis()}, as long as the budget allows, and records how long each race took to answer,
+ * measured from its start. Measuring the race rather than each call keeps a winning hedge, whose call started
+ * late, and a cancelled primary, which never answers, from pulling the percentile down.
+ */
+public final class HedgingInterceptor implements Interceptor {
+    private static final int SAMPLE_SIZE = 128;
+
+    /**
+     * Latencies needed before the percentile is trusted over the maximum delay.
+     */
+    private static final int MIN_SAMPLES = 20;
+
+    private final HedgingConfig config;
+
+    private final RetryBudget budget;
+
+    private final long[] latencies = new long[SAMPLE_SIZE];
+
+    private int sampleCount = 0;
+
+    private int nextSample = 0;
+
+    public HedgingInterceptor(HedgingConfig config) {
+        this(config, Clock.systemUTC());
+    }
+
+    HedgingInterceptor(HedgingConfig config, Clock clock) {
+        this.config = config;
+        this.budget = new RetryBudget(config.budget(), clock);
+    }
+
+    /**
+     * Returns the budget hedges are taken from. Its retries are the hedges sent.
+     */
+    public RetryBudget hedgingBudget() {
+        return budget;
+    }
+
+    @Override
+    public Response intercept(Chain chain) throws IOException {
+        return chain.proceed(chain.request());
+    }
+
+    /**
+     * Returns how long to wait for an answer, in milliseconds, before sending a hedge.
+     */
+    long hedgeDelayMillis() {
+        long minDelay = config.minDelay().toMillis();
+        long maxDelay = config.maxDelay().toMillis();
+        long[] sorted;
+        synchronized (this) {
+            if (sampleCount < MIN_SAMPLES) {
+                return maxDelay;
+            }
+            sorted = Arrays.copyOf(latencies, sampleCount);
+        }
+        Arrays.sort(sorted);
+        int index = (int) Math.ceil(config.percentile() * sorted.length) - 1;
+        return Math.min(maxDelay, Math.max(minDelay, sorted[Math.max(0, index)]));
+    }
+
+    void recordRequest() {
+        budget.recordRequest();
+    }
+
+    /**
+     * Takes a token for one hedge, or returns false if the budget is spent.
+     */
+    boolean tryAcquireHedge() {
+        return budget.tryAcquireRetry();
+    }
+
+    synchronized void recordLatency(long latencyMillis) {
+        latencies[nextSample] = latencyMillis;
+        nextSample = (nextSample + 1) % SAMPLE_SIZE;
+        sampleCount = Math.min(sampleCount + 1, SAMPLE_SIZE);
+    }
+
+    /**
+     * Only GET requests are hedged, since sending them twice is always safe.
+     */
+    static boolean isHedgeable(Request request) {
+        return "GET".equals(request.method());
+    }
+}
@@ -0,0 +1,394 @@
+package com.payroc.api.core;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import okhttp3.Call;
+import okhttp3.Callback;
+import okhttp3.Interceptor;
+import okhttp3.OkHttpClient;
+import okhttp3.Request;
+import okhttp3.Response;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Issues HTTP calls for the clients.
+ *
+ * <p>When the client has a {@link RetryInterceptor}, a retryable response is not retried inside the interceptor
+ * chain, which would park an OkHttp dispatcher thread for the whole backoff. Instead the response is closed and
+ * a new call for the same request is enqueued once the backoff has elapsed, so no thread is held while a retry
+ * waits. Network failures of requests that carry an idempotency key are rescheduled the same way. The backoff
+ * and retry limit are the interceptor's. Likewise, when the client has a {@link RateLimitInterceptor}, a call that
+ * must be held back is enqueued only once its slot is due.
+ *
+ * <p>When the client has a {@link HedgingInterceptor}, each attempt of a GET request, synchronous or not, races
+ * against a hedge: if the attempt has not answered within the hedge delay, an identical request is sent, the first
+ * answer is used and the other call is cancelled. Retries apply to the outcome of the race.
+ */
+public final class HttpCalls {
+    private static final ScheduledExecutorService SCHEDULER = createScheduler();
+
+    private HttpCalls() {}
+
+    /**
+     * Executes the request on the calling thread, hedging it if the client hedges GET requests.
+     */
+    public static Response execute(OkHttpClient client, Request request) throws IOException {
+        return execute(client, request, call -> {});
+    }
+
+    /**
+     * Executes the request like {@link #execute(OkHttpClient, Request)}, handing each call to {@code onCall} before
+     * it is sent. Cancelling that call from another thread ends the request, together with any hedge racing it.
+     */
+    public static Response execute(OkHttpClient client, Request request, Consumer<Call> onCall) throws IOException {
+        Optional<HedgingInterceptor> hedging = findHedging(client, request);
+        if (!hedging.isPresent()) {
+            Call call = client.newCall(request);
+            onCall.accept(call);
+            return call.execute();
+        }
+        Optional<RetryInterceptor> retryInterceptor = find(client, RetryInterceptor.class);
+        Optional<RateLimitInterceptor> rateLimiter = find(client, RateLimitInterceptor.class);
+        Request scheduled = scheduled(request);
+        Optional<RetryInterceptor.ExponentialBackoff> backoff = retryInterceptor.map(RetryInterceptor::newBackoff);
+        long delayMillis = rateLimitDelay(rateLimiter, scheduled);
+        while (true) {
+            sleep(delayMillis);
+            CompletableFuture<Response> answer = new CompletableFuture<>();
+            Call call = client.newCall(scheduled);
+            onCall.accept(call);
+            HedgedCall race = new HedgedCall(client, call, hedging.get(), rateLimiter, new Callback() {
+                @Override
+                public void onResponse(@NotNull Call call, @NotNull Response response) {
+                    answer.complete(response);
+                }
+
+                @Override
+                public void onFailure(@NotNull Call call, @NotNull IOException e) {
+                    answer.completeExceptionally(e);
+                }
+            });
+            race.start();
+            try {
+                race.onResponse(call, call.execute());
+            } catch (IOException e) {
+                race.onFailure(call, e);
+            }
+
+            Optional<Duration> nextBackoff;
+            try {
+                Response response = await(answer, race);
+                if (!backoff.isPresent() || !RetryInterceptor.shouldRetry(response.code())) {
+                    return response;
+                }
+                nextBackoff = backoff.get().nextBackoff(response);
+                if (!nextBackoff.isPresent()) {
+                    return response;
+                }
+                response.close();
+            } catch (IOException e) {
+                nextBackoff = backoff.isPresent() && RetryInterceptor.shouldRetry(call, scheduled, e)
+                        ? backoff.get().nextBackoff(e)
+                        : Optional.empty();
+                if (!nextBackoff.isPresent()) {
+                    throw e;
+                }
+            }
+            delayMillis = Math.max(nextBackoff.get().toMillis(), rateLimitDelay(rateLimiter, scheduled));
+        }
+    }
+
+    /**
+     * Enqueues the request on the client, pacing, hedging and retrying it without blocking a thread.
+     */
+    public static void enqueue(OkHttpClient client, Request request, Callback callback) {
+        Optional<RetryInterceptor> retryInterceptor = find(client, RetryInterceptor.class);
+        Optional<RateLimitInterceptor> rateLimiter = find(client, RateLimitInterceptor.class);
+        Optional<HedgingInterceptor> hedging = findHedging(client, request);
+        if (!retryInterceptor.isPresent() && !rateLimiter.isPresent() && !hedging.isPresent()) {
+            client.newCall(request).enqueue(callback);
+            return;
+        }
+        Request scheduled = scheduled(request);
+        Callback scheduledCallback = retryInterceptor.isPresent()
+                ? new RetryingCallback(
+                        client, scheduled, callback, retryInterceptor.get().newBackoff(), rateLimiter, hedging)
+                : callback;
+        schedule(client, scheduled, scheduledCallback, rateLimitDelay(rateLimiter, scheduled), rateLimiter, hedging);
+    }
+
+    /**
+     * Returns the interceptor of the given type installed on the client, if any.
+     */
+    static <T extends Interceptor> Optional<T> find(OkHttpClient client, Class<T> type) {
+        for (Interceptor interceptor : client.interceptors()) {
+            if (type.isInstance(interceptor)) {
+                return Optional.of(type.cast(interceptor));
+            }
+        }
+        return Optional.empty();
+    }
+
+    private static Optional<HedgingInterceptor> findHedging(OkHttpClient client, Request request) {
+        return HedgingInterceptor.isHedgeable(request) ? find(client, HedgingInterceptor.class) : Optional.empty();
+    }
+
+    private static Request scheduled(Request request) {
+        return request.newBuilder().tag(Scheduled.class, Scheduled.INSTANCE).build();
+    }
+
+    private static long rateLimitDelay(Optional<RateLimitInterceptor> rateLimiter, Request request) {
+        return rateLimiter.isPresent() ? rateLimiter.get().reserve(request) : 0;
+    }
+
+    private static void schedule(
+            OkHttpClient client,
+            Request request,
+            Callback callback,
+            long delayMillis,
+            Optional<RateLimitInterceptor> rateLimiter,
+            Optional<HedgingInterceptor> hedging) {
+        Runnable send = () -> {
+            Call call = client.newCall(request);
+            if (hedging.isPresent()) {
+                HedgedCall race = new HedgedCall(client, call, hedging.get(), rateLimiter, callback);
+                race.start();
+                call.enqueue(race);
+            } else {
+                call.enqueue(callback);
+            }
+        };
+        if (delayMillis <= 0) {
+            send.run();
+            return;
+        }
+        SCHEDULER.schedule(send, delayMillis, TimeUnit.MILLISECONDS);
+    }
+
+    private static Response await(CompletableFuture<Response> answer, HedgedCall race) throws IOException {
+        try {
+            return answer.get();
+        } catch (InterruptedException e) {
+            race.cancel();
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Interrupted while waiting for a hedged request");
+        } catch (ExecutionException e) {
+            throw (IOException) e.getCause();
+        }
+    }
+
+    private static void sleep(long delayMillis) throws IOException {
+        if (delayMillis <= 0) {
+            return;
+        }
+        try {
+            Thread.sleep(delayMillis);
+        } catch (InterruptedException e) {
+            throw new IOException("Interrupted while trying request", e);
+        }
+    }
+
+    private static ScheduledExecutorService createScheduler() {
+        // The scheduler only enqueues calls, so a single thread is enough
+        ScheduledThreadPoolExecutor executor = new ScheduledThreadPoolExecutor(1, runnable -> {
+            Thread thread = new Thread(runnable, "payroc-call-scheduler");
+            thread.setDaemon(true);
+            return thread;
+        });
+        executor.setRemoveOnCancelPolicy(true);
+        return executor;
+    }
+
+    /**
+     * Request tag marking a request whose waits are scheduled here, so the interceptors must not wait for it.
+     */
+    static final class Scheduled {
+        static final Scheduled INSTANCE = new Scheduled();
+
+        private Scheduled() {}
+    }
+
+    private static final class RetryingCallback implements Callback {
+        private final OkHttpClient client;
+
+        private final Request request;
+
+        private final Callback delegate;
+
+        private final RetryInterceptor.ExponentialBackoff backoff;
+
+        private final Optional<RateLimitInterceptor> rateLimiter;
+
+        private final Optional<HedgingInterceptor> hedging;
+
+        private RetryingCallback(
+                OkHttpClient client,
+                Request request,
+                Callback delegate,
+                RetryInterceptor.ExponentialBackoff backoff,
+                Optional<RateLimitInterceptor> rateLimiter,
+                Optional<HedgingInterceptor> hedging) {
+            this.client = client;
+            this.request = request;
+            this.delegate = delegate;
+            this.backoff = backoff;
+            this.rateLimiter = rateLimiter;
+            this.hedging = hedging;
+        }
+
+        @Override
+        public void onResponse(@NotNull Call call, @NotNull Response response) throws IOException {
+            if (RetryInterceptor.shouldRetry(response.code())) {
+                Optional<Duration> nextBackoff = backoff.nextBackoff(response);
+                if (nextBackoff.isPresent()) {
+                    response.close();
+                    long delayMillis = Math.max(nextBackoff.get().toMillis(), rateLimitDelay(rateLimiter, request));
+                    schedule(client, request, this, delayMillis, rateLimiter, hedging);
+                    return;
+                }
+            }
+            delegate.onResponse(call, response);
+        }
+
+        @Override
+        public void onFailure(@NotNull Call call, @NotNull IOException e) {
+            if (RetryInterceptor.shouldRetry(call, request, e)) {
+                Optional<Duration> nextBackoff = backoff.nextBackoff(e);
+                if (nextBackoff.isPresent()) {
+                    long delayMillis = Math.max(nextBackoff.get().toMillis(), rateLimitDelay(rateLimiter, request));
+                    schedule(client, request, this, delayMillis, rateLimiter, hedging);
+                    return;
+                }
+            }
+            delegate.onFailure(call, e);
+        }
+    }
+
+    /**
+     * Races one call against a hedge sent after the hedge delay, and hands the first answer to the callback. The
+     * other call is cancelled. A failure is handed on only once neither call can still answer.
+     */
+    private static final class HedgedCall implements Callback {
+        private final OkHttpClient client;
+
+        private final Call primary;
+
+        private final HedgingInterceptor hedging;
+
+        private final Optional<RateLimitInterceptor> rateLimiter;
+
+        private final Callback delegate;
+
+        private ScheduledFuture<?> hedgeTask;
+
+        private long startNanos;
+
+        private Call hedge;
+
+        private int outstanding = 1;
+
+        private boolean done = false;
+
+        private HedgedCall(
+                OkHttpClient client,
+                Call primary,
+                HedgingInterceptor hedging,
+                Optional<RateLimitInterceptor> rateLimiter,
+                Callback delegate) {
+            this.client = client;
+            this.primary = primary;
+            this.hedging = hedging;
+            this.rateLimiter = rateLimiter;
+            this.delegate = delegate;
+        }
+
+        /**
+         * Schedules the hedge. The caller then sends the primary call with this as its callback.
+         */
+        void start() {
+            hedging.recordRequest();
+            synchronized (this) {
+                startNanos = System.nanoTime();
+                hedgeTask = SCHEDULER.schedule(this::sendHedge, hedging.hedgeDelayMillis(), TimeUnit.MILLISECONDS);
+            }
+        }
+
+        void cancel() {
+            Call loser;
+            synchronized (this) {
+                done = true;
+                hedgeTask.cancel(false);
+                loser = hedge;
+            }
+            primary.cancel();
+            if (loser != null) {
+                loser.cancel();
+            }
+        }
+
+        private synchronized void sendHedge() {
+            if (done) {
+                return;
+            }
+            // A hedge only adds load, so it is not sent while the rate limiter is holding requests back
+            if ((rateLimiter.isPresent() && rateLimiter.get().isPacing(primary.request()))
+                    || !hedging.tryAcquireHedge()) {
+                return;
+            }
+            outstanding++;
+            hedge = client.newCall(primary.request());
+            hedge.enqueue(this);
+        }
+
+        @Override
+        public void onResponse(@NotNull Call call, @NotNull Response response) throws IOException {
+            Call loser;
+            synchronized (this) {
+                if (done) {
+                    response.close();
+                    return;
+                }
+                done = true;
+                hedgeTask.cancel(false);
+                loser = call == primary ? hedge : primary;
+                hedging.recordLatency((System.nanoTime() - startNanos) / 1_000_000);
+            }
+            if (loser != null) {
+                loser.cancel();
+            }
+            delegate.onResponse(call, response);
+        }
+
+        @Override
+        public void onFailure(@NotNull Call call, @NotNull IOException e) {
+            Call other;
+            synchronized (this) {
+                outstanding--;
+                if (done) {
+                    return;
+                }
+                // The race cancels calls only once it is done, so a cancelled call was cancelled by the caller
+                if (outstanding > 0 && !call.isCanceled()) {
+                    // The other call may still answer
+                    return;
+                }
+                done = true;
+                hedgeTask.cancel(false);
+                other = call == primary ? hedge : primary;
+            }
+            if (other != null) {
+                other.cancel();
+            }
+            delegate.onFailure(call, e);
+        }
+    }
+}
@@ -6,48 +6,221 @@ package com.payroc.api.core;
 import com.payroc.api.resources.auth.AuthClient;
 import com.payroc.api.resources.auth.requests.RetrieveTokenAuthRequest;
 import com.payroc.api.resources.auth.types.GetTokenResponse;
+import java.time.Clock;
+import java.time.Duration;
 import java.time.Instant;
 import java.time.temporal.ChronoUnit;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.Supplier;
 
+/**
+ * Supplies the Authorization header for the API client, fetching and caching a token from the identity service.
+ *
+ * <p>Refreshes are single-flight: when the token has expired, one caller fetches a new token and every other
+ * concurrent caller waits on that same fetch. Shortly before the cached token reaches its expiry buffer, a refresh
+ * is started in the background while callers keep using the current token, so request threads normally never
+ * wait on the identity service. If a background refresh fails, the current token keeps being served and the next
+ * attempt is pushed back with exponential backoff, never past the token's expiry, so an identity outage does not
+ * turn every API request into a token request.
+ */
 public final class InferredAuthTokenSupplier implements Supplier<Map<String, String>> {
     private static final long BUFFER_IN_MINUTES = 2;
 
+    private static final long REFRESH_AHEAD_IN_SECONDS = 60;
+
+    private static final Duration INITIAL_REFRESH_BACKOFF = Duration.ofSeconds(1);
+
+    private static final Duration MAX_REFRESH_BACKOFF = Duration.ofSeconds(30);
+
+    private static final Executor BACKGROUND_REFRESH_EXECUTOR = createBackgroundRefreshExecutor();
+
     private final String apiKey;
 
-    private final AuthClient authClient;
+    private final Supplier<AuthClient> authClient;
 
-    private Map<String, String> cachedHeaders;
+    private final Clock clock;
 
-    private Instant expiresAt;
+    private final Logger logger;
+
+    private final AtomicReference<CompletableFuture<CachedToken>> inFlightRefresh = new AtomicReference<>();
+
+    private volatile CachedToken cachedToken;
 
     public InferredAuthTokenSupplier(String apiKey, AuthClient authClient) {
+        this(apiKey, () -> authClient, Clock.systemUTC(), Logger.getDefault());
+    }
+
+    /**
+     * Creates a supplier whose token client is only created when the first token is fetched.
+     */
+    public InferredAuthTokenSupplier(String apiKey, Supplier<AuthClient> authClient) {
+        this(apiKey, authClient, Logger.getDefault());
+    }
+
+    /**
+     * Creates a supplier whose token client is only created when the first token is fetched, and which reports
+     * failed background refreshes to the given logger.
+     */
+    public InferredAuthTokenSupplier(String apiKey, Supplier<AuthClient> authClient, Logger logger) {
+        this(apiKey, authClient, Clock.systemUTC(), logger);
+    }
+
+    InferredAuthTokenSupplier(String apiKey, AuthClient authClient, Clock clock) {
+        this(apiKey, () -> authClient, clock, Logger.getDefault());
+    }
+
+    InferredAuthTokenSupplier(String apiKey, Supplier<AuthClient> authClient, Clock clock, Logger logger) {
         this.apiKey = apiKey;
-        this.authClient = authClient;
-        this.expiresAt = Instant.now();
+        this.authClient = Suppliers.memoize(authClient);
+        this.clock = clock;
+        this.logger = logger;
     }
 
     private GetTokenResponse fetchToken() {
         RetrieveTokenAuthRequest getTokenRequest =
                 RetrieveTokenAuthRequest.builder().apiKey(apiKey).build();
-        return authClient.retrieveToken(getTokenRequest);
+        return authClient.get().retrieveToken(getTokenRequest);
     }
 
     @java.lang.Override
     public Map<String, String> get() {
-        if (cachedHeaders == null || expiresAt.isBefore(Instant.now())) {
-            GetTokenResponse tokenResponse = fetchToken();
-            Map<String, String> headers = new HashMap<>();
-            headers.put("Authorization", "Bearer " + tokenResponse.getAccessToken());
-            this.cachedHeaders = headers;
-            this.expiresAt = getExpiresAt(tokenResponse.getExpiresIn());
+        CachedToken token = cachedToken;
+        Instant now = clock.instant();
+        if (token == null || !now.isBefore(token.expiresAt)) {
+            return awaitRefresh();
+        }
+        if (!now.isBefore(token.refreshAt)) {
+            startRefresh(BACKGROUND_REFRESH_EXECUTOR);
         }
-        return cachedHeaders;
+        return token.headers;
     }
 
-    private Instant getExpiresAt(long expiresInSeconds) {
-        return Instant.now().plus(expiresInSeconds, ChronoUnit.SECONDS).minus(BUFFER_IN_MINUTES, ChronoUnit.MINUTES);
+    private Map<String, String> awaitRefresh() {
+        try {
+            return startRefresh(Runnable::run).join().headers;
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * Starts a refresh on the given executor, or joins the refresh that is already in flight.
+     */
+    private CompletableFuture<CachedToken> startRefresh(Executor executor) {
+        CompletableFuture<CachedToken> refresh = new CompletableFuture<>();
+        while (!inFlightRefresh.compareAndSet(null, refresh)) {
+            CompletableFuture<CachedToken> existing = inFlightRefresh.get();
+            if (existing != null) {
+                return existing;
+            }
+        }
+
+        CachedToken current = cachedToken;
+        if (current != null && clock.instant().isBefore(current.refreshAt)) {
+            // Another caller finished a refresh between our expiry check and claiming the refresh
+            inFlightRefresh.set(null);
+            refresh.complete(current);
+            return refresh;
+        }
+
+        executor.execute(() -> {
+            try {
+                CachedToken token = toCachedToken(fetchToken());
+                cachedToken = token;
+                inFlightRefresh.set(null);
+                refresh.complete(token);
+            } catch (Throwable e) {
+                backOffAfterFailedRefresh(e);
+                inFlightRefresh.set(null);
+                refresh.completeExceptionally(e);
+            }
+        });
+        return refresh;
+    }
+
+    /**
+     * Keeps serving a still-valid token after a failed refresh, and delays the next refresh attempt.
+     */
+    private void backOffAfterFailedRefresh(Throwable failure) {
+        CachedToken current = cachedToken;
+        Instant now = clock.instant();
+        if (current == null || !now.isBefore(current.expiresAt)) {
+            return;
+        }
+        int failedRefreshes = current.failedRefreshes + 1;
+        Duration backoff = INITIAL_REFRESH_BACKOFF.multipliedBy(1L << Math.min(failedRefreshes - 1, 16));
+        if (backoff.compareTo(MAX_REFRESH_BACKOFF) > 0) {
+            backoff = MAX_REFRESH_BACKOFF;
+        }
+        Instant refreshAt = now.plus(backoff);
+        if (refreshAt.isAfter(current.expiresAt)) {
+            refreshAt = current.expiresAt;
+        }
+        cachedToken = new CachedToken(current.headers, current.expiresAt, refreshAt, failedRefreshes);
+        logger.warn("Background token refresh failed (attempt " + failedRefreshes + "), retrying in "
+                + Duration.between(now, refreshAt).toMillis() + "ms: " + failure);
+    }
+
+    private CachedToken toCachedToken(GetTokenResponse tokenResponse) {
+        Map<String, String> headers = new HashMap<>();
+        headers.put("Authorization", "Bearer " + tokenResponse.getAccessToken());
+        Instant now = clock.instant();
+        Instant expiresAt = getExpiresAt(now, tokenResponse.getExpiresIn());
+        return new CachedToken(Collections.unmodifiableMap(headers), expiresAt, getRefreshAt(now, expiresAt), 0);
+    }
+
+    private Instant getExpiresAt(Instant now, long expiresInSeconds) {
+        return now.plus(expiresInSeconds, ChronoUnit.SECONDS).minus(BUFFER_IN_MINUTES, ChronoUnit.MINUTES);
+    }
+
+    private Instant getRefreshAt(Instant now, Instant expiresAt) {
+        // Refresh ahead of expiry, but never earlier than halfway through the token's lifetime
+        Duration lifetime = Duration.between(now, expiresAt);
+        if (lifetime.isNegative()) {
+            return expiresAt;
+        }
+        Duration refreshAhead = Duration.ofSeconds(REFRESH_AHEAD_IN_SECONDS);
+        Duration halfLifetime = lifetime.dividedBy(2);
+        return expiresAt.minus(refreshAhead.compareTo(halfLifetime) < 0 ? refreshAhead : halfLifetime);
+    }
+
+    private static Executor createBackgroundRefreshExecutor() {
+        ThreadPoolExecutor executor =
+                new ThreadPoolExecutor(1, 1, 60, TimeUnit.SECONDS, new LinkedBlockingQueue<>(), runnable -> {
+                    Thread thread = new Thread(runnable, "payroc-token-refresh");
+                    thread.setDaemon(true);
+                    return thread;
+                });
+        executor.allowCoreThreadTimeOut(true);
+        return executor;
+    }
+
+    private static final class CachedToken {
+        private final Map<String, String> headers;
+
+        private final Instant expiresAt;
+
+        private final Instant refreshAt;
+
+        private final int failedRefreshes;
+
+        private CachedToken(Map<String, String> headers, Instant expiresAt, Instant refreshAt, int failedRefreshes) {
+            this.headers = headers;
+            this.expiresAt = expiresAt;
+            this.refreshAt = refreshAt;
+            this.failedRefreshes = failedRefreshes;
+        }
     }
 }
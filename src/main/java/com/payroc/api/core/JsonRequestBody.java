@@ -0,0 +1,122 @@
+package com.payroc.api.core;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import java.io.IOException;
+import okhttp3.MediaType;
+import okhttp3.RequestBody;
+import okio.Buffer;
+import okio.BufferedSink;
+
+/**
+ * A request body that serializes a value as JSON using the cached writer for its declared type, or for its runtime
+ * type when none is given.
+ *
+ * <p>A streaming body is serialized in {@link #writeTo(BufferedSink)} straight into the connection's sink, so the
+ * payload is never held in memory as a whole; its length is unknown and it is sent with chunked transfer encoding.
+ * A buffered body is serialized once, up front, into pooled segments, which gives it a known content length; each
+ * write shares those segments with the sink instead of copying them. Both kinds can be written more than once, so
+ * requests using them can be retried.
+ */
+public final class JsonRequestBody extends RequestBody {
+    private final Object value;
+
+    private final ObjectWriter writer;
+
+    private final Buffer content;
+
+    private JsonRequestBody(Object value, ObjectWriter writer, Buffer content) {
+        this.value = value;
+        this.writer = writer;
+        this.content = content;
+    }
+
+    /**
+     * Creates the request body for a value, streaming or buffered according to
+     * {@link ClientOptions#streamRequestBodies()}.
+     *
+     * @throws JsonProcessingException if a buffered body cannot be serialized
+     */
+    public static JsonRequestBody of(ClientOptions clientOptions, Object value) throws JsonProcessingException {
+        return of(clientOptions, value, writer(value));
+    }
+
+    /**
+     * Creates the request body for a value of a generic type, such as a list, using the writer for that type
+     * rather than for the value's runtime class.
+     *
+     * @throws JsonProcessingException if a buffered body cannot be serialized
+     */
+    public static JsonRequestBody of(ClientOptions clientOptions, Object value, TypeReference<?> valueType)
+            throws JsonProcessingException {
+        return of(clientOptions, value, ObjectMappers.writer(valueType.getType()));
+    }
+
+    private static JsonRequestBody of(ClientOptions clientOptions, Object value, ObjectWriter writer)
+            throws JsonProcessingException {
+        return clientOptions.streamRequestBodies() ? new JsonRequestBody(value, writer, null) : buffered(value, writer);
+    }
+
+    /**
+     * Creates a body that is serialized while it is written to the connection.
+     */
+    public static JsonRequestBody streaming(Object value) {
+        return new JsonRequestBody(value, writer(value), null);
+    }
+
+    /**
+     * Creates a body that is serialized now and has a known content length.
+     *
+     * @throws JsonProcessingException if the value cannot be serialized
+     */
+    public static JsonRequestBody buffered(Object value) throws JsonProcessingException {
+        return buffered(value, writer(value));
+    }
+
+    private static JsonRequestBody buffered(Object value, ObjectWriter writer) throws JsonProcessingException {
+        Buffer content = new Buffer();
+        try (JsonGenerator generator = ObjectMappers.JSON_MAPPER.createGenerator(content.outputStream())) {
+            writer.writeValue(generator, value);
+        } catch (JsonProcessingException e) {
+            throw e;
+        } catch (IOException e) {
+            // A Buffer never fails to accept bytes; match ObjectMapper.writeValueAsBytes for anything else
+            throw JsonMappingException.fromUnexpectedIOE(e);
+        }
+        return new JsonRequestBody(value, writer, content);
+    }
+
+    @Override
+    public MediaType contentType() {
+        return MediaTypes.APPLICATION_JSON;
+    }
+
+    /**
+     * Returns the size of a buffered body, or -1 for a streaming body.
+     */
+    @Override
+    public long contentLength() {
+        return content != null ? content.size() : -1;
+    }
+
+    @Override
+    public void writeTo(BufferedSink sink) throws IOException {
+        if (content != null) {
+            Buffer copy = content.copy();
+            sink.write(copy, copy.size());
+            return;
+        }
+        try (JsonGenerator generator = ObjectMappers.JSON_MAPPER.createGenerator(sink.outputStream())) {
+            // The sink belongs to OkHttp and must stay open after the value is written
+            generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+            writer.writeValue(generator, value);
+        }
+    }
+
+    private static ObjectWriter writer(Object value) {
+        return value == null ? ObjectMappers.JSON_MAPPER.writer() : ObjectMappers.writer(value.getClass());
+    }
+}
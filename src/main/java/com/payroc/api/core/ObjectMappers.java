@@ -4,38 +4,199 @@
 package com.payroc.api.core;
 
 import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.core.JsonFactory;
 import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.core.util.BufferRecycler;
+import com.fasterxml.jackson.core.util.JsonRecyclerPools;
+import com.fasterxml.jackson.core.util.RecyclerPool;
 import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.JavaType;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
 import com.fasterxml.jackson.databind.SerializationFeature;
 import com.fasterxml.jackson.databind.json.JsonMapper;
 import com.fasterxml.jackson.datatype.jdk8.Jdk8Module;
 import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
 import java.io.IOException;
+import java.lang.reflect.Type;
+import java.util.Collection;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import okhttp3.ResponseBody;
 
 public final class ObjectMappers {
-    public static final ObjectMapper JSON_MAPPER = JsonMapper.builder()
-            .addModule(new Jdk8Module())
-            .addModule(new JavaTimeModule())
-            .addModule(DateTimeDeserializer.getModule())
-            .addModule(DoubleSerializer.getModule())
-            .disable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES)
-            .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
-            .build();
+    /**
+     * Opts in to bytecode-generated property accessors. Requires
+     * {@code com.fasterxml.jackson.module:jackson-module-afterburner} on the classpath; without it the setting
+     * has no effect.
+     */
+    static final String AFTERBURNER_ENV = "PAYROC_JACKSON_AFTERBURNER";
+
+    static final String AFTERBURNER_PROPERTY = "payroc.jackson.afterburner";
+
+    /**
+     * Selects how parser and generator buffers are reused. {@code shared} (the default) keeps them in one concurrent
+     * pool, so reuse works for platform and virtual threads alike; {@code thread-local} uses Jackson's per-thread
+     * recyclers; {@code none} disables reuse.
+     */
+    static final String RECYCLER_POOL_ENV = "PAYROC_JACKSON_RECYCLER_POOL";
+
+    static final String RECYCLER_POOL_PROPERTY = "payroc.jackson.recyclerPool";
+
+    /**
+     * The mapper shared by every client. It is fully configured here and must not be reconfigured afterwards,
+     * since it is used concurrently by all request threads.
+     */
+    public static final ObjectMapper JSON_MAPPER = createMapper(
+            isAfterburnerRequested() && isAfterburnerAvailable(),
+            recyclerPool(System.getProperty(RECYCLER_POOL_PROPERTY, System.getenv(RECYCLER_POOL_ENV))));
+
+    private static final ObjectWriter PRETTY_WRITER = JSON_MAPPER.writerWithDefaultPrettyPrinter();
+
+    private static final ConcurrentMap<JavaType, ObjectReader> READERS = new ConcurrentHashMap<>();
+
+    private static final ConcurrentMap<JavaType, ObjectWriter> WRITERS = new ConcurrentHashMap<>();
 
     private ObjectMappers() {}
 
+    static ObjectMapper createMapper(boolean afterburner) {
+        return createMapper(afterburner, JsonRecyclerPools.sharedConcurrentDequePool());
+    }
+
+    static ObjectMapper createMapper(boolean afterburner, RecyclerPool<BufferRecycler> recyclerPool) {
+        JsonFactory factory = JsonFactory.builder().recyclerPool(recyclerPool).build();
+        JsonMapper.Builder builder = JsonMapper.builder(factory)
+                .addModule(new Jdk8Module())
+                .addModule(new JavaTimeModule())
+                .addModule(DateTimeDeserializer.getModule())
+                .addModule(DoubleSerializer.getModule())
+                .disable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES)
+                .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                .serializationInclusion(JsonInclude.Include.ALWAYS);
+        if (afterburner) {
+            Afterburner.register(builder);
+        }
+        return builder.build();
+    }
+
+    /**
+     * Returns the pool from which the shared mapper's parsers and generators take their buffers.
+     */
+    public static RecyclerPool<BufferRecycler> recyclerPool() {
+        return JSON_MAPPER.getFactory()._getRecyclerPool();
+    }
+
+    static RecyclerPool<BufferRecycler> recyclerPool(String name) {
+        if (name != null) {
+            switch (name.toLowerCase()) {
+                case "thread-local":
+                    return JsonRecyclerPools.threadLocalPool();
+                case "none":
+                    return JsonRecyclerPools.nonRecyclingPool();
+                default:
+                    break;
+            }
+        }
+        return JsonRecyclerPools.sharedConcurrentDequePool();
+    }
+
+    /**
+     * Returns true if the shared mapper was built with bytecode-generated property accessors.
+     */
+    public static boolean isAfterburnerEnabled() {
+        return JSON_MAPPER.getRegisteredModuleIds().contains(Afterburner.MODULE_CLASS_NAME);
+    }
+
+    private static boolean isAfterburnerRequested() {
+        String value = System.getProperty(AFTERBURNER_PROPERTY, System.getenv(AFTERBURNER_ENV));
+        if (value == null) {
+            return false;
+        }
+        String lower = value.toLowerCase();
+        return lower.equals("true") || lower.equals("1") || lower.equals("yes");
+    }
+
+    static boolean isAfterburnerAvailable() {
+        try {
+            Class.forName(Afterburner.MODULE_CLASS_NAME, false, ObjectMappers.class.getClassLoader());
+            return true;
+        } catch (ClassNotFoundException | LinkageError e) {
+            return false;
+        }
+    }
+
+    /**
+     * Returns a cached reader for the given type. The reader's root deserializer is built once, on first use.
+     * Readers are keyed by the resolved {@link JavaType}, so a class and a {@link TypeReference} to the same
+     * generic type, such as {@code List<Owner>}, share one reader.
+     */
+    public static ObjectReader reader(Type type) {
+        JavaType javaType = JSON_MAPPER.constructType(type);
+        ObjectReader reader = READERS.get(javaType);
+        if (reader != null) {
+            return reader;
+        }
+        return READERS.computeIfAbsent(javaType, JSON_MAPPER::readerFor);
+    }
+
+    /**
+     * Returns a cached writer for the given type. The writer's root serializer is built once, on first use.
+     * Writers are keyed by the resolved {@link JavaType}, like {@link #reader(Type)}.
+     */
+    public static ObjectWriter writer(Type type) {
+        JavaType javaType = JSON_MAPPER.constructType(type);
+        ObjectWriter writer = WRITERS.get(javaType);
+        if (writer != null) {
+            return writer;
+        }
+        return WRITERS.computeIfAbsent(javaType, JSON_MAPPER::writerFor);
+    }
+
+    /**
+     * Builds the writers for the given request types and the readers for the given response types ahead of time,
+     * so that the first request using each type does not pay for serializer introspection.
+     */
+    public static void warmUp(Collection<JavaType> requestTypes, Collection<JavaType> responseTypes) {
+        for (JavaType type : requestTypes) {
+            writer(type);
+        }
+        for (JavaType type : responseTypes) {
+            reader(type);
+        }
+    }
+
     public static String stringify(Object o) {
         try {
-            return JSON_MAPPER
-                    .setSerializationInclusion(JsonInclude.Include.ALWAYS)
-                    .writerWithDefaultPrettyPrinter()
-                    .writeValueAsString(o);
+            return PRETTY_WRITER.writeValueAsString(o);
         } catch (IOException e) {
             return o.getClass().getName() + "@" + Integer.toHexString(o.hashCode());
         }
     }
 
+    /**
+     * Decodes a response body by streaming its bytes straight into the parser, so the payload is never
+     * materialized as an intermediate String.
+     */
+    public static <T> T readBody(ResponseBody responseBody, Class<T> valueType) throws IOException {
+        if (responseBody == null) {
+            return JSON_MAPPER.readValue("{}", valueType);
+        }
+        return reader(valueType).readValue(responseBody.byteStream());
+    }
+
+    /**
+     * Decodes a response body by streaming its bytes straight into the parser, so the payload is never
+     * materialized as an intermediate String.
+     */
+    public static <T> T readBody(ResponseBody responseBody, TypeReference<T> valueTypeRef) throws IOException {
+        if (responseBody == null) {
+            return JSON_MAPPER.readValue("{}", valueTypeRef);
+        }
+        return reader(valueTypeRef.getType()).readValue(responseBody.byteStream());
+    }
+
     public static Object parseErrorBody(String responseBodyString) {
         try {
             return JSON_MAPPER.readValue(responseBodyString, Object.class);
@@ -43,4 +204,15 @@ public final class ObjectMappers {
             return responseBodyString;
         }
     }
+
+    /**
+     * Kept in its own class so the optional Afterburner dependency is only loaded when it is enabled.
+     */
+    private static final class Afterburner {
+        private static final String MODULE_CLASS_NAME = "com.fasterxml.jackson.module.afterburner.AfterburnerModule";
+
+        private static void register(JsonMapper.Builder builder) {
+            builder.addModule(new com.fasterxml.jackson.module.afterburner.AfterburnerModule());
+        }
+    }
 }
@@ -3,10 +3,15 @@
  */
 package com.payroc.api.core;
 
+import com.fasterxml.jackson.annotation.JsonValue;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.node.ArrayNode;
 import com.fasterxml.jackson.databind.node.ObjectNode;
+import java.lang.reflect.Method;
+import java.time.LocalDate;
+import java.time.OffsetDateTime;
+import java.time.format.DateTimeFormatter;
 import java.util.AbstractMap;
 import java.util.ArrayList;
 import java.util.Iterator;
@@ -19,7 +24,29 @@ public class QueryStringMapper {
 
     private static final ObjectMapper MAPPER = ObjectMappers.JSON_MAPPER;
 
+    /**
+     * Whether a type serializes as its {@code toString()}, as the SDK's forward-compatible enums do.
+     */
+    private static final ClassValue<Boolean> SERIALIZES_AS_TO_STRING = new ClassValue<Boolean>() {
+        @Override
+        protected Boolean computeValue(Class<?> type) {
+            try {
+                Method toString = type.getMethod("toString");
+                JsonValue jsonValue = toString.getAnnotation(JsonValue.class);
+                return toString.getDeclaringClass() == type && jsonValue != null && jsonValue.value();
+            } catch (NoSuchMethodException e) {
+                return false;
+            }
+        }
+    };
+
     public static void addQueryParameter(HttpUrl.Builder httpUrl, String key, Object value, boolean arraysAsRepeats) {
+        String scalar = scalarToString(value);
+        if (scalar != null) {
+            httpUrl.addQueryParameter(key, scalar);
+            return;
+        }
+
         JsonNode valueNode = MAPPER.valueToTree(value);
 
         List<Map.Entry<String, JsonNode>> flat;
@@ -47,6 +74,12 @@ public class QueryStringMapper {
 
     public static void addFormDataPart(
             MultipartBody.Builder multipartBody, String key, Object value, boolean arraysAsRepeats) {
+        String scalar = scalarToString(value);
+        if (scalar != null) {
+            multipartBody.addFormDataPart(key, scalar);
+            return;
+        }
+
         JsonNode valueNode = MAPPER.valueToTree(value);
 
         List<Map.Entry<String, JsonNode>> flat;
@@ -74,6 +107,31 @@ public class QueryStringMapper {
         }
     }
 
+    /**
+     * Formats the common scalar parameter types exactly as {@link ObjectMapper#valueToTree} followed by the
+     * textual conversion above would, without building a tree.
+     *
+     * @return The formatted value, or null if the value must go through the tree conversion
+     */
+    static String scalarToString(Object value) {
+        if (value instanceof String) {
+            return (String) value;
+        }
+        if (value instanceof Integer || value instanceof Long || value instanceof Boolean) {
+            return value.toString();
+        }
+        if (value instanceof LocalDate) {
+            return value.toString();
+        }
+        if (value instanceof OffsetDateTime) {
+            return DateTimeFormatter.ISO_OFFSET_DATE_TIME.format((OffsetDateTime) value);
+        }
+        if (value != null && SERIALIZES_AS_TO_STRING.get(value.getClass())) {
+            return value.toString();
+        }
+        return null;
+    }
+
     public static List<Map.Entry<String, JsonNode>> flattenObject(ObjectNode object, boolean arraysAsRepeats) {
         List<Map.Entry<String, JsonNode>> flat = new ArrayList<>();
 
@@ -0,0 +1,93 @@
+package com.payroc.api.core;
+
+import java.time.Duration;
+
+/**
+ * Configuration for client-side rate limiting.
+ *
+ * <p>When rate limiting is enabled, the client reads the {@code X-RateLimit-Limit}, {@code X-RateLimit-Remaining}
+ * and {@code X-RateLimit-Reset} headers of every response and paces outgoing requests so that the remaining
+ * requests are spread over the rest of the rate-limit window, instead of sending them until the API answers 429.
+ * <pre>{@code
+ * RateLimitConfig config = RateLimitConfig.builder()
+ *     .perEndpoint(true)
+ *     .build();
+ * }</pre>
+ *
+ * <p>Defaults:
+ * <ul>
+ *   <li>{@code perEndpoint} — {@code false} (one bucket per host)</li>
+ *   <li>{@code pacingThreshold} — {@code 0.1} (pace once fewer than 10% of the window's requests remain)</li>
+ *   <li>{@code maxDelay} — 60 seconds</li>
+ * </ul>
+ */
+public final class RateLimitConfig {
+
+    private final boolean perEndpoint;
+    private final double pacingThreshold;
+    private final Duration maxDelay;
+
+    private RateLimitConfig(boolean perEndpoint, double pacingThreshold, Duration maxDelay) {
+        this.perEndpoint = perEndpoint;
+        this.pacingThreshold = pacingThreshold;
+        this.maxDelay = maxDelay;
+    }
+
+    public boolean perEndpoint() {
+        return perEndpoint;
+    }
+
+    public double pacingThreshold() {
+        return pacingThreshold;
+    }
+
+    public Duration maxDelay() {
+        return maxDelay;
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    public static final class Builder {
+        private boolean perEndpoint = false;
+        private double pacingThreshold = 0.1;
+        private Duration maxDelay = Duration.ofSeconds(60);
+
+        private Builder() {}
+
+        /**
+         * Keep a separate bucket for each endpoint rather than for each host. An endpoint is identified by the
+         * host, the HTTP method and the URL path with its identifier segments collapsed. Identifier segments are
+         * those containing a digit, other than an API version such as {@code v1}. Defaults to {@code false}.
+         */
+        public Builder perEndpoint(boolean perEndpoint) {
+            this.perEndpoint = perEndpoint;
+            return this;
+        }
+
+        /**
+         * Set the fraction of the window's limit below which requests are spread out over the rest of the window.
+         * Above it, requests are sent without delay. Defaults to {@code 0.1}.
+         */
+        public Builder pacingThreshold(double pacingThreshold) {
+            if (pacingThreshold < 0 || pacingThreshold > 1) {
+                throw new IllegalArgumentException("pacingThreshold must be between 0 and 1");
+            }
+            this.pacingThreshold = pacingThreshold;
+            return this;
+        }
+
+        /**
+         * Set the longest time a request is held back. Defaults to 60 seconds.
+         */
+        public Builder maxDelay(Duration maxDelay) {
+            this.maxDelay = maxDelay;
+            return this;
+        }
+
+        public RateLimitConfig build() {
+            return new RateLimitConfig(perEndpoint, pacingThreshold, maxDelay);
+        }
+    }
+}
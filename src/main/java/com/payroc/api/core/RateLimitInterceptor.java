@@ -0,0 +1,235 @@
+package com.payroc.api.core;
+
+import java.io.IOException;
+import java.time.Clock;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import okhttp3.Interceptor;
+import okhttp3.Request;
+import okhttp3.Response;
+
+/**
+ * Paces outgoing requests using the rate-limit headers of earlier responses.
+ *
+ * <p>Every response updates a bucket with the window's limit, the requests remaining in it, and when it resets.
+ * While plenty of requests remain, requests are sent immediately. Once fewer than the configured fraction of the
+ * limit remain, each request reserves the next slot of an even spread over the rest of the window, and when none
+ * remain, requests take successive slots in the next window. Buckets are kept per host, or per endpoint when
+ * configured, so one host's headers never pace requests to another. One interceptor is shared by every resource
+ * client of an API client, so the pacing covers all of them.
+ *
+ * <p>Synchronous calls wait on the calling thread. Calls enqueued through {@link HttpCalls} are delayed by the
+ * scheduler before they reach the dispatcher, so no thread is held while they wait.
+ */
+public final class RateLimitInterceptor implements Interceptor {
+    private static final int MAX_BUCKETS = 256;
+
+    /**
+     * Reset values below this are read as seconds from now rather than as epoch seconds.
+     */
+    private static final long MIN_EPOCH_SECONDS = 1_000_000_000L;
+
+    private final RateLimitConfig config;
+
+    private final Clock clock;
+
+    /**
+     * Used once {@link #MAX_BUCKETS} keys have been seen, so that unusual paths cannot grow the map without bound.
+     */
+    private final Bucket overflowBucket = new Bucket();
+
+    private final ConcurrentMap<String, Bucket> buckets = new ConcurrentHashMap<>();
+
+    public RateLimitInterceptor(RateLimitConfig config) {
+        this(config, Clock.systemUTC());
+    }
+
+    RateLimitInterceptor(RateLimitConfig config, Clock clock) {
+        this.config = config;
+        this.clock = clock;
+    }
+
+    @Override
+    public Response intercept(Chain chain) throws IOException {
+        Request request = chain.request();
+        if (request.tag(HttpCalls.Scheduled.class) == null) {
+            long delayMillis = reserve(request);
+            if (delayMillis > 0) {
+                try {
+                    Thread.sleep(delayMillis);
+                } catch (InterruptedException e) {
+                    throw new IOException("Interrupted while waiting for rate limit", e);
+                }
+            }
+        }
+        Response response = chain.proceed(request);
+        update(request, response);
+        return response;
+    }
+
+    /**
+     * Reserves a slot for the request and returns how long to wait, in milliseconds, before sending it.
+     */
+    long reserve(Request request) {
+        long delayMillis = bucket(request).reserve(clock.millis(), config.pacingThreshold());
+        return Math.min(delayMillis, config.maxDelay().toMillis());
+    }
+
+    /**
+     * Returns true if a request like this one would be held back now. Unlike {@link #reserve}, this takes no slot.
+     */
+    boolean isPacing(Request request) {
+        Bucket bucket = buckets.get(bucketKey(request));
+        if (bucket == null) {
+            bucket = buckets.size() >= MAX_BUCKETS ? overflowBucket : null;
+        }
+        return bucket != null && bucket.isPacing(clock.millis(), config.pacingThreshold());
+    }
+
+    void update(Request request, Response response) {
+        long now = clock.millis();
+        long limit = parseLong(response.header("X-RateLimit-Limit"));
+        long remaining = parseLong(response.header("X-RateLimit-Remaining"));
+        long reset = parseLong(response.header("X-RateLimit-Reset"));
+        long resetAtMillis = -1;
+        if (reset >= MIN_EPOCH_SECONDS) {
+            resetAtMillis = reset * 1000;
+        } else if (reset >= 0) {
+            resetAtMillis = now + reset * 1000;
+        }
+        if (response.code() == 429) {
+            long retryAfter = parseLong(response.header("Retry-After"));
+            if (retryAfter > 0) {
+                remaining = 0;
+                resetAtMillis = now + retryAfter * 1000;
+            }
+        }
+        bucket(request).update(now, limit, remaining, resetAtMillis);
+    }
+
+    private Bucket bucket(Request request) {
+        String key = bucketKey(request);
+        Bucket bucket = buckets.get(key);
+        if (bucket != null) {
+            return bucket;
+        }
+        if (buckets.size() >= MAX_BUCKETS) {
+            return overflowBucket;
+        }
+        return buckets.computeIfAbsent(key, ignored -> new Bucket());
+    }
+
+    private String bucketKey(Request request) {
+        return config.perEndpoint() ? endpointKey(request) : request.url().host();
+    }
+
+    /**
+     * Identifies the endpoint of a request by its method, host and path, with identifier segments collapsed.
+     */
+    static String endpointKey(Request request) {
+        StringBuilder key = new StringBuilder(request.method())
+                .append(' ')
+                .append(request.url().host());
+        for (String segment : request.url().pathSegments()) {
+            key.append('/').append(isIdentifier(segment) ? "{id}" : segment);
+        }
+        return key.toString();
+    }
+
+    private static boolean isIdentifier(String segment) {
+        boolean hasDigit = false;
+        boolean allDigits = true;
+        for (int i = 0; i < segment.length(); i++) {
+            boolean digit = Character.isDigit(segment.charAt(i));
+            hasDigit |= digit;
+            allDigits &= digit || i == 0;
+        }
+        // An API version, such as v1, names the same endpoints for every request
+        boolean version = segment.length() > 1 && segment.charAt(0) == 'v' && allDigits;
+        return hasDigit && !version;
+    }
+
+    private static long parseLong(String value) {
+        if (value == null) {
+            return -1;
+        }
+        try {
+            return Long.parseLong(value.trim());
+        } catch (NumberFormatException e) {
+            return -1;
+        }
+    }
+
+    private static final class Bucket {
+        private long limit = -1;
+
+        private long remaining = -1;
+
+        private long resetAtMillis = -1;
+
+        private long nextSlotMillis = 0;
+
+        private long windowStartMillis = -1;
+
+        private long reservedInWindow = 0;
+
+        synchronized long reserve(long now, double pacingThreshold) {
+            if (remaining < 0 || now >= resetAtMillis) {
+                return 0;
+            }
+            reservedInWindow++;
+            if (remaining == 0) {
+                // Waiting requests take successive slots in the next window rather than all firing at its start
+                long slot = nextSlotMillis >= resetAtMillis ? nextSlotMillis + nextWindowSpacing() : resetAtMillis;
+                nextSlotMillis = slot;
+                return slot - now;
+            }
+            if (limit < 0 || remaining > limit * pacingThreshold) {
+                remaining--;
+                return 0;
+            }
+            long start = Math.max(now, nextSlotMillis);
+            long slot = start + (resetAtMillis - start) / (remaining + 1);
+            nextSlotMillis = slot;
+            remaining--;
+            return slot - now;
+        }
+
+        synchronized boolean isPacing(long now, double pacingThreshold) {
+            if (remaining < 0 || now >= resetAtMillis) {
+                return false;
+            }
+            return remaining == 0 || (limit >= 0 && remaining <= limit * pacingThreshold);
+        }
+
+        /**
+         * Estimates the spacing of an even spread over the next window, assuming it is as long as the window seen
+         * so far and allows the advertised limit, or as many requests as this one, if the limit is unknown.
+         */
+        private long nextWindowSpacing() {
+            long windowMillis = resetAtMillis - windowStartMillis;
+            long capacity = limit > 0 ? limit : reservedInWindow;
+            return Math.max(1, windowMillis / Math.max(1, capacity));
+        }
+
+        synchronized void update(long now, long limit, long remaining, long resetAtMillis) {
+            if (limit >= 0) {
+                this.limit = limit;
+            }
+            if (remaining < 0) {
+                return;
+            }
+            if (resetAtMillis >= 0 && resetAtMillis != this.resetAtMillis) {
+                // A new window: the server's count replaces ours. Slots already handed out are kept, so requests
+                // waiting for this window are not overtaken by paced ones.
+                this.remaining = remaining;
+                this.resetAtMillis = resetAtMillis;
+                this.windowStartMillis = now;
+                this.reservedInWindow = 0;
+            } else if (this.remaining < 0 || remaining < this.remaining) {
+                // Same window: responses may arrive out of order, so keep the lower count
+                this.remaining = remaining;
+            }
+        }
+    }
+}
@@ -8,6 +8,7 @@ import java.util.Map;
 import java.util.Optional;
 import java.util.concurrent.TimeUnit;
 import java.util.function.Supplier;
+import okhttp3.Headers;
 
 public final class RequestOptions {
     private final Optional<Integer> timeout;
@@ -54,6 +55,18 @@ public final class RequestOptions {
         return headers;
     }
 
+    boolean hasHeaders() {
+        return !this.headers.isEmpty() || !this.headerSuppliers.isEmpty();
+    }
+
+    /**
+     * Sets this request's headers on the builder, replacing any existing values with the same name.
+     */
+    void setHeaders(Headers.Builder builder) {
+        this.headers.forEach(builder::set);
+        this.headerSuppliers.forEach((key, supplier) -> builder.set(key, supplier.get()));
+    }
+
     public Map<String, String> getQueryParameters() {
         Map<String, String> queryParameters = new HashMap<>(this.queryParameters);
         this.queryParameterSuppliers.forEach((key, supplier) -> {
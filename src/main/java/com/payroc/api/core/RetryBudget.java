@@ -0,0 +1,107 @@
+package com.payroc.api.core;
+
+import java.time.Clock;
+
+/**
+ * Limits retries to a fraction of the requests sent over a sliding window.
+ *
+ * <p>Every request made by the client is counted, and every retry must acquire a token from the budget. The
+ * window is divided into one-second slots, so counts older than the window drop out a second at a time.
+ */
+public final class RetryBudget {
+    private final RetryBudgetConfig config;
+
+    private final Clock clock;
+
+    private final long[] slotSeconds;
+
+    private final long[] requests;
+
+    private final long[] retries;
+
+    public RetryBudget(RetryBudgetConfig config) {
+        this(config, Clock.systemUTC());
+    }
+
+    RetryBudget(RetryBudgetConfig config, Clock clock) {
+        this.config = config;
+        this.clock = clock;
+        int slots = (int) config.window().getSeconds();
+        this.slotSeconds = new long[slots];
+        this.requests = new long[slots];
+        this.retries = new long[slots];
+    }
+
+    synchronized void recordRequest() {
+        requests[currentSlot()]++;
+    }
+
+    /**
+     * Takes a token for one retry, or returns false if the budget is spent.
+     */
+    synchronized boolean tryAcquireRetry() {
+        int slot = currentSlot();
+        if (sum(retries) >= allowedRetries()) {
+            return false;
+        }
+        retries[slot]++;
+        return true;
+    }
+
+    /**
+     * Returns the number of requests counted over the current window.
+     */
+    public synchronized long getRequests() {
+        currentSlot();
+        return sum(requests);
+    }
+
+    /**
+     * Returns the number of retries sent over the current window.
+     */
+    public synchronized long getRetries() {
+        currentSlot();
+        return sum(retries);
+    }
+
+    /**
+     * Returns the number of retries that may still be sent in the current window.
+     */
+    public synchronized long getAvailableRetries() {
+        currentSlot();
+        return Math.max(0, allowedRetries() - sum(retries));
+    }
+
+    private long allowedRetries() {
+        return Math.max(config.minRetries(), (long) (sum(requests) * config.ratio()));
+    }
+
+    /**
+     * Returns the slot for the current second, clearing any slot whose counts have left the window.
+     */
+    private int currentSlot() {
+        long second = clock.millis() / 1000;
+        for (int i = 0; i < slotSeconds.length; i++) {
+            if (slotSeconds[i] <= second - slotSeconds.length) {
+                slotSeconds[i] = second - slotSeconds.length;
+                requests[i] = 0;
+                retries[i] = 0;
+            }
+        }
+        int slot = (int) (second % slotSeconds.length);
+        if (slotSeconds[slot] != second) {
+            slotSeconds[slot] = second;
+            requests[slot] = 0;
+            retries[slot] = 0;
+        }
+        return slot;
+    }
+
+    private static long sum(long[] counts) {
+        long total = 0;
+        for (long count : counts) {
+            total += count;
+        }
+        return total;
+    }
+}
@@ -0,0 +1,94 @@
+package com.payroc.api.core;
+
+import java.time.Duration;
+
+/**
+ * Configuration for the retry budget, which caps retries at a fraction of recent requests.
+ *
+ * <p>Without a budget, every failed request is retried up to the configured maximum, so an outage multiplies the
+ * load on the API. With a budget, a retry is only sent while the retries over a sliding window stay within
+ * {@code ratio} of the requests over that window, or within {@code minRetries}, whichever is larger.
+ * <pre>{@code
+ * RetryBudgetConfig config = RetryBudgetConfig.builder()
+ *     .ratio(0.1)
+ *     .window(Duration.ofSeconds(10))
+ *     .build();
+ * }</pre>
+ *
+ * <p>Defaults:
+ * <ul>
+ *   <li>{@code ratio} — {@code 0.1} (retries may add 10% to the request rate)</li>
+ *   <li>{@code minRetries} — {@code 10} (per window, so clients with little traffic can still retry)</li>
+ *   <li>{@code window} — 10 seconds</li>
+ * </ul>
+ */
+public final class RetryBudgetConfig {
+
+    private final double ratio;
+    private final int minRetries;
+    private final Duration window;
+
+    private RetryBudgetConfig(double ratio, int minRetries, Duration window) {
+        this.ratio = ratio;
+        this.minRetries = minRetries;
+        this.window = window;
+    }
+
+    public double ratio() {
+        return ratio;
+    }
+
+    public int minRetries() {
+        return minRetries;
+    }
+
+    public Duration window() {
+        return window;
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    public static final class Builder {
+        private double ratio = 0.1;
+        private int minRetries = 10;
+        private Duration window = Duration.ofSeconds(10);
+
+        private Builder() {}
+
+        /**
+         * Set the largest ratio of retries to requests over the window. Defaults to {@code 0.1}.
+         */
+        public Builder ratio(double ratio) {
+            if (ratio < 0) {
+                throw new IllegalArgumentException("ratio must not be negative");
+            }
+            this.ratio = ratio;
+            return this;
+        }
+
+        /**
+         * Set the number of retries allowed per window regardless of the request count. Defaults to {@code 10}.
+         */
+        public Builder minRetries(int minRetries) {
+            this.minRetries = minRetries;
+            return this;
+        }
+
+        /**
+         * Set the length of the sliding window, in whole seconds. Defaults to 10 seconds.
+         */
+        public Builder window(Duration window) {
+            if (window.getSeconds() < 1) {
+                throw new IllegalArgumentException("window must be at least one second");
+            }
+            this.window = window;
+            return this;
+        }
+
+        public RetryBudgetConfig build() {
+            return new RetryBudgetConfig(ratio, minRetries, window);
+        }
+    }
+}
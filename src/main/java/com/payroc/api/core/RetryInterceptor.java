@@ -10,7 +10,9 @@ import java.time.format.DateTimeFormatter;
 import java.time.format.DateTimeParseException;
 import java.util.Optional;
 import java.util.Random;
+import okhttp3.Call;
 import okhttp3.Interceptor;
+import okhttp3.Request;
 import okhttp3.Response;
 
 public class RetryInterceptor implements Interceptor {
@@ -20,34 +22,66 @@ public class RetryInterceptor implements Interceptor {
     private static final double JITTER_FACTOR = 0.2;
 
     private final int maxRetries;
+    private final Optional<RetryBudget> retryBudget;
     private final Random random = new Random();
 
     public RetryInterceptor(int maxRetries) {
+        this(maxRetries, Optional.empty());
+    }
+
+    /**
+     * @param retryBudget If present, every retry must take a token from this budget
+     */
+    public RetryInterceptor(int maxRetries, Optional<RetryBudget> retryBudget) {
         this.maxRetries = maxRetries;
+        this.retryBudget = retryBudget;
+    }
+
+    public Optional<RetryBudget> retryBudget() {
+        return this.retryBudget;
     }
 
     @Override
     public Response intercept(Chain chain) throws IOException {
-        Response response = chain.proceed(chain.request());
+        if (chain.request().tag(HttpCalls.Scheduled.class) != null) {
+            // Retries for this request are scheduled by HttpCalls, without holding this thread
+            return chain.proceed(chain.request());
+        }
+
+        ExponentialBackoff backoff = newBackoff();
+        Response response = proceed(chain, backoff);
 
         if (shouldRetry(response.code())) {
-            return retryChain(response, chain);
+            return retryChain(response, chain, backoff);
         }
 
         return response;
     }
 
-    private Response retryChain(Response response, Chain chain) throws IOException {
-        ExponentialBackoff backoff = new ExponentialBackoff(this.maxRetries);
-        Optional<Duration> nextBackoff = backoff.nextBackoff(response);
-        while (nextBackoff.isPresent()) {
+    /**
+     * Sends the request, retrying network failures of requests that are safe to replay.
+     */
+    private Response proceed(Chain chain, ExponentialBackoff backoff) throws IOException {
+        while (true) {
             try {
-                Thread.sleep(nextBackoff.get().toMillis());
-            } catch (InterruptedException e) {
-                throw new IOException("Interrupted while trying request", e);
+                return chain.proceed(chain.request());
+            } catch (IOException e) {
+                Optional<Duration> nextBackoff =
+                        shouldRetry(chain.call(), chain.request(), e) ? backoff.nextBackoff(e) : Optional.empty();
+                if (!nextBackoff.isPresent()) {
+                    throw e;
+                }
+                sleep(nextBackoff.get());
             }
+        }
+    }
+
+    private Response retryChain(Response response, Chain chain, ExponentialBackoff backoff) throws IOException {
+        Optional<Duration> nextBackoff = backoff.nextBackoff(response);
+        while (nextBackoff.isPresent()) {
+            sleep(nextBackoff.get());
             response.close();
-            response = chain.proceed(chain.request());
+            response = proceed(chain, backoff);
             if (shouldRetry(response.code())) {
                 nextBackoff = backoff.nextBackoff(response);
             } else {
@@ -58,6 +92,14 @@ public class RetryInterceptor implements Interceptor {
         return response;
     }
 
+    private static void sleep(Duration delay) throws IOException {
+        try {
+            Thread.sleep(delay.toMillis());
+        } catch (InterruptedException e) {
+            throw new IOException("Interrupted while trying request", e);
+        }
+    }
+
     /**
      * Calculates the retry delay from response headers, with fallback to exponential backoff.
      * Priority: Retry-After > X-RateLimit-Reset > Exponential Backoff
@@ -103,6 +145,10 @@ public class RetryInterceptor implements Interceptor {
         }
 
         // Fall back to exponential backoff, with symmetric jitter
+        return getExponentialDelay(retryAttempt);
+    }
+
+    private Duration getExponentialDelay(int retryAttempt) {
         long baseDelay = INITIAL_RETRY_DELAY.toMillis() * (1L << retryAttempt); // 2^retryAttempt
         long cappedDelay = Math.min(baseDelay, MAX_RETRY_DELAY.toMillis());
         return Duration.ofMillis(addSymmetricJitter(cappedDelay));
@@ -154,11 +200,31 @@ public class RetryInterceptor implements Interceptor {
         return (long) (delayMs * jitterMultiplier);
     }
 
-    private static boolean shouldRetry(int statusCode) {
+    /**
+     * Starts tracking the retries of one request, counting the request against the retry budget.
+     */
+    ExponentialBackoff newBackoff() {
+        retryBudget.ifPresent(RetryBudget::recordRequest);
+        return new ExponentialBackoff(this.maxRetries);
+    }
+
+    static boolean shouldRetry(int statusCode) {
         return statusCode == 408 || statusCode == 429 || statusCode >= 500;
     }
 
-    private final class ExponentialBackoff {
+    /**
+     * A network failure is retried only for requests that carry an idempotency key, since the server may have
+     * processed the request before the connection failed. Cancelled calls and open circuit breakers are final.
+     */
+    static boolean shouldRetry(Call call, Request request, IOException failure) {
+        if (call.isCanceled() || failure instanceof CircuitBreakerOpenException) {
+            return false;
+        }
+        String idempotencyKey = request.header("Idempotency-Key");
+        return idempotencyKey != null && !idempotencyKey.isEmpty();
+    }
+
+    final class ExponentialBackoff {
 
         private final int maxNumRetries;
 
@@ -169,7 +235,7 @@ public class RetryInterceptor implements Interceptor {
         }
 
         public Optional<Duration> nextBackoff(Response response) {
-            if (retryNumber >= maxNumRetries) {
+            if (!tryAcquireRetry()) {
                 return Optional.empty();
             }
 
@@ -177,5 +243,22 @@ public class RetryInterceptor implements Interceptor {
             retryNumber += 1;
             return Optional.of(delay);
         }
+
+        public Optional<Duration> nextBackoff(IOException failure) {
+            if (!tryAcquireRetry()) {
+                return Optional.empty();
+            }
+
+            Duration delay = getExponentialDelay(retryNumber);
+            retryNumber += 1;
+            return Optional.of(delay);
+        }
+
+        private boolean tryAcquireRetry() {
+            if (retryNumber >= maxNumRetries) {
+                return false;
+            }
+            return !retryBudget.isPresent() || retryBudget.get().tryAcquireRetry();
+        }
     }
 }
@@ -1,14 +1,13 @@
 package com.payroc.api.core.pagination;
 
-import com.fasterxml.jackson.databind.JsonNode;
 import com.payroc.api.core.ClientOptions;
+import com.payroc.api.core.HttpCalls;
 import com.payroc.api.core.ObjectMappers;
 import com.payroc.api.core.RequestOptions;
 import com.payroc.api.types.IPaginatedList;
 import com.payroc.api.types.Link;
 import java.io.IOException;
 import java.util.ArrayList;
-import java.util.Collections;
 import java.util.List;
 import java.util.NoSuchElementException;
 import java.util.Optional;
@@ -18,7 +17,6 @@ import java.util.function.Consumer;
 import java.util.function.Function;
 import okhttp3.Call;
 import okhttp3.Callback;
-import okhttp3.Headers;
 import okhttp3.Request;
 import okhttp3.Response;
 import okhttp3.ResponseBody;
@@ -67,8 +65,8 @@ import okhttp3.ResponseBody;
 public class AsyncPayrocPager<T> implements BiDirectionalPage<T> {
 
     private final ClientOptions clientOptions;
-    private final Function<String, List<T>> itemsParser;
     private final Class<?> responseClass;
+    private final Function<Object, List<T>> dataExtractor;
     private final RequestOptions requestOptions;
 
     private Page<T> currentPage;
@@ -81,21 +79,15 @@ public class AsyncPayrocPager<T> implements BiDirectionalPage<T> {
      */
     private AsyncPayrocPager(
             ClientOptions clientOptions,
-            Function<String, List<T>> itemsParser,
             Class<?> responseClass,
+            Function<Object, List<T>> dataExtractor,
             RequestOptions requestOptions,
-            Page<T> currentPage,
-            String nextUrl,
-            String previousUrl,
-            Object fullResponse) {
+            Object initialResponse) {
         this.clientOptions = clientOptions;
-        this.itemsParser = itemsParser;
         this.responseClass = responseClass;
+        this.dataExtractor = dataExtractor;
         this.requestOptions = requestOptions;
-        this.currentPage = currentPage;
-        this.nextUrl = nextUrl;
-        this.previousUrl = previousUrl;
-        this.fullResponse = fullResponse;
+        updateState(initialResponse);
     }
 
     /**
@@ -118,64 +110,15 @@ public class AsyncPayrocPager<T> implements BiDirectionalPage<T> {
                         + initialResponse.getClass().getName());
             }
 
-            IPaginatedList paginatedResponse = (IPaginatedList) initialResponse;
-            List<T> items = extractDataField(initialResponse);
-
-            String nextUrl = null;
-            String previousUrl = null;
-            Optional<List<Link>> linksOpt = paginatedResponse.getLinks();
-            if (linksOpt.isPresent()) {
-                for (Link link : linksOpt.get()) {
-                    if ("next".equals(link.getRel())) {
-                        nextUrl = link.getHref();
-                    } else if ("previous".equals(link.getRel())) {
-                        previousUrl = link.getHref();
-                    }
-                }
-            }
-
-            Class<?> responseClass = initialResponse.getClass();
-            Function<String, List<T>> itemsParser = (responseBody) -> {
-                try {
-                    Object parsed = ObjectMappers.JSON_MAPPER.readValue(responseBody, responseClass);
-                    return extractDataField(parsed);
-                } catch (IOException e) {
-                    throw new RuntimeException("Failed to parse paginated response", e);
-                }
-            };
-
             return new AsyncPayrocPager<>(
                     clientOptions,
-                    itemsParser,
-                    responseClass,
+                    initialResponse.getClass(),
+                    PaginatedDataExtractors.forClass(initialResponse.getClass()),
                     requestOptions,
-                    new Page<>(items),
-                    nextUrl,
-                    previousUrl,
                     initialResponse);
         });
     }
 
-    @SuppressWarnings("unchecked")
-    private static <T> List<T> extractDataField(Object response) {
-        try {
-            java.lang.reflect.Method getDataMethod = response.getClass().getMethod("getData");
-            Object result = getDataMethod.invoke(response);
-
-            if (result instanceof Optional) {
-                Optional<?> optResult = (Optional<?>) result;
-                if (optResult.isPresent() && optResult.get() instanceof List) {
-                    return (List<T>) optResult.get();
-                }
-                return Collections.emptyList();
-            } else if (result instanceof List) {
-                return (List<T>) result;
-            }
-        } catch (Exception e) {
-        }
-        return Collections.emptyList();
-    }
-
     @Override
     public boolean hasNext() {
         return nextUrl != null && !nextUrl.isEmpty();
@@ -327,12 +270,12 @@ public class AsyncPayrocPager<T> implements BiDirectionalPage<T> {
         Request.Builder requestBuilder = new Request.Builder()
                 .url(url)
                 .method("GET", null)
-                .headers(Headers.of(clientOptions.headers(requestOptions)))
+                .headers(clientOptions.httpHeaders(requestOptions))
                 .addHeader("Accept", "application/json");
 
         Request request = requestBuilder.build();
 
-        clientOptions.httpClient().newCall(request).enqueue(new Callback() {
+        HttpCalls.enqueue(clientOptions.httpClient(), request, new Callback() {
             @Override
             public void onFailure(Call call, IOException e) {
                 future.completeExceptionally(e);
@@ -352,8 +295,7 @@ public class AsyncPayrocPager<T> implements BiDirectionalPage<T> {
                         return;
                     }
 
-                    String responseBody = body.string();
-                    parseAndUpdateState(responseBody);
+                    parseAndUpdateState(body);
                     future.complete(AsyncPayrocPager.this);
                 } catch (Exception e) {
                     future.completeExceptionally(e);
@@ -366,33 +308,29 @@ public class AsyncPayrocPager<T> implements BiDirectionalPage<T> {
         return future;
     }
 
-    private void parseAndUpdateState(String responseBody) throws IOException {
-        List<T> items = itemsParser.apply(responseBody);
-        currentPage = new Page<>(items);
+    /**
+     * Decodes a fetched page in a single streaming pass. The typed response supplies the items,
+     * the navigation links and the full response, so the body is never re-read.
+     */
+    private void parseAndUpdateState(ResponseBody body) throws IOException {
+        updateState(ObjectMappers.readBody(body, responseClass));
+    }
 
-        JsonNode root = ObjectMappers.JSON_MAPPER.readTree(responseBody);
+    private void updateState(Object response) {
+        currentPage = new Page<>(dataExtractor.apply(response));
+        fullResponse = response;
         nextUrl = null;
         previousUrl = null;
 
-        JsonNode linksNode = root.get("links");
-        if (linksNode != null && linksNode.isArray()) {
-            for (JsonNode linkNode : linksNode) {
-                String rel = linkNode.has("rel") ? linkNode.get("rel").asText() : null;
-                String href = linkNode.has("href") ? linkNode.get("href").asText() : null;
-
-                if ("next".equals(rel) && href != null) {
-                    nextUrl = href;
-                } else if ("previous".equals(rel) && href != null) {
-                    previousUrl = href;
+        Optional<List<Link>> linksOpt = ((IPaginatedList) response).getLinks();
+        if (linksOpt.isPresent()) {
+            for (Link link : linksOpt.get()) {
+                if ("next".equals(link.getRel())) {
+                    nextUrl = link.getHref();
+                } else if ("previous".equals(link.getRel())) {
+                    previousUrl = link.getHref();
                 }
             }
         }
-
-        try {
-            if (fullResponse != null) {
-                fullResponse = ObjectMappers.JSON_MAPPER.readValue(responseBody, responseClass);
-            }
-        } catch (Exception ignored) {
-        }
     }
 }
@@ -0,0 +1,21 @@
+package com.payroc.api.core.pagination;
+
+import java.util.Iterator;
+
+/**
+ * An iterator that holds resources, such as a background fetch, which must be released
+ * when the caller stops iterating early.
+ *
+ * <p>Use it in a try-with-resources block so that abandoning iteration part-way through
+ * cancels any outstanding work.
+ *
+ * @param <T> The type of items returned by the iterator
+ */
+public interface CloseableIterator<T> extends Iterator<T>, AutoCloseable {
+
+    /**
+     * Releases the resources held by this iterator. Calling {@code close()} more than once has no effect.
+     */
+    @Override
+    void close();
+}
@@ -0,0 +1,110 @@
+package com.payroc.api.core.pagination;
+
+import com.payroc.api.resources.funding.fundingactivity.types.ListFundingActivityResponse;
+import com.payroc.api.resources.funding.fundingactivity.types.RetrieveBalanceFundingActivityResponse;
+import com.payroc.api.resources.funding.fundinginstructions.types.ListFundingInstructionsResponse;
+import com.payroc.api.resources.reporting.settlement.types.ListAchDepositFeesSettlementResponse;
+import com.payroc.api.resources.reporting.settlement.types.ListAchDepositsSettlementResponse;
+import com.payroc.api.resources.reporting.settlement.types.ListAuthorizationsSettlementResponse;
+import com.payroc.api.resources.reporting.settlement.types.ListBatchesSettlementResponse;
+import com.payroc.api.resources.reporting.settlement.types.ListDisputesSettlementResponse;
+import com.payroc.api.resources.reporting.settlement.types.ListTransactionsSettlementResponse;
+import com.payroc.api.types.BankTransferPaymentPaginatedList;
+import com.payroc.api.types.BankTransferRefundPaginatedList;
+import com.payroc.api.types.ListFundingAccounts;
+import com.payroc.api.types.PaginatedContacts;
+import com.payroc.api.types.PaginatedEventSubscriptions;
+import com.payroc.api.types.PaginatedFundRecipients;
+import com.payroc.api.types.PaginatedMerchants;
+import com.payroc.api.types.PaginatedOwners;
+import com.payroc.api.types.PaginatedPricingIntent;
+import com.payroc.api.types.PaginatedProcessingAccounts;
+import com.payroc.api.types.PaginatedProcessingTerminals;
+import com.payroc.api.types.PaymentLinkPaginatedList;
+import com.payroc.api.types.PaymentPaginatedListForRead;
+import com.payroc.api.types.PaymentPlanPaginatedList;
+import com.payroc.api.types.RefundPaginatedList;
+import com.payroc.api.types.SecureTokenPaginatedListWithAccountType;
+import com.payroc.api.types.SharingEventPaginatedList;
+import com.payroc.api.types.SubscriptionPaginatedList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Function;
+
+/**
+ * Registry of precomputed item extractors for every paginated response type.
+ *
+ * <p>The pagers resolve the extractor for their response class once, when they are created,
+ * and then call it directly for every page instead of looking up {@code getData()} reflectively.
+ * Response types without a registered extractor are rejected up front rather than being
+ * iterated as if they were empty.
+ */
+final class PaginatedDataExtractors {
+
+    private static final Map<Class<?>, Function<Object, List<?>>> EXTRACTORS = new HashMap<>();
+
+    static {
+        register(BankTransferPaymentPaginatedList.class, BankTransferPaymentPaginatedList::getData);
+        register(BankTransferRefundPaginatedList.class, BankTransferRefundPaginatedList::getData);
+        register(ListAchDepositFeesSettlementResponse.class, ListAchDepositFeesSettlementResponse::getData);
+        register(ListAchDepositsSettlementResponse.class, ListAchDepositsSettlementResponse::getData);
+        register(ListAuthorizationsSettlementResponse.class, ListAuthorizationsSettlementResponse::getData);
+        register(ListBatchesSettlementResponse.class, ListBatchesSettlementResponse::getData);
+        register(ListDisputesSettlementResponse.class, ListDisputesSettlementResponse::getData);
+        register(ListFundingAccounts.class, ListFundingAccounts::getData);
+        register(ListFundingActivityResponse.class, ListFundingActivityResponse::getData);
+        register(ListFundingInstructionsResponse.class, ListFundingInstructionsResponse::getData);
+        register(ListTransactionsSettlementResponse.class, ListTransactionsSettlementResponse::getData);
+        registerOptional(PaginatedContacts.class, PaginatedContacts::getData);
+        registerOptional(PaginatedEventSubscriptions.class, PaginatedEventSubscriptions::getData);
+        registerOptional(PaginatedFundRecipients.class, PaginatedFundRecipients::getData);
+        registerOptional(PaginatedMerchants.class, PaginatedMerchants::getData);
+        registerOptional(PaginatedOwners.class, PaginatedOwners::getData);
+        registerOptional(PaginatedPricingIntent.class, PaginatedPricingIntent::getData);
+        registerOptional(PaginatedProcessingAccounts.class, PaginatedProcessingAccounts::getData);
+        registerOptional(PaginatedProcessingTerminals.class, PaginatedProcessingTerminals::getData);
+        register(PaymentLinkPaginatedList.class, PaymentLinkPaginatedList::getData);
+        register(PaymentPaginatedListForRead.class, PaymentPaginatedListForRead::getData);
+        register(PaymentPlanPaginatedList.class, PaymentPlanPaginatedList::getData);
+        register(RefundPaginatedList.class, RefundPaginatedList::getData);
+        register(RetrieveBalanceFundingActivityResponse.class, RetrieveBalanceFundingActivityResponse::getData);
+        register(SecureTokenPaginatedListWithAccountType.class, SecureTokenPaginatedListWithAccountType::getData);
+        register(SharingEventPaginatedList.class, SharingEventPaginatedList::getData);
+        register(SubscriptionPaginatedList.class, SubscriptionPaginatedList::getData);
+    }
+
+    private PaginatedDataExtractors() {}
+
+    /**
+     * Returns the item extractor for the given paginated response class.
+     *
+     * @param <T> The type of items in the paginated list
+     * @param responseClass The class of the paginated response
+     * @return A function extracting the page items from a response of that class
+     * @throws IllegalArgumentException if no extractor is registered for the class
+     */
+    @SuppressWarnings("unchecked")
+    static <T> Function<Object, List<T>> forClass(Class<?> responseClass) {
+        Function<Object, List<?>> extractor = EXTRACTORS.get(responseClass);
+        if (extractor == null) {
+            throw new IllegalArgumentException(
+                    "No data extractor registered for paginated response type: " + responseClass.getName());
+        }
+        return (Function<Object, List<T>>) (Function<Object, ?>) extractor;
+    }
+
+    private static <R> void register(Class<R> responseClass, Function<R, List<?>> extractor) {
+        EXTRACTORS.put(responseClass, response -> extractor.apply(responseClass.cast(response)));
+    }
+
+    private static <R> void registerOptional(
+            Class<R> responseClass, Function<R, Optional<? extends List<?>>> extractor) {
+        EXTRACTORS.put(responseClass, response -> {
+            Optional<? extends List<?>> data = extractor.apply(responseClass.cast(response));
+            return data.isPresent() ? data.get() : Collections.emptyList();
+        });
+    }
+}
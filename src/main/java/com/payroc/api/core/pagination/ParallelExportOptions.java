@@ -0,0 +1,96 @@
+package com.payroc.api.core.pagination;
+
+import java.util.Optional;
+import java.util.concurrent.Executor;
+
+/**
+ * Configuration for a parallel, sharded export that walks one {@link PayrocPager} per shard
+ * and merges the results into a single stream.
+ *
+ * <pre>{@code
+ * ParallelExportOptions options = ParallelExportOptions.builder()
+ *     .parallelism(8)
+ *     .ordered(false)
+ *     .build();
+ * }</pre>
+ */
+public final class ParallelExportOptions {
+    private final int parallelism;
+
+    private final boolean ordered;
+
+    private final Optional<Executor> executor;
+
+    private ParallelExportOptions(int parallelism, boolean ordered, Optional<Executor> executor) {
+        this.parallelism = parallelism;
+        this.ordered = ordered;
+        this.executor = executor;
+    }
+
+    /**
+     * @return the maximum number of shards fetched concurrently
+     */
+    public int getParallelism() {
+        return parallelism;
+    }
+
+    /**
+     * @return whether items are emitted in shard order, or as soon as any shard returns a page
+     */
+    public boolean isOrdered() {
+        return ordered;
+    }
+
+    /**
+     * @return the executor that runs the shard fetches, if one was supplied
+     */
+    public Optional<Executor> getExecutor() {
+        return executor;
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    public static class Builder {
+        private int parallelism = 4;
+
+        private boolean ordered = true;
+
+        private Optional<Executor> executor = Optional.empty();
+
+        /**
+         * Override the maximum number of shards fetched concurrently. Defaults to 4.
+         */
+        public Builder parallelism(int parallelism) {
+            if (parallelism < 1) {
+                throw new IllegalArgumentException("Parallelism must be at least 1, got: " + parallelism);
+            }
+            this.parallelism = parallelism;
+            return this;
+        }
+
+        /**
+         * Emit items in shard order (the default), or unordered as soon as any shard returns a page.
+         * Ordered exports buffer at most two pages for each of the {@code parallelism} shards in flight;
+         * unordered exports buffer at most {@code 2 * parallelism} pages in total.
+         */
+        public Builder ordered(boolean ordered) {
+            this.ordered = ordered;
+            return this;
+        }
+
+        /**
+         * Run shard fetches on the given executor. When unset, each export uses its own pool of
+         * {@code parallelism} daemon threads that is shut down when the export completes or is closed.
+         */
+        public Builder executor(Executor executor) {
+            this.executor = Optional.of(executor);
+            return this;
+        }
+
+        public ParallelExportOptions build() {
+            return new ParallelExportOptions(parallelism, ordered, executor);
+        }
+    }
+}
@@ -0,0 +1,355 @@
+package com.payroc.api.core.pagination;
+
+import com.payroc.api.core.PayrocApiException;
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.io.UncheckedIOException;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * Runs one {@link PayrocPager} per shard on a bounded set of workers and merges the
+ * results into a single {@link Stream}.
+ *
+ * <p>This is used to export listings that can only be walked as one sequential cursor per filter
+ * value, such as the settlement reports that are filtered by a single date. Splitting the
+ * requested window into shards lets several cursors be followed at the same time.
+ *
+ * <pre>{@code
+ * try (Stream<Transaction> transactions = ParallelPagerExport.stream(
+ *         ParallelPagerExport.days(dateFrom, dateTo),
+ *         day -> client.reporting().settlement().listTransactions(
+ *                 ListReportingSettlementTransactionsRequest.builder().date(day).build()),
+ *         ParallelExportOptions.builder().parallelism(8).build())) {
+ *     transactions.forEach(this::reconcile);
+ * }
+ * }</pre>
+ *
+ * <p>The returned stream holds worker threads until it is exhausted, so close it (for example with
+ * try-with-resources) when stopping early. A failure in any shard is rethrown to the consumer and
+ * stops the remaining shards.
+ */
+public final class ParallelPagerExport {
+
+    /**
+     * Marks the end of a shard in ordered mode, and the end of a worker in unordered mode.
+     */
+    private static final Object SHARD_WORKER_DONE = new Object();
+
+    private ParallelPagerExport() {}
+
+    /**
+     * Splits an inclusive date window into one shard per day.
+     *
+     * @param dateFrom The first day of the window
+     * @param dateTo The last day of the window, inclusive
+     * @return The days in the window, in order
+     * @throws IllegalArgumentException if {@code dateTo} is before {@code dateFrom}
+     */
+    public static List<LocalDate> days(LocalDate dateFrom, LocalDate dateTo) {
+        if (dateTo.isBefore(dateFrom)) {
+            throw new IllegalArgumentException("dateTo " + dateTo + " is before dateFrom " + dateFrom);
+        }
+        List<LocalDate> days = new ArrayList<>();
+        for (LocalDate day = dateFrom; !day.isAfter(dateTo); day = day.plusDays(1)) {
+            days.add(day);
+        }
+        return days;
+    }
+
+    /**
+     * Walks one pager per shard in parallel and merges their items into a single stream.
+     *
+     * @param <S> The shard type, for example a {@link LocalDate}
+     * @param <T> The type of items in each page
+     * @param shards The shards to export
+     * @param pagerFactory Function that issues the first request for a shard and returns its pager
+     * @param options The parallelism, ordering and executor to use
+     * @return A stream of all items across all shards
+     */
+    public static <S, T> Stream<T> stream(
+            List<S> shards, Function<? super S, PayrocPager<T>> pagerFactory, ParallelExportOptions options) {
+        ShardedIterator<S, T> iterator = options.isOrdered()
+                ? new OrderedShardIterator<>(shards, pagerFactory, options)
+                : new UnorderedShardIterator<>(shards, pagerFactory, options);
+        iterator.start(options);
+        int characteristics = options.isOrdered() ? Spliterator.ORDERED | Spliterator.NONNULL : Spliterator.NONNULL;
+        return StreamSupport.stream(Spliterators.spliteratorUnknownSize(iterator, characteristics), false)
+                .onClose(iterator::close);
+    }
+
+    private abstract static class ShardedIterator<S, T> implements CloseableIterator<T> {
+        protected final List<S> shards;
+        protected final Function<? super S, PayrocPager<T>> pagerFactory;
+        protected final AtomicInteger nextShard = new AtomicInteger();
+        protected final List<FutureTask<Void>> workers = new ArrayList<>();
+        protected Iterator<T> currentIterator = Collections.emptyIterator();
+        protected volatile boolean closed;
+        private ExecutorService ownedExecutor;
+
+        ShardedIterator(List<S> shards, Function<? super S, PayrocPager<T>> pagerFactory) {
+            this.shards = shards;
+            this.pagerFactory = pagerFactory;
+        }
+
+        void start(ParallelExportOptions options) {
+            int workerCount = Math.min(options.getParallelism(), shards.size());
+            Executor executor;
+            if (options.getExecutor().isPresent()) {
+                executor = options.getExecutor().get();
+            } else if (workerCount > 0) {
+                ownedExecutor = Executors.newFixedThreadPool(workerCount, runnable -> {
+                    Thread thread = new Thread(runnable, "payroc-parallel-export");
+                    thread.setDaemon(true);
+                    return thread;
+                });
+                executor = ownedExecutor;
+            } else {
+                return;
+            }
+            for (int i = 0; i < workerCount; i++) {
+                FutureTask<Void> worker = new FutureTask<>(this::runWorker, null);
+                workers.add(worker);
+            }
+            for (FutureTask<Void> worker : workers) {
+                executor.execute(worker);
+            }
+        }
+
+        protected abstract void runWorker();
+
+        @Override
+        public T next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            return currentIterator.next();
+        }
+
+        @Override
+        public void close() {
+            if (closed) {
+                return;
+            }
+            closed = true;
+            currentIterator = Collections.emptyIterator();
+            for (FutureTask<Void> worker : workers) {
+                worker.cancel(true);
+            }
+            if (ownedExecutor != null) {
+                ownedExecutor.shutdownNow();
+            }
+        }
+
+        protected RuntimeException failure(Throwable cause) {
+            close();
+            if (cause instanceof IOException) {
+                return new UncheckedIOException("Failed to export shard", (IOException) cause);
+            }
+            if (cause instanceof RuntimeException) {
+                return (RuntimeException) cause;
+            }
+            if (cause instanceof Error) {
+                throw (Error) cause;
+            }
+            return new PayrocApiException("Failed to export shard", (Exception) cause);
+        }
+
+        protected RuntimeException interrupted() {
+            Thread.currentThread().interrupt();
+            close();
+            return new UncheckedIOException("Interrupted while waiting for export shard", new InterruptedIOException());
+        }
+    }
+
+    /**
+     * Emits shards in order. Each worker streams its shard's pages into a small per-shard queue
+     * that the consumer drains in shard order, so at most {@code parallelism} shards are in flight
+     * and each of them buffers only a few pages.
+     */
+    private static final class OrderedShardIterator<S, T> extends ShardedIterator<S, T> {
+        private static final int PAGES_PER_SHARD = 2;
+
+        private final List<BlockingQueue<Object>> shardPages;
+        private final Semaphore window;
+        private int consumedShards;
+
+        OrderedShardIterator(
+                List<S> shards, Function<? super S, PayrocPager<T>> pagerFactory, ParallelExportOptions options) {
+            super(shards, pagerFactory);
+            this.shardPages = new ArrayList<>(shards.size());
+            for (int i = 0; i < shards.size(); i++) {
+                shardPages.add(new ArrayBlockingQueue<>(PAGES_PER_SHARD));
+            }
+            this.window = new Semaphore(options.getParallelism());
+        }
+
+        @Override
+        protected void runWorker() {
+            while (!closed) {
+                try {
+                    window.acquire();
+                } catch (InterruptedException e) {
+                    return;
+                }
+                int shard = nextShard.getAndIncrement();
+                if (shard >= shards.size()) {
+                    window.release();
+                    return;
+                }
+                BlockingQueue<Object> pages = shardPages.get(shard);
+                Object outcome = SHARD_WORKER_DONE;
+                try {
+                    PayrocPager<T> pager = pagerFactory.apply(shards.get(shard));
+                    pages.put(pager.getItems());
+                    while (!closed && pager.hasNext()) {
+                        pager.nextPage();
+                        if (closed) {
+                            return;
+                        }
+                        pages.put(pager.getItems());
+                    }
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return;
+                } catch (Throwable t) {
+                    outcome = t;
+                }
+                // Once closed, nobody drains the queue. The HTTP client may have turned the interrupt from
+                // close() into an exception and cleared it, so a put on a full queue would block for good.
+                if (closed) {
+                    return;
+                }
+                try {
+                    // The shard always ends with a marker, so the consumer never waits on a dead worker
+                    pages.put(outcome);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+            }
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public boolean hasNext() {
+            while (!currentIterator.hasNext()) {
+                if (closed) {
+                    return false;
+                }
+                if (consumedShards >= shards.size()) {
+                    close();
+                    return false;
+                }
+                Object next;
+                try {
+                    next = shardPages.get(consumedShards).take();
+                } catch (InterruptedException e) {
+                    throw interrupted();
+                }
+                if (next == SHARD_WORKER_DONE) {
+                    shardPages.set(consumedShards, null);
+                    consumedShards++;
+                    window.release();
+                } else if (next instanceof Throwable) {
+                    throw failure((Throwable) next);
+                } else {
+                    currentIterator = ((List<T>) next).iterator();
+                }
+            }
+            return true;
+        }
+    }
+
+    /**
+     * Emits pages as soon as any shard returns them. Workers hand over one page at a time,
+     * so only a bounded number of pages is buffered regardless of shard size.
+     */
+    private static final class UnorderedShardIterator<S, T> extends ShardedIterator<S, T> {
+        private final BlockingQueue<Object> fetchedPages;
+        private int runningWorkers;
+
+        UnorderedShardIterator(
+                List<S> shards, Function<? super S, PayrocPager<T>> pagerFactory, ParallelExportOptions options) {
+            super(shards, pagerFactory);
+            this.fetchedPages = new ArrayBlockingQueue<>(options.getParallelism() * 2);
+        }
+
+        @Override
+        void start(ParallelExportOptions options) {
+            super.start(options);
+            this.runningWorkers = workers.size();
+        }
+
+        @Override
+        protected void runWorker() {
+            try {
+                int shard;
+                while (!closed && (shard = nextShard.getAndIncrement()) < shards.size()) {
+                    PayrocPager<T> pager = pagerFactory.apply(shards.get(shard));
+                    fetchedPages.put(pager.getItems());
+                    while (!closed && pager.hasNext()) {
+                        pager.nextPage();
+                        fetchedPages.put(pager.getItems());
+                    }
+                }
+                fetchedPages.put(SHARD_WORKER_DONE);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            } catch (Throwable e) {
+                if (!closed) {
+                    try {
+                        fetchedPages.put(e);
+                    } catch (InterruptedException interrupted) {
+                        Thread.currentThread().interrupt();
+                    }
+                }
+            }
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public boolean hasNext() {
+            while (!currentIterator.hasNext()) {
+                if (closed) {
+                    return false;
+                }
+                if (runningWorkers == 0) {
+                    close();
+                    return false;
+                }
+                Object next;
+                try {
+                    next = fetchedPages.take();
+                } catch (InterruptedException e) {
+                    throw interrupted();
+                }
+                if (next == SHARD_WORKER_DONE) {
+                    runningWorkers--;
+                } else if (next instanceof Throwable) {
+                    throw failure((Throwable) next);
+                } else {
+                    currentIterator = ((List<T>) next).iterator();
+                }
+            }
+            return true;
+        }
+    }
+}
@@ -1,12 +1,13 @@
 package com.payroc.api.core.pagination;
 
-import com.fasterxml.jackson.databind.JsonNode;
 import com.payroc.api.core.ClientOptions;
+import com.payroc.api.core.HttpCalls;
 import com.payroc.api.core.ObjectMappers;
 import com.payroc.api.core.RequestOptions;
 import com.payroc.api.types.IPaginatedList;
 import com.payroc.api.types.Link;
 import java.io.IOException;
+import java.io.InterruptedIOException;
 import java.io.UncheckedIOException;
 import java.util.Collections;
 import java.util.Iterator;
@@ -15,10 +16,14 @@ import java.util.NoSuchElementException;
 import java.util.Optional;
 import java.util.Spliterator;
 import java.util.Spliterators;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.FutureTask;
 import java.util.function.Function;
 import java.util.stream.Stream;
 import java.util.stream.StreamSupport;
-import okhttp3.Headers;
+import okhttp3.Call;
 import okhttp3.Request;
 import okhttp3.Response;
 import okhttp3.ResponseBody;
@@ -57,6 +62,16 @@ import okhttp3.ResponseBody;
  * }
  * }</pre>
  *
+ * <h3>Prefetching the next page while processing the current one:</h3>
+ * <pre>{@code
+ * PayrocPager<Payment> pager = client.payments().list();
+ * try (CloseableIterator<Payment> payments = pager.prefetching(2, executor)) {
+ *     while (payments.hasNext()) {
+ *         process(payments.next());
+ *     }
+ * }
+ * }</pre>
+ *
  * <h3>Manual navigation:</h3>
  * <pre>{@code
  * PayrocPager<Payment> pager = client.payments().list();
@@ -70,33 +85,33 @@ import okhttp3.ResponseBody;
  */
 public class PayrocPager<T> implements BiDirectionalPage<T>, Iterable<T> {
 
+    private static final Object END_OF_PAGES = new Object();
+
     private final ClientOptions clientOptions;
-    private final Function<String, List<T>> itemsParser;
+    private final Class<?> responseClass;
+    private final Function<Object, List<T>> dataExtractor;
     private final RequestOptions requestOptions;
 
     private Page<T> currentPage;
     private String nextUrl;
     private String previousUrl;
     private Object fullResponse;
+    private volatile Call inFlightCall;
 
     /**
      * Private constructor - use the static create() method.
      */
     private PayrocPager(
             ClientOptions clientOptions,
-            Function<String, List<T>> itemsParser,
+            Class<?> responseClass,
+            Function<Object, List<T>> dataExtractor,
             RequestOptions requestOptions,
-            Page<T> currentPage,
-            String nextUrl,
-            String previousUrl,
-            Object fullResponse) {
+            Object initialResponse) {
         this.clientOptions = clientOptions;
-        this.itemsParser = itemsParser;
+        this.responseClass = responseClass;
+        this.dataExtractor = dataExtractor;
         this.requestOptions = requestOptions;
-        this.currentPage = currentPage;
-        this.nextUrl = nextUrl;
-        this.previousUrl = previousUrl;
-        this.fullResponse = fullResponse;
+        updateState(initialResponse);
     }
 
     /**
@@ -122,37 +137,12 @@ public class PayrocPager<T> implements BiDirectionalPage<T>, Iterable<T> {
             Function<R, List<T>> dataExtractor,
             Class<R> responseClass)
             throws IOException {
-
-        List<T> items = dataExtractor.apply(initialResponse);
-        if (items == null) {
-            items = Collections.emptyList();
-        }
-
-        String nextUrl = null;
-        String previousUrl = null;
-        Optional<List<Link>> linksOpt = initialResponse.getLinks();
-        if (linksOpt.isPresent()) {
-            for (Link link : linksOpt.get()) {
-                if ("next".equals(link.getRel())) {
-                    nextUrl = link.getHref();
-                } else if ("previous".equals(link.getRel())) {
-                    previousUrl = link.getHref();
-                }
-            }
-        }
-
-        Function<String, List<T>> itemsParser = (responseBody) -> {
-            try {
-                R parsed = ObjectMappers.JSON_MAPPER.readValue(responseBody, responseClass);
-                List<T> parsedItems = dataExtractor.apply(parsed);
-                return parsedItems != null ? parsedItems : Collections.emptyList();
-            } catch (IOException e) {
-                throw new UncheckedIOException("Failed to parse paginated response", e);
-            }
-        };
-
         return new PayrocPager<>(
-                clientOptions, itemsParser, requestOptions, new Page<>(items), nextUrl, previousUrl, initialResponse);
+                clientOptions,
+                responseClass,
+                response -> dataExtractor.apply(responseClass.cast(response)),
+                requestOptions,
+                initialResponse);
     }
 
     /**
@@ -175,56 +165,12 @@ public class PayrocPager<T> implements BiDirectionalPage<T>, Iterable<T> {
                     + initialResponse.getClass().getName());
         }
 
-        IPaginatedList paginatedResponse = (IPaginatedList) initialResponse;
-        List<T> items = extractDataField(initialResponse);
-
-        String nextUrl = null;
-        String previousUrl = null;
-        Optional<List<Link>> linksOpt = paginatedResponse.getLinks();
-        if (linksOpt.isPresent()) {
-            for (Link link : linksOpt.get()) {
-                if ("next".equals(link.getRel())) {
-                    nextUrl = link.getHref();
-                } else if ("previous".equals(link.getRel())) {
-                    previousUrl = link.getHref();
-                }
-            }
-        }
-
-        Class<?> responseClass = initialResponse.getClass();
-        Function<String, List<T>> itemsParser = (responseBody) -> {
-            try {
-                Object parsed = ObjectMappers.JSON_MAPPER.readValue(responseBody, responseClass);
-                return extractDataField(parsed);
-            } catch (IOException e) {
-                throw new UncheckedIOException("Failed to parse paginated response", e);
-            }
-        };
-
         return new PayrocPager<>(
-                clientOptions, itemsParser, requestOptions, new Page<>(items), nextUrl, previousUrl, initialResponse);
-    }
-
-    @SuppressWarnings("unchecked")
-    private static <T> List<T> extractDataField(Object response) {
-        try {
-            java.lang.reflect.Method getDataMethod = response.getClass().getMethod("getData");
-            Object result = getDataMethod.invoke(response);
-
-            if (result instanceof Optional) {
-                Optional<?> optResult = (Optional<?>) result;
-                if (optResult.isPresent() && optResult.get() instanceof List) {
-                    return (List<T>) optResult.get();
-                }
-                return Collections.emptyList();
-            } else if (result instanceof List) {
-                return (List<T>) result;
-            }
-        } catch (NoSuchMethodException e) {
-        } catch (Exception e) {
-        }
-
-        return Collections.emptyList();
+                clientOptions,
+                initialResponse.getClass(),
+                PaginatedDataExtractors.forClass(initialResponse.getClass()),
+                requestOptions,
+                initialResponse);
     }
 
     @Override
@@ -335,16 +281,47 @@ public class PayrocPager<T> implements BiDirectionalPage<T>, Iterable<T> {
         return new AutoPaginatingIterator();
     }
 
+    /**
+     * Returns an iterator over all items that fetches upcoming pages in the background, so the
+     * network round-trip for page N+1 overlaps with the caller processing page N.
+     *
+     * <p>At most {@code depth} fetched pages are buffered ahead of the caller; once the buffer is
+     * full, fetching pauses until the caller catches up. Closing the iterator cancels the in-flight
+     * request and stops the background fetch. While the iterator is open, the background fetch owns
+     * this pager's navigation state, so do not call {@link #nextPage()} or {@link #previousPage()}
+     * until it has been closed or exhausted.
+     *
+     * <pre>{@code
+     * try (CloseableIterator<Payment> payments = pager.prefetching(2, executor)) {
+     *     while (payments.hasNext()) {
+     *         process(payments.next());
+     *     }
+     * }
+     * }</pre>
+     *
+     * @param depth The maximum number of pages to fetch ahead of the caller, at least 1
+     * @param executor The executor that runs the background fetch
+     * @return A closeable iterator over all items
+     */
+    public CloseableIterator<T> prefetching(int depth, Executor executor) {
+        if (depth < 1) {
+            throw new IllegalArgumentException("Prefetch depth must be at least 1, got: " + depth);
+        }
+        PrefetchingIterator prefetchingIterator = new PrefetchingIterator(depth);
+        executor.execute(prefetchingIterator.producer);
+        return prefetchingIterator;
+    }
+
     private void fetchPage(String url) throws IOException {
         Request.Builder requestBuilder = new Request.Builder()
                 .url(url)
                 .method("GET", null)
-                .headers(Headers.of(clientOptions.headers(requestOptions)))
+                .headers(clientOptions.httpHeaders(requestOptions))
                 .addHeader("Accept", "application/json");
 
         Request request = requestBuilder.build();
 
-        try (Response response = clientOptions.httpClient().newCall(request).execute()) {
+        try (Response response = HttpCalls.execute(clientOptions.httpClient(), request, call -> inFlightCall = call)) {
             if (!response.isSuccessful()) {
                 throw new IOException("Failed to fetch page: HTTP " + response.code());
             }
@@ -354,39 +331,36 @@ public class PayrocPager<T> implements BiDirectionalPage<T>, Iterable<T> {
                 throw new IOException("Empty response body");
             }
 
-            String responseBody = body.string();
-            parseAndUpdateState(responseBody);
+            parseAndUpdateState(body);
+        } finally {
+            inFlightCall = null;
         }
     }
 
-    private void parseAndUpdateState(String responseBody) throws IOException {
-        List<T> items = itemsParser.apply(responseBody);
-        currentPage = new Page<>(items);
+    /**
+     * Decodes a fetched page in a single streaming pass. The typed response supplies the items,
+     * the navigation links and the full response, so the body is never re-read.
+     */
+    private void parseAndUpdateState(ResponseBody body) throws IOException {
+        updateState(ObjectMappers.readBody(body, responseClass));
+    }
 
-        JsonNode root = ObjectMappers.JSON_MAPPER.readTree(responseBody);
+    private void updateState(Object response) {
+        currentPage = new Page<>(dataExtractor.apply(response));
+        fullResponse = response;
         nextUrl = null;
         previousUrl = null;
 
-        JsonNode linksNode = root.get("links");
-        if (linksNode != null && linksNode.isArray()) {
-            for (JsonNode linkNode : linksNode) {
-                String rel = linkNode.has("rel") ? linkNode.get("rel").asText() : null;
-                String href = linkNode.has("href") ? linkNode.get("href").asText() : null;
-
-                if ("next".equals(rel) && href != null) {
-                    nextUrl = href;
-                } else if ("previous".equals(rel) && href != null) {
-                    previousUrl = href;
+        Optional<List<Link>> linksOpt = ((IPaginatedList) response).getLinks();
+        if (linksOpt.isPresent()) {
+            for (Link link : linksOpt.get()) {
+                if ("next".equals(link.getRel())) {
+                    nextUrl = link.getHref();
+                } else if ("previous".equals(link.getRel())) {
+                    previousUrl = link.getHref();
                 }
             }
         }
-
-        try {
-            if (fullResponse != null) {
-                fullResponse = ObjectMappers.JSON_MAPPER.readValue(responseBody, fullResponse.getClass());
-            }
-        } catch (Exception ignored) {
-        }
     }
 
     private class AutoPaginatingIterator implements Iterator<T> {
@@ -427,6 +401,113 @@ public class PayrocPager<T> implements BiDirectionalPage<T>, Iterable<T> {
         }
     }
 
+    private class PrefetchingIterator implements CloseableIterator<T> {
+        private final BlockingQueue<Object> fetchedPages;
+        private final FutureTask<Void> producer;
+        private Iterator<T> currentIterator;
+        private boolean finished;
+        private volatile boolean closed;
+
+        PrefetchingIterator(int depth) {
+            this.fetchedPages = new ArrayBlockingQueue<>(depth);
+            this.producer = new FutureTask<>(this::fetchRemainingPages, null);
+            this.currentIterator = currentPage.iterator();
+            this.finished = false;
+            this.closed = false;
+        }
+
+        private void fetchRemainingPages() {
+            Object outcome = END_OF_PAGES;
+            boolean interrupted = false;
+            try {
+                while (!closed && PayrocPager.this.hasNext()) {
+                    PayrocPager.this.nextPage();
+                    fetchedPages.put(currentPage);
+                }
+            } catch (InterruptedException e) {
+                interrupted = true;
+                outcome = new InterruptedIOException("Interrupted while prefetching pages");
+            } catch (Throwable t) {
+                // Errors too: the consumer is waiting for an outcome and would otherwise block forever
+                outcome = t;
+            }
+
+            try {
+                if (!closed) {
+                    fetchedPages.put(outcome);
+                }
+            } catch (InterruptedException e) {
+                interrupted = true;
+            }
+            if (interrupted) {
+                Thread.currentThread().interrupt();
+            }
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public boolean hasNext() {
+            while (!currentIterator.hasNext()) {
+                if (finished) {
+                    return false;
+                }
+
+                Object next;
+                try {
+                    next = fetchedPages.take();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    close();
+                    throw new UncheckedIOException(
+                            "Interrupted while waiting for next page", new InterruptedIOException());
+                }
+
+                if (next == END_OF_PAGES) {
+                    finished = true;
+                    return false;
+                }
+                if (next instanceof IOException) {
+                    finished = true;
+                    throw new UncheckedIOException("Failed to fetch next page", (IOException) next);
+                }
+                if (next instanceof RuntimeException) {
+                    finished = true;
+                    throw (RuntimeException) next;
+                }
+                if (next instanceof Error) {
+                    finished = true;
+                    throw (Error) next;
+                }
+                currentIterator = ((Page<T>) next).iterator();
+            }
+            return true;
+        }
+
+        @Override
+        public T next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            return currentIterator.next();
+        }
+
+        @Override
+        public void close() {
+            if (closed) {
+                return;
+            }
+            closed = true;
+            finished = true;
+            currentIterator = Collections.emptyIterator();
+            producer.cancel(true);
+            Call call = inFlightCall;
+            if (call != null) {
+                call.cancel();
+            }
+            fetchedPages.clear();
+        }
+    }
+
     private class PageIterator implements Iterator<Page<T>> {
         private boolean returnedFirst;
 
@@ -5,7 +5,8 @@ package com.payroc.api.resources.applepaysessions;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.payroc.api.core.ClientOptions;
-import com.payroc.api.core.MediaTypes;
+import com.payroc.api.core.HttpCalls;
+import com.payroc.api.core.JsonRequestBody;
 import com.payroc.api.core.ObjectMappers;
 import com.payroc.api.core.PayrocApiApiException;
 import com.payroc.api.core.PayrocApiException;
@@ -21,7 +22,6 @@ import java.io.IOException;
 import java.util.concurrent.CompletableFuture;
 import okhttp3.Call;
 import okhttp3.Callback;
-import okhttp3.Headers;
 import okhttp3.HttpUrl;
 import okhttp3.OkHttpClient;
 import okhttp3.Request;
@@ -54,7 +54,9 @@ public class AsyncRawApplePaySessionsClient {
      */
     public CompletableFuture<PayrocApiHttpResponse<ApplePayResponseSession>> create(
             String processingTerminalId, ApplePaySessions request, RequestOptions requestOptions) {
-        HttpUrl.Builder httpUrl = HttpUrl.parse(this.clientOptions.environment().getApiURL())
+        HttpUrl.Builder httpUrl = this.clientOptions
+                .environment()
+                .getApiHttpUrl()
                 .newBuilder()
                 .addPathSegments("processing-terminals")
                 .addPathSegment(processingTerminalId)
@@ -66,15 +68,14 @@ public class AsyncRawApplePaySessionsClient {
         }
         RequestBody body;
         try {
-            body = RequestBody.create(
-                    ObjectMappers.JSON_MAPPER.writeValueAsBytes(request), MediaTypes.APPLICATION_JSON);
+            body = JsonRequestBody.of(clientOptions, request);
         } catch (JsonProcessingException e) {
             throw new PayrocApiException("Failed to serialize request", e);
         }
         Request okhttpRequest = new Request.Builder()
                 .url(httpUrl.build())
                 .method("POST", body)
-                .headers(Headers.of(clientOptions.headers(requestOptions)))
+                .headers(clientOptions.httpHeaders(requestOptions))
                 .addHeader("Content-Type", "application/json")
                 .addHeader("Accept", "application/json")
                 .build();
@@ -83,17 +84,16 @@ public class AsyncRawApplePaySessionsClient {
             client = clientOptions.httpClientWithTimeout(requestOptions);
         }
         CompletableFuture<PayrocApiHttpResponse<ApplePayResponseSession>> future = new CompletableFuture<>();
-        client.newCall(okhttpRequest).enqueue(new Callback() {
+        HttpCalls.enqueue(client, okhttpRequest, new Callback() {
             @Override
             public void onResponse(@NotNull Call call, @NotNull Response response) throws IOException {
                 try (ResponseBody responseBody = response.body()) {
-                    String responseBodyString = responseBody != null ? responseBody.string() : "{}";
                     if (response.isSuccessful()) {
                         future.complete(new PayrocApiHttpResponse<>(
-                                ObjectMappers.JSON_MAPPER.readValue(responseBodyString, ApplePayResponseSession.class),
-                                response));
+                                ObjectMappers.readBody(responseBody, ApplePayResponseSession.class), response));
                         return;
                     }
+                    String responseBodyString = responseBody != null ? responseBody.string() : "{}";
                     try {
                         switch (response.code()) {
                             case 400:
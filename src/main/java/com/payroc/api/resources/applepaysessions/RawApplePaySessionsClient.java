@@ -5,7 +5,8 @@ package com.payroc.api.resources.applepaysessions;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.payroc.api.core.ClientOptions;
-import com.payroc.api.core.MediaTypes;
+import com.payroc.api.core.HttpCalls;
+import com.payroc.api.core.JsonRequestBody;
 import com.payroc.api.core.ObjectMappers;
 import com.payroc.api.core.PayrocApiApiException;
 import com.payroc.api.core.PayrocApiException;
@@ -18,7 +19,6 @@ import com.payroc.api.types.ApplePayResponseSession;
 import com.payroc.api.types.FiveHundred;
 import com.payroc.api.types.FourHundred;
 import java.io.IOException;
-import okhttp3.Headers;
 import okhttp3.HttpUrl;
 import okhttp3.OkHttpClient;
 import okhttp3.Request;
@@ -50,7 +50,9 @@ public class RawApplePaySessionsClient {
      */
     public PayrocApiHttpResponse<ApplePayResponseSession> create(
             String processingTerminalId, ApplePaySessions request, RequestOptions requestOptions) {
-        HttpUrl.Builder httpUrl = HttpUrl.parse(this.clientOptions.environment().getApiURL())
+        HttpUrl.Builder httpUrl = this.clientOptions
+                .environment()
+                .getApiHttpUrl()
                 .newBuilder()
                 .addPathSegments("processing-terminals")
                 .addPathSegment(processingTerminalId)
@@ -62,15 +64,14 @@ public class RawApplePaySessionsClient {
         }
         RequestBody body;
         try {
-            body = RequestBody.create(
-                    ObjectMappers.JSON_MAPPER.writeValueAsBytes(request), MediaTypes.APPLICATION_JSON);
+            body = JsonRequestBody.of(clientOptions, request);
         } catch (JsonProcessingException e) {
             throw new PayrocApiException("Failed to serialize request", e);
         }
         Request okhttpRequest = new Request.Builder()
                 .url(httpUrl.build())
                 .method("POST", body)
-                .headers(Headers.of(clientOptions.headers(requestOptions)))
+                .headers(clientOptions.httpHeaders(requestOptions))
                 .addHeader("Content-Type", "application/json")
                 .addHeader("Accept", "application/json")
                 .build();
@@ -78,14 +79,13 @@ public class RawApplePaySessionsClient {
         if (requestOptions != null && requestOptions.getTimeout().isPresent()) {
             client = clientOptions.httpClientWithTimeout(requestOptions);
         }
-        try (Response response = client.newCall(okhttpRequest).execute()) {
+        try (Response response = HttpCalls.execute(client, okhttpRequest)) {
             ResponseBody responseBody = response.body();
-            String responseBodyString = responseBody != null ? responseBody.string() : "{}";
             if (response.isSuccessful()) {
                 return new PayrocApiHttpResponse<>(
-                        ObjectMappers.JSON_MAPPER.readValue(responseBodyString, ApplePayResponseSession.class),
-                        response);
+                        ObjectMappers.readBody(responseBody, ApplePayResponseSession.class), response);
             }
+            String responseBodyString = responseBody != null ? responseBody.string() : "{}";
             try {
                 switch (response.code()) {
                     case 400:
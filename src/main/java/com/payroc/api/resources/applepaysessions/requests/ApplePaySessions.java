@@ -11,6 +11,7 @@ import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.annotation.JsonSetter;
 import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
 import com.payroc.api.core.ObjectMappers;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.Objects;
@@ -107,8 +108,7 @@ public final class ApplePaySessions {
 
         private String appleValidationUrl;
 
-        @JsonAnySetter
-        private Map<String, Object> additionalProperties = new HashMap<>();
+        private Map<String, Object> additionalProperties = Collections.emptyMap();
 
         private Builder() {}
 
@@ -149,13 +149,20 @@ public final class ApplePaySessions {
         }
 
         @java.lang.Override
+        @JsonAnySetter
         public Builder additionalProperty(String key, Object value) {
+            if (this.additionalProperties.isEmpty()) {
+                this.additionalProperties = new HashMap<>();
+            }
             this.additionalProperties.put(key, value);
             return this;
         }
 
         @java.lang.Override
         public Builder additionalProperties(Map<String, Object> additionalProperties) {
+            if (this.additionalProperties.isEmpty()) {
+                this.additionalProperties = new HashMap<>();
+            }
             this.additionalProperties.putAll(additionalProperties);
             return this;
         }
@@ -6,6 +6,7 @@ package com.payroc.api.resources.attachments;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.payroc.api.core.ClientOptions;
 import com.payroc.api.core.FileStream;
+import com.payroc.api.core.HttpCalls;
 import com.payroc.api.core.ObjectMappers;
 import com.payroc.api.core.PayrocApiApiException;
 import com.payroc.api.core.PayrocApiException;
@@ -38,7 +39,6 @@ import java.nio.file.Files;
 import java.util.concurrent.CompletableFuture;
 import okhttp3.Call;
 import okhttp3.Callback;
-import okhttp3.Headers;
 import okhttp3.HttpUrl;
 import okhttp3.MediaType;
 import okhttp3.MultipartBody;
@@ -95,7 +95,9 @@ public class AsyncRawAttachmentsClient {
      */
     public CompletableFuture<PayrocApiHttpResponse<Attachment>> uploadToProcessingAccount(
             String processingAccountId, File file, UploadAttachment request, RequestOptions requestOptions) {
-        HttpUrl.Builder httpUrl = HttpUrl.parse(this.clientOptions.environment().getApiURL())
+        HttpUrl.Builder httpUrl = this.clientOptions
+                .environment()
+                .getApiHttpUrl()
                 .newBuilder()
                 .addPathSegments("processing-accounts")
                 .addPathSegment(processingAccountId)
@@ -119,25 +121,25 @@ public class AsyncRawAttachmentsClient {
         Request.Builder _requestBuilder = new Request.Builder()
                 .url(httpUrl.build())
                 .method("POST", multipartBodyBuilder.build())
-                .headers(Headers.of(clientOptions.headers(requestOptions)))
+                .headers(clientOptions.httpHeaders(requestOptions))
                 .addHeader("Accept", "application/json");
-        _requestBuilder.addHeader("Idempotency-Key", request.getIdempotencyKey());
+        _requestBuilder.addHeader("Idempotency-Key", clientOptions.idempotencyKey(request.getIdempotencyKey()));
         Request okhttpRequest = _requestBuilder.build();
         OkHttpClient client = clientOptions.httpClient();
         if (requestOptions != null && requestOptions.getTimeout().isPresent()) {
             client = clientOptions.httpClientWithTimeout(requestOptions);
         }
         CompletableFuture<PayrocApiHttpResponse<Attachment>> future = new CompletableFuture<>();
-        client.newCall(okhttpRequest).enqueue(new Callback() {
+        HttpCalls.enqueue(client, okhttpRequest, new Callback() {
             @Override
             public void onResponse(@NotNull Call call, @NotNull Response response) throws IOException {
                 try (ResponseBody responseBody = response.body()) {
-                    String responseBodyString = responseBody != null ? responseBody.string() : "{}";
                     if (response.isSuccessful()) {
                         future.complete(new PayrocApiHttpResponse<>(
-                                ObjectMappers.JSON_MAPPER.readValue(responseBodyString, Attachment.class), response));
+                                ObjectMappers.readBody(responseBody, Attachment.class), response));
                         return;
                     }
+                    String responseBodyString = responseBody != null ? responseBody.string() : "{}";
                     try {
                         switch (response.code()) {
                             case 400:
@@ -210,7 +212,9 @@ public class AsyncRawAttachmentsClient {
 
     public CompletableFuture<PayrocApiHttpResponse<Attachment>> uploadToProcessingAccount(
             String processingAccountId, InputStream stream, String filename) {
-        HttpUrl.Builder httpUrl = HttpUrl.parse(this.clientOptions.environment().getApiURL())
+        HttpUrl.Builder httpUrl = this.clientOptions
+                .environment()
+                .getApiHttpUrl()
                 .newBuilder()
                 .addPathSegments("processing-accounts")
                 .addPathSegment(processingAccountId)
@@ -222,20 +226,20 @@ public class AsyncRawAttachmentsClient {
         Request.Builder _requestBuilder = new Request.Builder();
         _requestBuilder.url(httpUrl.build());
         _requestBuilder.method("POST", body);
-        _requestBuilder.headers(Headers.of(this.clientOptions.headers(null)));
+        _requestBuilder.headers(this.clientOptions.httpHeaders(null));
         Request okhttpRequest = _requestBuilder.build();
         OkHttpClient client = clientOptions.httpClient();
         CompletableFuture<PayrocApiHttpResponse<Attachment>> future = new CompletableFuture<>();
-        client.newCall(okhttpRequest).enqueue(new Callback() {
+        HttpCalls.enqueue(client, okhttpRequest, new Callback() {
             @Override
             public void onResponse(@NotNull Call call, @NotNull Response response) throws IOException {
                 try (ResponseBody responseBody = response.body()) {
-                    String responseBodyString = responseBody != null ? responseBody.string() : "{}";
                     if (response.isSuccessful()) {
                         future.complete(new PayrocApiHttpResponse<>(
-                                ObjectMappers.JSON_MAPPER.readValue(responseBodyString, Attachment.class), response));
+                                ObjectMappers.readBody(responseBody, Attachment.class), response));
                         return;
                     }
+                    String responseBodyString = responseBody != null ? responseBody.string() : "{}";
                     try {
                         switch (response.code()) {
                             case 400:
@@ -308,7 +312,9 @@ public class AsyncRawAttachmentsClient {
 
     public CompletableFuture<PayrocApiHttpResponse<Attachment>> uploadToProcessingAccount(
             String processingAccountId, InputStream stream, String filename, MediaType mediaType) {
-        HttpUrl.Builder httpUrl = HttpUrl.parse(this.clientOptions.environment().getApiURL())
+        HttpUrl.Builder httpUrl = this.clientOptions
+                .environment()
+                .getApiHttpUrl()
                 .newBuilder()
                 .addPathSegments("processing-accounts")
                 .addPathSegment(processingAccountId)
@@ -320,20 +326,20 @@ public class AsyncRawAttachmentsClient {
         Request.Builder _requestBuilder = new Request.Builder();
         _requestBuilder.url(httpUrl.build());
         _requestBuilder.method("POST", body);
-        _requestBuilder.headers(Headers.of(this.clientOptions.headers(null)));
+        _requestBuilder.headers(this.clientOptions.httpHeaders(null));
         Request okhttpRequest = _requestBuilder.build();
         OkHttpClient client = clientOptions.httpClient();
         CompletableFuture<PayrocApiHttpResponse<Attachment>> future = new CompletableFuture<>();
-        client.newCall(okhttpRequest).enqueue(new Callback() {
+        HttpCalls.enqueue(client, okhttpRequest, new Callback() {
             @Override
             public void onResponse(@NotNull Call call, @NotNull Response response) throws IOException {
                 try (ResponseBody responseBody = response.body()) {
-                    String responseBodyString = responseBody != null ? responseBody.string() : "{}";
                     if (response.isSuccessful()) {
                         future.complete(new PayrocApiHttpResponse<>(
-                                ObjectMappers.JSON_MAPPER.readValue(responseBodyString, Attachment.class), response));
+                                ObjectMappers.readBody(responseBody, Attachment.class), response));
                         return;
                     }
+                    String responseBodyString = responseBody != null ? responseBody.string() : "{}";
                     try {
                         switch (response.code()) {
                             case 400:
@@ -406,7 +412,9 @@ public class AsyncRawAttachmentsClient {
 
     public CompletableFuture<PayrocApiHttpResponse<Attachment>> uploadToProcessingAccount(
             String processingAccountId, InputStream stream, String filename, RequestOptions requestOptions) {
-        HttpUrl.Builder httpUrl = HttpUrl.parse(this.clientOptions.environment().getApiURL())
+        HttpUrl.Builder httpUrl = this.clientOptions
+                .environment()
+                .getApiHttpUrl()
                 .newBuilder()
                 .addPathSegments("processing-accounts")
                 .addPathSegment(processingAccountId)
@@ -423,23 +431,23 @@ public class AsyncRawAttachmentsClient {
         Request.Builder _requestBuilder = new Request.Builder();
         _requestBuilder.url(httpUrl.build());
         _requestBuilder.method("POST", body);
-        _requestBuilder.headers(Headers.of(this.clientOptions.headers(requestOptions)));
+        _requestBuilder.headers(this.clientOptions.httpHeaders(requestOptions));
         Request okhttpRequest = _requestBuilder.build();
         OkHttpClient client = clientOptions.httpClient();
         if (requestOptions != null && requestOptions.getTimeout().isPresent()) {
             client = clientOptions.httpClientWithTimeout(requestOptions);
         }
         CompletableFuture<PayrocApiHttpResponse<Attachment>> future = new CompletableFuture<>();
-        client.newCall(okhttpRequest).enqueue(new Callback() {
+        HttpCalls.enqueue(client, okhttpRequest, new Callback() {
             @Override
             public void onResponse(@NotNull Call call, @NotNull Response response) throws IOException {
                 try (ResponseBody responseBody = response.body()) {
-                    String responseBodyString = responseBody != null ? responseBody.string() : "{}";
                     if (response.isSuccessful()) {
                         future.complete(new PayrocApiHttpResponse<>(
-                                ObjectMappers.JSON_MAPPER.readValue(responseBodyString, Attachment.class), response));
+                                ObjectMappers.readBody(responseBody, Attachment.class), response));
                         return;
                     }
+                    String responseBodyString = responseBody != null ? responseBody.string() : "{}";
                     try {
                         switch (response.code()) {
                             case 400:
@@ -516,7 +524,9 @@ public class AsyncRawAttachmentsClient {
             String filename,
             MediaType mediaType,
             RequestOptions requestOptions) {
-        HttpUrl.Builder httpUrl = HttpUrl.parse(this.clientOptions.environment().getApiURL())
+        HttpUrl.Builder httpUrl = this.clientOptions
+                .environment()
+                .getApiHttpUrl()
                 .newBuilder()
                 .addPathSegments("processing-accounts")
                 .addPathSegment(processingAccountId)
@@ -533,23 +543,23 @@ public class AsyncRawAttachmentsClient {
         Request.Builder _requestBuilder = new Request.Builder();
         _requestBuilder.url(httpUrl.build());
         _requestBuilder.method("POST", body);
-        _requestBuilder.headers(Headers.of(this.clientOptions.headers(requestOptions)));
+        _requestBuilder.headers(this.clientOptions.httpHeaders(requestOptions));
         Request okhttpRequest = _requestBuilder.build();
         OkHttpClient client = clientOptions.httpClient();
         if (requestOptions != null && requestOptions.getTimeout().isPresent()) {
             client = clientOptions.httpClientWithTimeout(requestOptions);
         }
         CompletableFuture<PayrocApiHttpResponse<Attachment>> future = new CompletableFuture<>();
-        client.newCall(okhttpRequest).enqueue(new Callback() {
+        HttpCalls.enqueue(client, okhttpRequest, new Callback() {
             @Override
             public void onResponse(@NotNull Call call, @NotNull Response response) throws IOException {
                 try (ResponseBody responseBody = response.body()) {
-                    String responseBodyString = responseBody != null ? responseBody.string() : "{}";
                     if (response.isSuccessful()) {
                         future.complete(new PayrocApiHttpResponse<>(
-                                ObjectMappers.JSON_MAPPER.readValue(responseBodyString, Attachment.class), response));
+                                ObjectMappers.readBody(responseBody, Attachment.class), response));
                         return;
                     }
+                    String responseBodyString = responseBody != null ? responseBody.string() : "{}";
                     try {
                         switch (response.code()) {
                             case 400:
@@ -656,7 +666,9 @@ public class AsyncRawAttachmentsClient {
      */
     public CompletableFuture<PayrocApiHttpResponse<Attachment>> retrieve(
             String attachmentId, RetrieveAttachmentsRequest request, RequestOptions requestOptions) {
-        HttpUrl.Builder httpUrl = HttpUrl.parse(this.clientOptions.environment().getApiURL())
+        HttpUrl.Builder httpUrl = this.clientOptions
+                .environment()
+                .getApiHttpUrl()
                 .newBuilder()
                 .addPathSegments("attachments")
                 .addPathSegment(attachmentId);
@@ -668,7 +680,7 @@ public class AsyncRawAttachmentsClient {
         Request.Builder _requestBuilder = new Request.Builder()
                 .url(httpUrl.build())
                 .method("GET", null)
-                .headers(Headers.of(clientOptions.headers(requestOptions)))
+                .headers(clientOptions.httpHeaders(requestOptions))
                 .addHeader("Accept", "application/json");
         Request okhttpRequest = _requestBuilder.build();
         OkHttpClient client = clientOptions.httpClient();
@@ -676,16 +688,16 @@ public class AsyncRawAttachmentsClient {
             client = clientOptions.httpClientWithTimeout(requestOptions);
         }
         CompletableFuture<PayrocApiHttpResponse<Attachment>> future = new CompletableFuture<>();
-        client.newCall(okhttpRequest).enqueue(new Callback() {
+        HttpCalls.enqueue(client, okhttpRequest, new Callback() {
             @Override
             public void onResponse(@NotNull Call call, @NotNull Response response) throws IOException {
                 try (ResponseBody responseBody = response.body()) {
-                    String responseBodyString = responseBody != null ? responseBody.string() : "{}";
                     if (response.isSuccessful()) {
                         future.complete(new PayrocApiHttpResponse<>(
-                                ObjectMappers.JSON_MAPPER.readValue(responseBodyString, Attachment.class), response));
+                                ObjectMappers.readBody(responseBody, Attachment.class), response));
                         return;
                     }
+                    String responseBodyString = responseBody != null ? responseBody.string() : "{}";
                     try {
                         switch (response.code()) {
                             case 400:
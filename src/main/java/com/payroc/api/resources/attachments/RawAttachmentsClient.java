@@ -6,6 +6,7 @@ package com.payroc.api.resources.attachments;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.payroc.api.core.ClientOptions;
 import com.payroc.api.core.FileStream;
+import com.payroc.api.core.HttpCalls;
 import com.payroc.api.core.ObjectMappers;
 import com.payroc.api.core.PayrocApiApiException;
 import com.payroc.api.core.PayrocApiException;
@@ -35,7 +36,6 @@ import java.io.File;
 import java.io.IOException;
 import java.io.InputStream;
 import java.nio.file.Files;
-import okhttp3.Headers;
 import okhttp3.HttpUrl;
 import okhttp3.MediaType;
 import okhttp3.MultipartBody;
@@ -91,7 +91,9 @@ public class RawAttachmentsClient {
      */
     public PayrocApiHttpResponse<Attachment> uploadToProcessingAccount(
             String processingAccountId, File file, UploadAttachment request, RequestOptions requestOptions) {
-        HttpUrl.Builder httpUrl = HttpUrl.parse(this.clientOptions.environment().getApiURL())
+        HttpUrl.Builder httpUrl = this.clientOptions
+                .environment()
+                .getApiHttpUrl()
                 .newBuilder()
                 .addPathSegments("processing-accounts")
                 .addPathSegment(processingAccountId)
@@ -115,21 +117,20 @@ public class RawAttachmentsClient {
         Request.Builder _requestBuilder = new Request.Builder()
                 .url(httpUrl.build())
                 .method("POST", multipartBodyBuilder.build())
-                .headers(Headers.of(clientOptions.headers(requestOptions)))
+                .headers(clientOptions.httpHeaders(requestOptions))
                 .addHeader("Accept", "application/json");
-        _requestBuilder.addHeader("Idempotency-Key", request.getIdempotencyKey());
+        _requestBuilder.addHeader("Idempotency-Key", clientOptions.idempotencyKey(request.getIdempotencyKey()));
         Request okhttpRequest = _requestBuilder.build();
         OkHttpClient client = clientOptions.httpClient();
         if (requestOptions != null && requestOptions.getTimeout().isPresent()) {
             client = clientOptions.httpClientWithTimeout(requestOptions);
         }
-        try (Response response = client.newCall(okhttpRequest).execute()) {
+        try (Response response = HttpCalls.execute(client, okhttpRequest)) {
             ResponseBody responseBody = response.body();
-            String responseBodyString = responseBody != null ? responseBody.string() : "{}";
             if (response.isSuccessful()) {
-                return new PayrocApiHttpResponse<>(
-                        ObjectMappers.JSON_MAPPER.readValue(responseBodyString, Attachment.class), response);
+                return new PayrocApiHttpResponse<>(ObjectMappers.readBody(responseBody, Attachment.class), response);
             }
+            String responseBodyString = responseBody != null ? responseBody.string() : "{}";
             try {
                 switch (response.code()) {
                     case 400:
@@ -179,7 +180,9 @@ public class RawAttachmentsClient {
 
     public PayrocApiHttpResponse<Attachment> uploadToProcessingAccount(
             String processingAccountId, InputStream stream, String filename) {
-        HttpUrl.Builder httpUrl = HttpUrl.parse(this.clientOptions.environment().getApiURL())
+        HttpUrl.Builder httpUrl = this.clientOptions
+                .environment()
+                .getApiHttpUrl()
                 .newBuilder()
                 .addPathSegments("processing-accounts")
                 .addPathSegment(processingAccountId)
@@ -191,16 +194,15 @@ public class RawAttachmentsClient {
         Request.Builder _requestBuilder = new Request.Builder();
         _requestBuilder.url(httpUrl.build());
         _requestBuilder.method("POST", body);
-        _requestBuilder.headers(Headers.of(this.clientOptions.headers(null)));
+        _requestBuilder.headers(this.clientOptions.httpHeaders(null));
         Request okhttpRequest = _requestBuilder.build();
         OkHttpClient client = clientOptions.httpClient();
-        try (Response response = client.newCall(okhttpRequest).execute()) {
+        try (Response response = HttpCalls.execute(client, okhttpRequest)) {
             ResponseBody responseBody = response.body();
-            String responseBodyString = responseBody != null ? responseBody.string() : "{}";
             if (response.isSuccessful()) {
-                return new PayrocApiHttpResponse<>(
-                        ObjectMappers.JSON_MAPPER.readValue(responseBodyString, Attachment.class), response);
+                return new PayrocApiHttpResponse<>(ObjectMappers.readBody(responseBody, Attachment.class), response);
             }
+            String responseBodyString = responseBody != null ? responseBody.string() : "{}";
             try {
                 switch (response.code()) {
                     case 400:
@@ -250,7 +252,9 @@ public class RawAttachmentsClient {
 
     public PayrocApiHttpResponse<Attachment> uploadToProcessingAccount(
             String processingAccountId, InputStream stream, String filename, MediaType mediaType) {
-        HttpUrl.Builder httpUrl = HttpUrl.parse(this.clientOptions.environment().getApiURL())
+        HttpUrl.Builder httpUrl = this.clientOptions
+                .environment()
+                .getApiHttpUrl()
                 .newBuilder()
                 .addPathSegments("processing-accounts")
                 .addPathSegment(processingAccountId)
@@ -262,16 +266,15 @@ public class RawAttachmentsClient {
         Request.Builder _requestBuilder = new Request.Builder();
         _requestBuilder.url(httpUrl.build());
         _requestBuilder.method("POST", body);
-        _requestBuilder.headers(Headers.of(this.clientOptions.headers(null)));
+        _requestBuilder.headers(this.clientOptions.httpHeaders(null));
         Request okhttpRequest = _requestBuilder.build();
         OkHttpClient client = clientOptions.httpClient();
-        try (Response response = client.newCall(okhttpRequest).execute()) {
+        try (Response response = HttpCalls.execute(client, okhttpRequest)) {
             ResponseBody responseBody = response.body();
-            String responseBodyString = responseBody != null ? responseBody.string() : "{}";
             if (response.isSuccessful()) {
-                return new PayrocApiHttpResponse<>(
-                        ObjectMappers.JSON_MAPPER.readValue(responseBodyString, Attachment.class), response);
+                return new PayrocApiHttpResponse<>(ObjectMappers.readBody(responseBody, Attachment.class), response);
             }
+            String responseBodyString = responseBody != null ? responseBody.string() : "{}";
             try {
                 switch (response.code()) {
                     case 400:
@@ -321,7 +324,9 @@ public class RawAttachmentsClient {
 
     public PayrocApiHttpResponse<Attachment> uploadToProcessingAccount(
             String processingAccountId, InputStream stream, String filename, RequestOptions requestOptions) {
-        HttpUrl.Builder httpUrl = HttpUrl.parse(this.clientOptions.environment().getApiURL())
+        HttpUrl.Builder httpUrl = this.clientOptions
+                .environment()
+                .getApiHttpUrl()
                 .newBuilder()
                 .addPathSegments("processing-accounts")
                 .addPathSegment(processingAccountId)
@@ -338,19 +343,18 @@ public class RawAttachmentsClient {
         Request.Builder _requestBuilder = new Request.Builder();
         _requestBuilder.url(httpUrl.build());
         _requestBuilder.method("POST", body);
-        _requestBuilder.headers(Headers.of(this.clientOptions.headers(requestOptions)));
+        _requestBuilder.headers(this.clientOptions.httpHeaders(requestOptions));
         Request okhttpRequest = _requestBuilder.build();
         OkHttpClient client = clientOptions.httpClient();
         if (requestOptions != null && requestOptions.getTimeout().isPresent()) {
             client = clientOptions.httpClientWithTimeout(requestOptions);
         }
-        try (Response response = client.newCall(okhttpRequest).execute()) {
+        try (Response response = HttpCalls.execute(client, okhttpRequest)) {
             ResponseBody responseBody = response.body();
-            String responseBodyString = responseBody != null ? responseBody.string() : "{}";
             if (response.isSuccessful()) {
-                return new PayrocApiHttpResponse<>(
-                        ObjectMappers.JSON_MAPPER.readValue(responseBodyString, Attachment.class), response);
+                return new PayrocApiHttpResponse<>(ObjectMappers.readBody(responseBody, Attachment.class), response);
             }
+            String responseBodyString = responseBody != null ? responseBody.string() : "{}";
             try {
                 switch (response.code()) {
                     case 400:
@@ -404,7 +408,9 @@ public class RawAttachmentsClient {
             String filename,
             MediaType mediaType,
             RequestOptions requestOptions) {
-        HttpUrl.Builder httpUrl = HttpUrl.parse(this.clientOptions.environment().getApiURL())
+        HttpUrl.Builder httpUrl = this.clientOptions
+                .environment()
+                .getApiHttpUrl()
                 .newBuilder()
                 .addPathSegments("processing-accounts")
                 .addPathSegment(processingAccountId)
@@ -421,19 +427,18 @@ public class RawAttachmentsClient {
         Request.Builder _requestBuilder = new Request.Builder();
         _requestBuilder.url(httpUrl.build());
         _requestBuilder.method("POST", body);
-        _requestBuilder.headers(Headers.of(this.clientOptions.headers(requestOptions)));
+        _requestBuilder.headers(this.clientOptions.httpHeaders(requestOptions));
         Request okhttpRequest = _requestBuilder.build();
         OkHttpClient client = clientOptions.httpClient();
         if (requestOptions != null && requestOptions.getTimeout().isPresent()) {
             client = clientOptions.httpClientWithTimeout(requestOptions);
         }
-        try (Response response = client.newCall(okhttpRequest).execute()) {
+        try (Response response = HttpCalls.execute(client, okhttpRequest)) {
             ResponseBody responseBody = response.body();
-            String responseBodyString = responseBody != null ? responseBody.string() : "{}";
             if (response.isSuccessful()) {
-                return new PayrocApiHttpResponse<>(
-                        ObjectMappers.JSON_MAPPER.readValue(responseBodyString, Attachment.class), response);
+                return new PayrocApiHttpResponse<>(ObjectMappers.readBody(responseBody, Attachment.class), response);
             }
+            String responseBodyString = responseBody != null ? responseBody.string() : "{}";
             try {
                 switch (response.code()) {
                     case 400:
@@ -515,7 +520,9 @@ public class RawAttachmentsClient {
      */
     public PayrocApiHttpResponse<Attachment> retrieve(
             String attachmentId, RetrieveAttachmentsRequest request, RequestOptions requestOptions) {
-        HttpUrl.Builder httpUrl = HttpUrl.parse(this.clientOptions.environment().getApiURL())
+        HttpUrl.Builder httpUrl = this.clientOptions
+                .environment()
+                .getApiHttpUrl()
                 .newBuilder()
                 .addPathSegments("attachments")
                 .addPathSegment(attachmentId);
@@ -527,20 +534,19 @@ public class RawAttachmentsClient {
         Request.Builder _requestBuilder = new Request.Builder()
                 .url(httpUrl.build())
                 .method("GET", null)
-                .headers(Headers.of(clientOptions.headers(requestOptions)))
+                .headers(clientOptions.httpHeaders(requestOptions))
                 .addHeader("Accept", "application/json");
         Request okhttpRequest = _requestBuilder.build();
         OkHttpClient client = clientOptions.httpClient();
         if (requestOptions != null && requestOptions.getTimeout().isPresent()) {
             client = clientOptions.httpClientWithTimeout(requestOptions);
         }
-        try (Response response = client.newCall(okhttpRequest).execute()) {
+        try (Response response = HttpCalls.execute(client, okhttpRequest)) {
             ResponseBody responseBody = response.body();
-            String responseBodyString = responseBody != null ? responseBody.string() : "{}";
             if (response.isSuccessful()) {
-                return new PayrocApiHttpResponse<>(
-                        ObjectMappers.JSON_MAPPER.readValue(responseBodyString, Attachment.class), response);
+                return new PayrocApiHttpResponse<>(ObjectMappers.readBody(responseBody, Attachment.class), response);
             }
+            String responseBodyString = responseBody != null ? responseBody.string() : "{}";
             try {
                 switch (response.code()) {
                     case 400:
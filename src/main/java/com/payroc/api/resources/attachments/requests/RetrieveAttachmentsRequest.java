@@ -9,6 +9,7 @@ import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
 import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
 import com.payroc.api.core.ObjectMappers;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.Map;
 
@@ -43,8 +44,7 @@ public final class RetrieveAttachmentsRequest {
 
     @JsonIgnoreProperties(ignoreUnknown = true)
     public static final class Builder {
-        @JsonAnySetter
-        private Map<String, Object> additionalProperties = new HashMap<>();
+        private Map<String, Object> additionalProperties = Collections.emptyMap();
 
         private Builder() {}
 
@@ -56,12 +56,19 @@ public final class RetrieveAttachmentsRequest {
             return new RetrieveAttachmentsRequest(additionalProperties);
         }
 
+        @JsonAnySetter
         public Builder additionalProperty(String key, Object value) {
+            if (this.additionalProperties.isEmpty()) {
+                this.additionalProperties = new HashMap<>();
+            }
             this.additionalProperties.put(key, value);
             return this;
         }
 
         public Builder additionalProperties(Map<String, Object> additionalProperties) {
+            if (this.additionalProperties.isEmpty()) {
+                this.additionalProperties = new HashMap<>();
+            }
             this.additionalProperties.putAll(additionalProperties);
             return this;
         }
@@ -13,6 +13,7 @@ import com.fasterxml.jackson.annotation.JsonSetter;
 import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
 import com.payroc.api.core.ObjectMappers;
 import com.payroc.api.resources.attachments.types.UploadToProcessingAccountAttachmentsRequestAttachment;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.Objects;
@@ -111,8 +112,7 @@ public final class UploadAttachment {
 
         private UploadToProcessingAccountAttachmentsRequestAttachment attachment;
 
-        @JsonAnySetter
-        private Map<String, Object> additionalProperties = new HashMap<>();
+        private Map<String, Object> additionalProperties = Collections.emptyMap();
 
         private Builder() {}
 
@@ -152,13 +152,20 @@ public final class UploadAttachment {
         }
 
         @java.lang.Override
+        @JsonAnySetter
         public Builder additionalProperty(String key, Object value) {
+            if (this.additionalProperties.isEmpty()) {
+                this.additionalProperties = new HashMap<>();
+            }
             this.additionalProperties.put(key, value);
             return this;
         }
 
         @java.lang.Override
         public Builder additionalProperties(Map<String, Object> additionalProperties) {
+            if (this.additionalProperties.isEmpty()) {
+                this.additionalProperties = new HashMap<>();
+            }
             this.additionalProperties.putAll(additionalProperties);
             return this;
         }
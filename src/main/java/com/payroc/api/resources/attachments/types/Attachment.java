@@ -13,6 +13,7 @@ import com.fasterxml.jackson.annotation.Nulls;
 import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
 import com.payroc.api.core.ObjectMappers;
 import java.time.OffsetDateTime;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.Objects;
@@ -318,8 +319,7 @@ public final class Attachment {
 
         private Optional<String> description = Optional.empty();
 
-        @JsonAnySetter
-        private Map<String, Object> additionalProperties = new HashMap<>();
+        private Map<String, Object> additionalProperties = Collections.emptyMap();
 
         private Builder() {}
 
@@ -501,13 +501,20 @@ public final class Attachment {
         }
 
         @java.lang.Override
+        @JsonAnySetter
         public Builder additionalProperty(String key, Object value) {
+            if (this.additionalProperties.isEmpty()) {
+                this.additionalProperties = new HashMap<>();
+            }
             this.additionalProperties.put(key, value);
             return this;
         }
 
         @java.lang.Override
         public Builder additionalProperties(Map<String, Object> additionalProperties) {
+            if (this.additionalProperties.isEmpty()) {
+                this.additionalProperties = new HashMap<>();
+            }
             this.additionalProperties.putAll(additionalProperties);
             return this;
         }
@@ -11,6 +11,7 @@ import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.annotation.JsonSetter;
 import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
 import com.payroc.api.core.ObjectMappers;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.Objects;
@@ -106,8 +107,7 @@ public final class AttachmentEntity {
 
         private String id;
 
-        @JsonAnySetter
-        private Map<String, Object> additionalProperties = new HashMap<>();
+        private Map<String, Object> additionalProperties = Collections.emptyMap();
 
         private Builder() {}
 
@@ -148,13 +148,20 @@ public final class AttachmentEntity {
         }
 
         @java.lang.Override
+        @JsonAnySetter
         public Builder additionalProperty(String key, Object value) {
+            if (this.additionalProperties.isEmpty()) {
+                this.additionalProperties = new HashMap<>();
+            }
             this.additionalProperties.put(key, value);
             return this;
         }
 
         @java.lang.Override
         public Builder additionalProperties(Map<String, Object> additionalProperties) {
+            if (this.additionalProperties.isEmpty()) {
+                this.additionalProperties = new HashMap<>();
+            }
             this.additionalProperties.putAll(additionalProperties);
             return this;
         }
@@ -4,6 +4,7 @@
 package com.payroc.api.resources.auth;
 
 import com.payroc.api.core.ClientOptions;
+import com.payroc.api.core.HttpCalls;
 import com.payroc.api.core.ObjectMappers;
 import com.payroc.api.core.PayrocApiApiException;
 import com.payroc.api.core.PayrocApiException;
@@ -15,7 +16,6 @@ import java.io.IOException;
 import java.util.concurrent.CompletableFuture;
 import okhttp3.Call;
 import okhttp3.Callback;
-import okhttp3.Headers;
 import okhttp3.HttpUrl;
 import okhttp3.OkHttpClient;
 import okhttp3.Request;
@@ -43,7 +43,9 @@ public class AsyncRawAuthClient {
      */
     public CompletableFuture<PayrocApiHttpResponse<GetTokenResponse>> retrieveToken(
             RetrieveTokenAuthRequest request, RequestOptions requestOptions) {
-        HttpUrl.Builder httpUrl = HttpUrl.parse(this.clientOptions.environment().getIdentityURL())
+        HttpUrl.Builder httpUrl = this.clientOptions
+                .environment()
+                .getIdentityHttpUrl()
                 .newBuilder()
                 .addPathSegments("authorize");
         if (requestOptions != null) {
@@ -54,7 +56,7 @@ public class AsyncRawAuthClient {
         Request.Builder _requestBuilder = new Request.Builder()
                 .url(httpUrl.build())
                 .method("POST", RequestBody.create("", null))
-                .headers(Headers.of(clientOptions.headers(requestOptions)))
+                .headers(clientOptions.httpHeaders(requestOptions))
                 .addHeader("Accept", "application/json");
         _requestBuilder.addHeader("x-api-key", request.getApiKey());
         Request okhttpRequest = _requestBuilder.build();
@@ -63,17 +65,16 @@ public class AsyncRawAuthClient {
             client = clientOptions.httpClientWithTimeout(requestOptions);
         }
         CompletableFuture<PayrocApiHttpResponse<GetTokenResponse>> future = new CompletableFuture<>();
-        client.newCall(okhttpRequest).enqueue(new Callback() {
+        HttpCalls.enqueue(client, okhttpRequest, new Callback() {
             @Override
             public void onResponse(@NotNull Call call, @NotNull Response response) throws IOException {
                 try (ResponseBody responseBody = response.body()) {
-                    String responseBodyString = responseBody != null ? responseBody.string() : "{}";
                     if (response.isSuccessful()) {
                         future.complete(new PayrocApiHttpResponse<>(
-                                ObjectMappers.JSON_MAPPER.readValue(responseBodyString, GetTokenResponse.class),
-                                response));
+                                ObjectMappers.readBody(responseBody, GetTokenResponse.class), response));
                         return;
                     }
+                    String responseBodyString = responseBody != null ? responseBody.string() : "{}";
                     Object errorBody = ObjectMappers.parseErrorBody(responseBodyString);
                     future.completeExceptionally(new PayrocApiApiException(
                             "Error with status code " + response.code(), response.code(), errorBody, response));
@@ -4,6 +4,7 @@
 package com.payroc.api.resources.auth;
 
 import com.payroc.api.core.ClientOptions;
+import com.payroc.api.core.HttpCalls;
 import com.payroc.api.core.ObjectMappers;
 import com.payroc.api.core.PayrocApiApiException;
 import com.payroc.api.core.PayrocApiException;
@@ -12,7 +13,6 @@ import com.payroc.api.core.RequestOptions;
 import com.payroc.api.resources.auth.requests.RetrieveTokenAuthRequest;
 import com.payroc.api.resources.auth.types.GetTokenResponse;
 import java.io.IOException;
-import okhttp3.Headers;
 import okhttp3.HttpUrl;
 import okhttp3.OkHttpClient;
 import okhttp3.Request;
@@ -39,7 +39,9 @@ public class RawAuthClient {
      */
     public PayrocApiHttpResponse<GetTokenResponse> retrieveToken(
             RetrieveTokenAuthRequest request, RequestOptions requestOptions) {
-        HttpUrl.Builder httpUrl = HttpUrl.parse(this.clientOptions.environment().getIdentityURL())
+        HttpUrl.Builder httpUrl = this.clientOptions
+                .environment()
+                .getIdentityHttpUrl()
                 .newBuilder()
                 .addPathSegments("authorize");
         if (requestOptions != null) {
@@ -50,7 +52,7 @@ public class RawAuthClient {
         Request.Builder _requestBuilder = new Request.Builder()
                 .url(httpUrl.build())
                 .method("POST", RequestBody.create("", null))
-                .headers(Headers.of(clientOptions.headers(requestOptions)))
+                .headers(clientOptions.httpHeaders(requestOptions))
                 .addHeader("Accept", "application/json");
         _requestBuilder.addHeader("x-api-key", request.getApiKey());
         Request okhttpRequest = _requestBuilder.build();
@@ -58,13 +60,13 @@ public class RawAuthClient {
         if (requestOptions != null && requestOptions.getTimeout().isPresent()) {
             client = clientOptions.httpClientWithTimeout(requestOptions);
         }
-        try (Response response = client.newCall(okhttpRequest).execute()) {
+        try (Response response = HttpCalls.execute(client, okhttpRequest)) {
             ResponseBody responseBody = response.body();
-            String responseBodyString = responseBody != null ? responseBody.string() : "{}";
             if (response.isSuccessful()) {
                 return new PayrocApiHttpResponse<>(
-                        ObjectMappers.JSON_MAPPER.readValue(responseBodyString, GetTokenResponse.class), response);
+                        ObjectMappers.readBody(responseBody, GetTokenResponse.class), response);
             }
+            String responseBodyString = responseBody != null ? responseBody.string() : "{}";
             Object errorBody = ObjectMappers.parseErrorBody(responseBodyString);
             throw new PayrocApiApiException(
                     "Error with status code " + response.code(), response.code(), errorBody, response);
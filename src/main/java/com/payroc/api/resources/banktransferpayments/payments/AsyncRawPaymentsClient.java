@@ -5,7 +5,8 @@ package com.payroc.api.resources.banktransferpayments.payments;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.payroc.api.core.ClientOptions;
-import com.payroc.api.core.MediaTypes;
+import com.payroc.api.core.HttpCalls;
+import com.payroc.api.core.JsonRequestBody;
 import com.payroc.api.core.ObjectMappers;
 import com.payroc.api.core.PayrocApiApiException;
 import com.payroc.api.core.PayrocApiException;
@@ -38,7 +39,6 @@ import java.io.IOException;
 import java.util.concurrent.CompletableFuture;
 import okhttp3.Call;
 import okhttp3.Callback;
-import okhttp3.Headers;
 import okhttp3.HttpUrl;
 import okhttp3.OkHttpClient;
 import okhttp3.Request;
@@ -87,9 +87,8 @@ public class AsyncRawPaymentsClient {
      */
     public CompletableFuture<PayrocApiHttpResponse<CompletableFuture<AsyncPayrocPager<BankTransferPayment>>>> list(
             ListPaymentsRequest request, RequestOptions requestOptions) {
-        HttpUrl.Builder httpUrl = HttpUrl.parse(this.clientOptions.environment().getApiURL())
-                .newBuilder()
-                .addPathSegments("bank-transfer-payments");
+        HttpUrl.Builder httpUrl =
+                this.clientOptions.environment().getApiHttpUrl().newBuilder().addPathSegments("bank-transfer-payments");
         QueryStringMapper.addQueryParameter(httpUrl, "processingTerminalId", request.getProcessingTerminalId(), false);
         if (request.getOrderId().isPresent()) {
             QueryStringMapper.addQueryParameter(
@@ -151,7 +150,7 @@ public class AsyncRawPaymentsClient {
         Request.Builder _requestBuilder = new Request.Builder()
                 .url(httpUrl.build())
                 .method("GET", null)
-                .headers(Headers.of(clientOptions.headers(requestOptions)))
+                .headers(clientOptions.httpHeaders(requestOptions))
                 .addHeader("Accept", "application/json");
         Request okhttpRequest = _requestBuilder.build();
         OkHttpClient client = clientOptions.httpClient();
@@ -160,18 +159,18 @@ public class AsyncRawPaymentsClient {
         }
         CompletableFuture<PayrocApiHttpResponse<CompletableFuture<AsyncPayrocPager<BankTransferPayment>>>> future =
                 new CompletableFuture<>();
-        client.newCall(okhttpRequest).enqueue(new Callback() {
+        HttpCalls.enqueue(client, okhttpRequest, new Callback() {
             @Override
             public void onResponse(@NotNull Call call, @NotNull Response response) throws IOException {
                 try (ResponseBody responseBody = response.body()) {
-                    String responseBodyString = responseBody != null ? responseBody.string() : "{}";
                     if (response.isSuccessful()) {
-                        BankTransferPaymentPaginatedList parsedResponse = ObjectMappers.JSON_MAPPER.readValue(
-                                responseBodyString, BankTransferPaymentPaginatedList.class);
+                        BankTransferPaymentPaginatedList parsedResponse =
+                                ObjectMappers.readBody(responseBody, BankTransferPaymentPaginatedList.class);
                         future.complete(new PayrocApiHttpResponse<>(
                                 AsyncPayrocPager.createAsync(parsedResponse, clientOptions, requestOptions), response));
                         return;
                     }
+                    String responseBodyString = responseBody != null ? responseBody.string() : "{}";
                     try {
                         switch (response.code()) {
                             case 400:
@@ -258,9 +257,8 @@ public class AsyncRawPaymentsClient {
      */
     public CompletableFuture<PayrocApiHttpResponse<BankTransferPayment>> create(
             BankTransferPaymentRequest request, RequestOptions requestOptions) {
-        HttpUrl.Builder httpUrl = HttpUrl.parse(this.clientOptions.environment().getApiURL())
-                .newBuilder()
-                .addPathSegments("bank-transfer-payments");
+        HttpUrl.Builder httpUrl =
+                this.clientOptions.environment().getApiHttpUrl().newBuilder().addPathSegments("bank-transfer-payments");
         if (requestOptions != null) {
             requestOptions.getQueryParameters().forEach((_key, _value) -> {
                 httpUrl.addQueryParameter(_key, _value);
@@ -268,35 +266,33 @@ public class AsyncRawPaymentsClient {
         }
         RequestBody body;
         try {
-            body = RequestBody.create(
-                    ObjectMappers.JSON_MAPPER.writeValueAsBytes(request), MediaTypes.APPLICATION_JSON);
+            body = JsonRequestBody.of(clientOptions, request);
         } catch (Exception e) {
             throw new RuntimeException(e);
         }
         Request.Builder _requestBuilder = new Request.Builder()
                 .url(httpUrl.build())
                 .method("POST", body)
-                .headers(Headers.of(clientOptions.headers(requestOptions)))
+                .headers(clientOptions.httpHeaders(requestOptions))
                 .addHeader("Content-Type", "application/json")
                 .addHeader("Accept", "application/json");
-        _requestBuilder.addHeader("Idempotency-Key", request.getIdempotencyKey());
+        _requestBuilder.addHeader("Idempotency-Key", clientOptions.idempotencyKey(request.getIdempotencyKey()));
         Request okhttpRequest = _requestBuilder.build();
         OkHttpClient client = clientOptions.httpClient();
         if (requestOptions != null && requestOptions.getTimeout().isPresent()) {
             client = clientOptions.httpClientWithTimeout(requestOptions);
         }
         CompletableFuture<PayrocApiHttpResponse<BankTransferPayment>> future = new CompletableFuture<>();
-        client.newCall(okhttpRequest).enqueue(new Callback() {
+        HttpCalls.enqueue(client, okhttpRequest, new Callback() {
             @Override
             public void onResponse(@NotNull Call call, @NotNull Response response) throws IOException {
                 try (ResponseBody responseBody = response.body()) {
-                    String responseBodyString = responseBody != null ? responseBody.string() : "{}";
                     if (response.isSuccessful()) {
                         future.complete(new PayrocApiHttpResponse<>(
-                                ObjectMappers.JSON_MAPPER.readValue(responseBodyString, BankTransferPayment.class),
-                                response));
+                                ObjectMappers.readBody(responseBody, BankTransferPayment.class), response));
                         return;
                     }
+                    String responseBodyString = responseBody != null ? responseBody.string() : "{}";
                     try {
                         switch (response.code()) {
                             case 400:
@@ -424,7 +420,9 @@ public class AsyncRawPaymentsClient {
      */
     public CompletableFuture<PayrocApiHttpResponse<BankTransferPayment>> retrieve(
             String paymentId, RetrievePaymentsRequest request, RequestOptions requestOptions) {
-        HttpUrl.Builder httpUrl = HttpUrl.parse(this.clientOptions.environment().getApiURL())
+        HttpUrl.Builder httpUrl = this.clientOptions
+                .environment()
+                .getApiHttpUrl()
                 .newBuilder()
                 .addPathSegments("bank-transfer-payments")
                 .addPathSegment(paymentId);
@@ -436,7 +434,7 @@ public class AsyncRawPaymentsClient {
         Request.Builder _requestBuilder = new Request.Builder()
                 .url(httpUrl.build())
                 .method("GET", null)
-                .headers(Headers.of(clientOptions.headers(requestOptions)))
+                .headers(clientOptions.httpHeaders(requestOptions))
                 .addHeader("Accept", "application/json");
         Request okhttpRequest = _requestBuilder.build();
         OkHttpClient client = clientOptions.httpClient();
@@ -444,17 +442,16 @@ public class AsyncRawPaymentsClient {
             client = clientOptions.httpClientWithTimeout(requestOptions);
         }
         CompletableFuture<PayrocApiHttpResponse<BankTransferPayment>> future = new CompletableFuture<>();
-        client.newCall(okhttpRequest).enqueue(new Callback() {
+        HttpCalls.enqueue(client, okhttpRequest, new Callback() {
             @Override
             public void onResponse(@NotNull Call call, @NotNull Response response) throws IOException {
                 try (ResponseBody responseBody = response.body()) {
-                    String responseBodyString = responseBody != null ? responseBody.string() : "{}";
                     if (response.isSuccessful()) {
                         future.complete(new PayrocApiHttpResponse<>(
-                                ObjectMappers.JSON_MAPPER.readValue(responseBodyString, BankTransferPayment.class),
-                                response));
+                                ObjectMappers.readBody(responseBody, BankTransferPayment.class), response));
                         return;
                     }
+                    String responseBodyString = responseBody != null ? responseBody.string() : "{}";
                     try {
                         switch (response.code()) {
                             case 400:
@@ -535,7 +532,9 @@ public class AsyncRawPaymentsClient {
      */
     public CompletableFuture<PayrocApiHttpResponse<BankTransferPayment>> represent(
             String paymentId, Representment request, RequestOptions requestOptions) {
-        HttpUrl.Builder httpUrl = HttpUrl.parse(this.clientOptions.environment().getApiURL())
+        HttpUrl.Builder httpUrl = this.clientOptions
+                .environment()
+                .getApiHttpUrl()
                 .newBuilder()
                 .addPathSegments("bank-transfer-payments")
                 .addPathSegment(paymentId)
@@ -547,35 +546,33 @@ public class AsyncRawPaymentsClient {
         }
         RequestBody body;
         try {
-            body = RequestBody.create(
-                    ObjectMappers.JSON_MAPPER.writeValueAsBytes(request), MediaTypes.APPLICATION_JSON);
+            body = JsonRequestBody.of(clientOptions, request);
         } catch (Exception e) {
             throw new RuntimeException(e);
         }
         Request.Builder _requestBuilder = new Request.Builder()
                 .url(httpUrl.build())
                 .method("POST", body)
-                .headers(Headers.of(clientOptions.headers(requestOptions)))
+                .headers(clientOptions.httpHeaders(requestOptions))
                 .addHeader("Content-Type", "application/json")
                 .addHeader("Accept", "application/json");
-        _requestBuilder.addHeader("Idempotency-Key", request.getIdempotencyKey());
+        _requestBuilder.addHeader("Idempotency-Key", clientOptions.idempotencyKey(request.getIdempotencyKey()));
         Request okhttpRequest = _requestBuilder.build();
         OkHttpClient client = clientOptions.httpClient();
         if (requestOptions != null && requestOptions.getTimeout().isPresent()) {
             client = clientOptions.httpClientWithTimeout(requestOptions);
         }
         CompletableFuture<PayrocApiHttpResponse<BankTransferPayment>> future = new CompletableFuture<>();
-        client.newCall(okhttpRequest).enqueue(new Callback() {
+        HttpCalls.enqueue(client, okhttpRequest, new Callback() {
             @Override
             public void onResponse(@NotNull Call call, @NotNull Response response) throws IOException {
                 try (ResponseBody responseBody = response.body()) {
-                    String responseBodyString = responseBody != null ? responseBody.string() : "{}";
                     if (response.isSuccessful()) {
                         future.complete(new PayrocApiHttpResponse<>(
-                                ObjectMappers.JSON_MAPPER.readValue(responseBodyString, BankTransferPayment.class),
-                                response));
+                                ObjectMappers.readBody(responseBody, BankTransferPayment.class), response));
                         return;
                     }
+                    String responseBodyString = responseBody != null ? responseBody.string() : "{}";
                     try {
                         switch (response.code()) {
                             case 400:
@@ -5,7 +5,8 @@ package com.payroc.api.resources.banktransferpayments.payments;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.payroc.api.core.ClientOptions;
-import com.payroc.api.core.MediaTypes;
+import com.payroc.api.core.HttpCalls;
+import com.payroc.api.core.JsonRequestBody;
 import com.payroc.api.core.ObjectMappers;
 import com.payroc.api.core.PayrocApiApiException;
 import com.payroc.api.core.PayrocApiException;
@@ -35,7 +36,6 @@ import com.payroc.api.types.FourHundredNine;
 import com.payroc.api.types.FourHundredOne;
 import com.payroc.api.types.FourHundredSix;
 import java.io.IOException;
-import okhttp3.Headers;
 import okhttp3.HttpUrl;
 import okhttp3.OkHttpClient;
 import okhttp3.Request;
@@ -82,9 +82,8 @@ public class RawPaymentsClient {
      */
     public PayrocApiHttpResponse<PayrocPager<BankTransferPayment>> list(
             ListPaymentsRequest request, RequestOptions requestOptions) {
-        HttpUrl.Builder httpUrl = HttpUrl.parse(this.clientOptions.environment().getApiURL())
-                .newBuilder()
-                .addPathSegments("bank-transfer-payments");
+        HttpUrl.Builder httpUrl =
+                this.clientOptions.environment().getApiHttpUrl().newBuilder().addPathSegments("bank-transfer-payments");
         QueryStringMapper.addQueryParameter(httpUrl, "processingTerminalId", request.getProcessingTerminalId(), false);
         if (request.getOrderId().isPresent()) {
             QueryStringMapper.addQueryParameter(
@@ -146,22 +145,22 @@ public class RawPaymentsClient {
         Request.Builder _requestBuilder = new Request.Builder()
                 .url(httpUrl.build())
                 .method("GET", null)
-                .headers(Headers.of(clientOptions.headers(requestOptions)))
+                .headers(clientOptions.httpHeaders(requestOptions))
                 .addHeader("Accept", "application/json");
         Request okhttpRequest = _requestBuilder.build();
         OkHttpClient client = clientOptions.httpClient();
         if (requestOptions != null && requestOptions.getTimeout().isPresent()) {
             client = clientOptions.httpClientWithTimeout(requestOptions);
         }
-        try (Response response = client.newCall(okhttpRequest).execute()) {
+        try (Response response = HttpCalls.execute(client, okhttpRequest)) {
             ResponseBody responseBody = response.body();
-            String responseBodyString = responseBody != null ? responseBody.string() : "{}";
             if (response.isSuccessful()) {
                 BankTransferPaymentPaginatedList parsedResponse =
-                        ObjectMappers.JSON_MAPPER.readValue(responseBodyString, BankTransferPaymentPaginatedList.class);
+                        ObjectMappers.readBody(responseBody, BankTransferPaymentPaginatedList.class);
                 return new PayrocApiHttpResponse<>(
                         PayrocPager.create(parsedResponse, clientOptions, requestOptions), response);
             }
+            String responseBodyString = responseBody != null ? responseBody.string() : "{}";
             try {
                 switch (response.code()) {
                     case 400:
@@ -231,9 +230,8 @@ public class RawPaymentsClient {
      */
     public PayrocApiHttpResponse<BankTransferPayment> create(
             BankTransferPaymentRequest request, RequestOptions requestOptions) {
-        HttpUrl.Builder httpUrl = HttpUrl.parse(this.clientOptions.environment().getApiURL())
-                .newBuilder()
-                .addPathSegments("bank-transfer-payments");
+        HttpUrl.Builder httpUrl =
+                this.clientOptions.environment().getApiHttpUrl().newBuilder().addPathSegments("bank-transfer-payments");
         if (requestOptions != null) {
             requestOptions.getQueryParameters().forEach((_key, _value) -> {
                 httpUrl.addQueryParameter(_key, _value);
@@ -241,30 +239,29 @@ public class RawPaymentsClient {
         }
         RequestBody body;
         try {
-            body = RequestBody.create(
-                    ObjectMappers.JSON_MAPPER.writeValueAsBytes(request), MediaTypes.APPLICATION_JSON);
+            body = JsonRequestBody.of(clientOptions, request);
         } catch (Exception e) {
             throw new RuntimeException(e);
         }
         Request.Builder _requestBuilder = new Request.Builder()
                 .url(httpUrl.build())
                 .method("POST", body)
-                .headers(Headers.of(clientOptions.headers(requestOptions)))
+                .headers(clientOptions.httpHeaders(requestOptions))
                 .addHeader("Content-Type", "application/json")
                 .addHeader("Accept", "application/json");
-        _requestBuilder.addHeader("Idempotency-Key", request.getIdempotencyKey());
+        _requestBuilder.addHeader("Idempotency-Key", clientOptions.idempotencyKey(request.getIdempotencyKey()));
         Request okhttpRequest = _requestBuilder.build();
         OkHttpClient client = clientOptions.httpClient();
         if (requestOptions != null && requestOptions.getTimeout().isPresent()) {
             client = clientOptions.httpClientWithTimeout(requestOptions);
         }
-        try (Response response = client.newCall(okhttpRequest).execute()) {
+        try (Response response = HttpCalls.execute(client, okhttpRequest)) {
             ResponseBody responseBody = response.body();
-            String responseBodyString = responseBody != null ? responseBody.string() : "{}";
             if (response.isSuccessful()) {
                 return new PayrocApiHttpResponse<>(
-                        ObjectMappers.JSON_MAPPER.readValue(responseBodyString, BankTransferPayment.class), response);
+                        ObjectMappers.readBody(responseBody, BankTransferPayment.class), response);
             }
+            String responseBodyString = responseBody != null ? responseBody.string() : "{}";
             try {
                 switch (response.code()) {
                     case 400:
@@ -370,7 +367,9 @@ public class RawPaymentsClient {
      */
     public PayrocApiHttpResponse<BankTransferPayment> retrieve(
             String paymentId, RetrievePaymentsRequest request, RequestOptions requestOptions) {
-        HttpUrl.Builder httpUrl = HttpUrl.parse(this.clientOptions.environment().getApiURL())
+        HttpUrl.Builder httpUrl = this.clientOptions
+                .environment()
+                .getApiHttpUrl()
                 .newBuilder()
                 .addPathSegments("bank-transfer-payments")
                 .addPathSegment(paymentId);
@@ -382,20 +381,20 @@ public class RawPaymentsClient {
         Request.Builder _requestBuilder = new Request.Builder()
                 .url(httpUrl.build())
                 .method("GET", null)
-                .headers(Headers.of(clientOptions.headers(requestOptions)))
+                .headers(clientOptions.httpHeaders(requestOptions))
                 .addHeader("Accept", "application/json");
         Request okhttpRequest = _requestBuilder.build();
         OkHttpClient client = clientOptions.httpClient();
         if (requestOptions != null && requestOptions.getTimeout().isPresent()) {
             client = clientOptions.httpClientWithTimeout(requestOptions);
         }
-        try (Response response = client.newCall(okhttpRequest).execute()) {
+        try (Response response = HttpCalls.execute(client, okhttpRequest)) {
             ResponseBody responseBody = response.body();
-            String responseBodyString = responseBody != null ? responseBody.string() : "{}";
             if (response.isSuccessful()) {
                 return new PayrocApiHttpResponse<>(
-                        ObjectMappers.JSON_MAPPER.readValue(responseBodyString, BankTransferPayment.class), response);
+                        ObjectMappers.readBody(responseBody, BankTransferPayment.class), response);
             }
+            String responseBodyString = responseBody != null ? responseBody.string() : "{}";
             try {
                 switch (response.code()) {
                     case 400:
@@ -457,7 +456,9 @@ public class RawPaymentsClient {
      */
     public PayrocApiHttpResponse<BankTransferPayment> represent(
             String paymentId, Representment request, RequestOptions requestOptions) {
-        HttpUrl.Builder httpUrl = HttpUrl.parse(this.clientOptions.environment().getApiURL())
+        HttpUrl.Builder httpUrl = this.clientOptions
+                .environment()
+                .getApiHttpUrl()
                 .newBuilder()
                 .addPathSegments("bank-transfer-payments")
                 .addPathSegment(paymentId)
@@ -469,30 +470,29 @@ public class RawPaymentsClient {
         }
         RequestBody body;
         try {
-            body = RequestBody.create(
-                    ObjectMappers.JSON_MAPPER.writeValueAsBytes(request), MediaTypes.APPLICATION_JSON);
+            body = JsonRequestBody.of(clientOptions, request);
         } catch (Exception e) {
             throw new RuntimeException(e);
         }
         Request.Builder _requestBuilder = new Request.Builder()
                 .url(httpUrl.build())
                 .method("POST", body)
-                .headers(Headers.of(clientOptions.headers(requestOptions)))
+                .headers(clientOptions.httpHeaders(requestOptions))
                 .addHeader("Content-Type", "application/json")
                 .addHeader("Accept", "application/json");
-        _requestBuilder.addHeader("Idempotency-Key", request.getIdempotencyKey());
+        _requestBuilder.addHeader("Idempotency-Key", clientOptions.idempotencyKey(request.getIdempotencyKey()));
         Request okhttpRequest = _requestBuilder.build();
         OkHttpClient client = clientOptions.httpClient();
         if (requestOptions != null && requestOptions.getTimeout().isPresent()) {
             client = clientOptions.httpClientWithTimeout(requestOptions);
         }
-        try (Response response = client.newCall(okhttpRequest).execute()) {
+        try (Response response = HttpCalls.execute(client, okhttpRequest)) {
             ResponseBody responseBody = response.body();
-            String responseBodyString = responseBody != null ? responseBody.string() : "{}";
             if (response.isSuccessful()) {
                 return new PayrocApiHttpResponse<>(
-                        ObjectMappers.JSON_MAPPER.readValue(responseBodyString, BankTransferPayment.class), response);
+                        ObjectMappers.readBody(responseBody, BankTransferPayment.class), response);
             }
+            String responseBodyString = responseBody != null ? responseBody.string() : "{}";
             try {
                 switch (response.code()) {
                     case 400:
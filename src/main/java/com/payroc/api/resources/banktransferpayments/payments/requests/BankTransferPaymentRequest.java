@@ -18,6 +18,7 @@ import com.payroc.api.types.BankTransferCustomer;
 import com.payroc.api.types.BankTransferPaymentRequestOrder;
 import com.payroc.api.types.CustomField;
 import com.payroc.api.types.SchemasCredentialOnFile;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -233,8 +234,7 @@ public final class BankTransferPaymentRequest {
 
         private Optional<BankTransferCustomer> customer = Optional.empty();
 
-        @JsonAnySetter
-        private Map<String, Object> additionalProperties = new HashMap<>();
+        private Map<String, Object> additionalProperties = Collections.emptyMap();
 
         private Builder() {}
 
@@ -367,13 +367,20 @@ public final class BankTransferPaymentRequest {
         }
 
         @java.lang.Override
+        @JsonAnySetter
         public Builder additionalProperty(String key, Object value) {
+            if (this.additionalProperties.isEmpty()) {
+                this.additionalProperties = new HashMap<>();
+            }
             this.additionalProperties.put(key, value);
             return this;
         }
 
         @java.lang.Override
         public Builder additionalProperties(Map<String, Object> additionalProperties) {
+            if (this.additionalProperties.isEmpty()) {
+                this.additionalProperties = new HashMap<>();
+            }
             this.additionalProperties.putAll(additionalProperties);
             return this;
         }
@@ -5,7 +5,8 @@ package com.payroc.api.resources.banktransferpayments.refunds;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.payroc.api.core.ClientOptions;
-import com.payroc.api.core.MediaTypes;
+import com.payroc.api.core.HttpCalls;
+import com.payroc.api.core.JsonRequestBody;
 import com.payroc.api.core.ObjectMappers;
 import com.payroc.api.core.PayrocApiApiException;
 import com.payroc.api.core.PayrocApiException;
@@ -41,7 +42,6 @@ import java.io.IOException;
 import java.util.concurrent.CompletableFuture;
 import okhttp3.Call;
 import okhttp3.Callback;
-import okhttp3.Headers;
 import okhttp3.HttpUrl;
 import okhttp3.OkHttpClient;
 import okhttp3.Request;
@@ -76,7 +76,9 @@ public class AsyncRawRefundsClient {
      */
     public CompletableFuture<PayrocApiHttpResponse<BankTransferPayment>> reversePayment(
             String paymentId, ReversePaymentRefundsRequest request, RequestOptions requestOptions) {
-        HttpUrl.Builder httpUrl = HttpUrl.parse(this.clientOptions.environment().getApiURL())
+        HttpUrl.Builder httpUrl = this.clientOptions
+                .environment()
+                .getApiHttpUrl()
                 .newBuilder()
                 .addPathSegments("bank-transfer-payments")
                 .addPathSegment(paymentId)
@@ -89,26 +91,25 @@ public class AsyncRawRefundsClient {
         Request.Builder _requestBuilder = new Request.Builder()
                 .url(httpUrl.build())
                 .method("POST", RequestBody.create("", null))
-                .headers(Headers.of(clientOptions.headers(requestOptions)))
+                .headers(clientOptions.httpHeaders(requestOptions))
                 .addHeader("Accept", "application/json");
-        _requestBuilder.addHeader("Idempotency-Key", request.getIdempotencyKey());
+        _requestBuilder.addHeader("Idempotency-Key", clientOptions.idempotencyKey(request.getIdempotencyKey()));
         Request okhttpRequest = _requestBuilder.build();
         OkHttpClient client = clientOptions.httpClient();
         if (requestOptions != null && requestOptions.getTimeout().isPresent()) {
             client = clientOptions.httpClientWithTimeout(requestOptions);
         }
         CompletableFuture<PayrocApiHttpResponse<BankTransferPayment>> future = new CompletableFuture<>();
-        client.newCall(okhttpRequest).enqueue(new Callback() {
+        HttpCalls.enqueue(client, okhttpRequest, new Callback() {
             @Override
             public void onResponse(@NotNull Call call, @NotNull Response response) throws IOException {
                 try (ResponseBody responseBody = response.body()) {
-                    String responseBodyString = responseBody != null ? responseBody.string() : "{}";
                     if (response.isSuccessful()) {
                         future.complete(new PayrocApiHttpResponse<>(
-                                ObjectMappers.JSON_MAPPER.readValue(responseBodyString, BankTransferPayment.class),
-                                response));
+                                ObjectMappers.readBody(responseBody, BankTransferPayment.class), response));
                         return;
                     }
+                    String responseBodyString = responseBody != null ? responseBody.string() : "{}";
                     try {
                         switch (response.code()) {
                             case 400:
@@ -202,7 +203,9 @@ public class AsyncRawRefundsClient {
      */
     public CompletableFuture<PayrocApiHttpResponse<BankTransferPayment>> refund(
             String paymentId, BankTransferReferencedRefund request, RequestOptions requestOptions) {
-        HttpUrl.Builder httpUrl = HttpUrl.parse(this.clientOptions.environment().getApiURL())
+        HttpUrl.Builder httpUrl = this.clientOptions
+                .environment()
+                .getApiHttpUrl()
                 .newBuilder()
                 .addPathSegments("bank-transfer-payments")
                 .addPathSegment(paymentId)
@@ -214,35 +217,33 @@ public class AsyncRawRefundsClient {
         }
         RequestBody body;
         try {
-            body = RequestBody.create(
-                    ObjectMappers.JSON_MAPPER.writeValueAsBytes(request), MediaTypes.APPLICATION_JSON);
+            body = JsonRequestBody.of(clientOptions, request);
         } catch (Exception e) {
             throw new RuntimeException(e);
         }
         Request.Builder _requestBuilder = new Request.Builder()
                 .url(httpUrl.build())
                 .method("POST", body)
-                .headers(Headers.of(clientOptions.headers(requestOptions)))
+                .headers(clientOptions.httpHeaders(requestOptions))
                 .addHeader("Content-Type", "application/json")
                 .addHeader("Accept", "application/json");
-        _requestBuilder.addHeader("Idempotency-Key", request.getIdempotencyKey());
+        _requestBuilder.addHeader("Idempotency-Key", clientOptions.idempotencyKey(request.getIdempotencyKey()));
         Request okhttpRequest = _requestBuilder.build();
         OkHttpClient client = clientOptions.httpClient();
         if (requestOptions != null && requestOptions.getTimeout().isPresent()) {
             client = clientOptions.httpClientWithTimeout(requestOptions);
         }
         CompletableFuture<PayrocApiHttpResponse<BankTransferPayment>> future = new CompletableFuture<>();
-        client.newCall(okhttpRequest).enqueue(new Callback() {
+        HttpCalls.enqueue(client, okhttpRequest, new Callback() {
             @Override
             public void onResponse(@NotNull Call call, @NotNull Response response) throws IOException {
                 try (ResponseBody responseBody = response.body()) {
-                    String responseBodyString = responseBody != null ? responseBody.string() : "{}";
                     if (response.isSuccessful()) {
                         future.complete(new PayrocApiHttpResponse<>(
-                                ObjectMappers.JSON_MAPPER.readValue(responseBodyString, BankTransferPayment.class),
-                                response));
+                                ObjectMappers.readBody(responseBody, BankTransferPayment.class), response));
                         return;
                     }
+                    String responseBodyString = responseBody != null ? responseBody.string() : "{}";
                     try {
                         switch (response.code()) {
                             case 400:
@@ -336,9 +337,8 @@ public class AsyncRawRefundsClient {
      */
     public CompletableFuture<PayrocApiHttpResponse<CompletableFuture<AsyncPayrocPager<BankTransferRefund>>>> list(
             ListRefundsRequest request, RequestOptions requestOptions) {
-        HttpUrl.Builder httpUrl = HttpUrl.parse(this.clientOptions.environment().getApiURL())
-                .newBuilder()
-                .addPathSegments("bank-transfer-refunds");
+        HttpUrl.Builder httpUrl =
+                this.clientOptions.environment().getApiHttpUrl().newBuilder().addPathSegments("bank-transfer-refunds");
         QueryStringMapper.addQueryParameter(httpUrl, "processingTerminalId", request.getProcessingTerminalId(), false);
         if (request.getOrderId().isPresent()) {
             QueryStringMapper.addQueryParameter(
@@ -396,7 +396,7 @@ public class AsyncRawRefundsClient {
         Request.Builder _requestBuilder = new Request.Builder()
                 .url(httpUrl.build())
                 .method("GET", null)
-                .headers(Headers.of(clientOptions.headers(requestOptions)))
+                .headers(clientOptions.httpHeaders(requestOptions))
                 .addHeader("Accept", "application/json");
         Request okhttpRequest = _requestBuilder.build();
         OkHttpClient client = clientOptions.httpClient();
@@ -405,18 +405,18 @@ public class AsyncRawRefundsClient {
         }
         CompletableFuture<PayrocApiHttpResponse<CompletableFuture<AsyncPayrocPager<BankTransferRefund>>>> future =
                 new CompletableFuture<>();
-        client.newCall(okhttpRequest).enqueue(new Callback() {
+        HttpCalls.enqueue(client, okhttpRequest, new Callback() {
             @Override
             public void onResponse(@NotNull Call call, @NotNull Response response) throws IOException {
                 try (ResponseBody responseBody = response.body()) {
-                    String responseBodyString = responseBody != null ? responseBody.string() : "{}";
                     if (response.isSuccessful()) {
-                        BankTransferRefundPaginatedList parsedResponse = ObjectMappers.JSON_MAPPER.readValue(
-                                responseBodyString, BankTransferRefundPaginatedList.class);
+                        BankTransferRefundPaginatedList parsedResponse =
+                                ObjectMappers.readBody(responseBody, BankTransferRefundPaginatedList.class);
                         future.complete(new PayrocApiHttpResponse<>(
                                 AsyncPayrocPager.createAsync(parsedResponse, clientOptions, requestOptions), response));
                         return;
                     }
+                    String responseBodyString = responseBody != null ? responseBody.string() : "{}";
                     try {
                         switch (response.code()) {
                             case 400:
@@ -491,9 +491,8 @@ public class AsyncRawRefundsClient {
      */
     public CompletableFuture<PayrocApiHttpResponse<BankTransferRefund>> create(
             BankTransferUnreferencedRefund request, RequestOptions requestOptions) {
-        HttpUrl.Builder httpUrl = HttpUrl.parse(this.clientOptions.environment().getApiURL())
-                .newBuilder()
-                .addPathSegments("bank-transfer-refunds");
+        HttpUrl.Builder httpUrl =
+                this.clientOptions.environment().getApiHttpUrl().newBuilder().addPathSegments("bank-transfer-refunds");
         if (requestOptions != null) {
             requestOptions.getQueryParameters().forEach((_key, _value) -> {
                 httpUrl.addQueryParameter(_key, _value);
@@ -501,35 +500,33 @@ public class AsyncRawRefundsClient {
         }
         RequestBody body;
         try {
-            body = RequestBody.create(
-                    ObjectMappers.JSON_MAPPER.writeValueAsBytes(request), MediaTypes.APPLICATION_JSON);
+            body = JsonRequestBody.of(clientOptions, request);
         } catch (Exception e) {
             throw new RuntimeException(e);
         }
         Request.Builder _requestBuilder = new Request.Builder()
                 .url(httpUrl.build())
                 .method("POST", body)
-                .headers(Headers.of(clientOptions.headers(requestOptions)))
+                .headers(clientOptions.httpHeaders(requestOptions))
                 .addHeader("Content-Type", "application/json")
                 .addHeader("Accept", "application/json");
-        _requestBuilder.addHeader("Idempotency-Key", request.getIdempotencyKey());
+        _requestBuilder.addHeader("Idempotency-Key", clientOptions.idempotencyKey(request.getIdempotencyKey()));
         Request okhttpRequest = _requestBuilder.build();
         OkHttpClient client = clientOptions.httpClient();
         if (requestOptions != null && requestOptions.getTimeout().isPresent()) {
             client = clientOptions.httpClientWithTimeout(requestOptions);
         }
         CompletableFuture<PayrocApiHttpResponse<BankTransferRefund>> future = new CompletableFuture<>();
-        client.newCall(okhttpRequest).enqueue(new Callback() {
+        HttpCalls.enqueue(client, okhttpRequest, new Callback() {
             @Override
             public void onResponse(@NotNull Call call, @NotNull Response response) throws IOException {
                 try (ResponseBody responseBody = response.body()) {
-                    String responseBodyString = responseBody != null ? responseBody.string() : "{}";
                     if (response.isSuccessful()) {
                         future.complete(new PayrocApiHttpResponse<>(
-                                ObjectMappers.JSON_MAPPER.readValue(responseBodyString, BankTransferRefund.class),
-                                response));
+                                ObjectMappers.readBody(responseBody, BankTransferRefund.class), response));
                         return;
                     }
+                    String responseBodyString = responseBody != null ? responseBody.string() : "{}";
                     try {
                         switch (response.code()) {
                             case 400:
@@ -649,7 +646,9 @@ public class AsyncRawRefundsClient {
      */
     public CompletableFuture<PayrocApiHttpResponse<BankTransferRefund>> retrieve(
             String refundId, RetrieveRefundsRequest request, RequestOptions requestOptions) {
-        HttpUrl.Builder httpUrl = HttpUrl.parse(this.clientOptions.environment().getApiURL())
+        HttpUrl.Builder httpUrl = this.clientOptions
+                .environment()
+                .getApiHttpUrl()
                 .newBuilder()
                 .addPathSegments("bank-transfer-refunds")
                 .addPathSegment(refundId);
@@ -661,7 +660,7 @@ public class AsyncRawRefundsClient {
         Request.Builder _requestBuilder = new Request.Builder()
                 .url(httpUrl.build())
                 .method("GET", null)
-                .headers(Headers.of(clientOptions.headers(requestOptions)))
+                .headers(clientOptions.httpHeaders(requestOptions))
                 .addHeader("Accept", "application/json");
         Request okhttpRequest = _requestBuilder.build();
         OkHttpClient client = clientOptions.httpClient();
@@ -669,17 +668,16 @@ public class AsyncRawRefundsClient {
             client = clientOptions.httpClientWithTimeout(requestOptions);
         }
         CompletableFuture<PayrocApiHttpResponse<BankTransferRefund>> future = new CompletableFuture<>();
-        client.newCall(okhttpRequest).enqueue(new Callback() {
+        HttpCalls.enqueue(client, okhttpRequest, new Callback() {
             @Override
             public void onResponse(@NotNull Call call, @NotNull Response response) throws IOException {
                 try (ResponseBody responseBody = response.body()) {
-                    String responseBodyString = responseBody != null ? responseBody.string() : "{}";
                     if (response.isSuccessful()) {
                         future.complete(new PayrocApiHttpResponse<>(
-                                ObjectMappers.JSON_MAPPER.readValue(responseBodyString, BankTransferRefund.class),
-                                response));
+                                ObjectMappers.readBody(responseBody, BankTransferRefund.class), response));
                         return;
                     }
+                    String responseBodyString = responseBody != null ? responseBody.string() : "{}";
                     try {
                         switch (response.code()) {
                             case 400:
@@ -752,7 +750,9 @@ public class AsyncRawRefundsClient {
      */
     public CompletableFuture<PayrocApiHttpResponse<BankTransferRefund>> reverseRefund(
             String refundId, ReverseRefundRefundsRequest request, RequestOptions requestOptions) {
-        HttpUrl.Builder httpUrl = HttpUrl.parse(this.clientOptions.environment().getApiURL())
+        HttpUrl.Builder httpUrl = this.clientOptions
+                .environment()
+                .getApiHttpUrl()
                 .newBuilder()
                 .addPathSegments("bank-transfer-refunds")
                 .addPathSegment(refundId)
@@ -765,26 +765,25 @@ public class AsyncRawRefundsClient {
         Request.Builder _requestBuilder = new Request.Builder()
                 .url(httpUrl.build())
                 .method("POST", RequestBody.create("", null))
-                .headers(Headers.of(clientOptions.headers(requestOptions)))
+                .headers(clientOptions.httpHeaders(requestOptions))
                 .addHeader("Accept", "application/json");
-        _requestBuilder.addHeader("Idempotency-Key", request.getIdempotencyKey());
+        _requestBuilder.addHeader("Idempotency-Key", clientOptions.idempotencyKey(request.getIdempotencyKey()));
         Request okhttpRequest = _requestBuilder.build();
         OkHttpClient client = clientOptions.httpClient();
         if (requestOptions != null && requestOptions.getTimeout().isPresent()) {
             client = clientOptions.httpClientWithTimeout(requestOptions);
         }
         CompletableFuture<PayrocApiHttpResponse<BankTransferRefund>> future = new CompletableFuture<>();
-        client.newCall(okhttpRequest).enqueue(new Callback() {
+        HttpCalls.enqueue(client, okhttpRequest, new Callback() {
             @Override
             public void onResponse(@NotNull Call call, @NotNull Response response) throws IOException {
                 try (ResponseBody responseBody = response.body()) {
-                    String responseBodyString = responseBody != null ? responseBody.string() : "{}";
                     if (response.isSuccessful()) {
                         future.complete(new PayrocApiHttpResponse<>(
-                                ObjectMappers.JSON_MAPPER.readValue(responseBodyString, BankTransferRefund.class),
-                                response));
+                                ObjectMappers.readBody(responseBody, BankTransferRefund.class), response));
                         return;
                     }
+                    String responseBodyString = responseBody != null ? responseBody.string() : "{}";
                     try {
                         switch (response.code()) {
                             case 400:
@@ -17,6 +17,7 @@ import com.payroc.api.resources.banktransferpayments.refunds.types.BankTransferU
 import com.payroc.api.types.BankTransferCustomer;
 import com.payroc.api.types.BankTransferRefundOrder;
 import com.payroc.api.types.CustomField;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -211,8 +212,7 @@ public final class BankTransferUnreferencedRefund {
 
         private Optional<BankTransferCustomer> customer = Optional.empty();
 
-        @JsonAnySetter
-        private Map<String, Object> additionalProperties = new HashMap<>();
+        private Map<String, Object> additionalProperties = Collections.emptyMap();
 
         private Builder() {}
 
@@ -326,13 +326,20 @@ public final class BankTransferUnreferencedRefund {
         }
 
         @java.lang.Override
+        @JsonAnySetter
         public Builder additionalProperty(String key, Object value) {
+            if (this.additionalProperties.isEmpty()) {
+                this.additionalProperties = new HashMap<>();
+            }
             this.additionalProperties.put(key, value);
             return this;
         }
 
         @java.lang.Override
         public Builder additionalProperties(Map<String, Object> additionalProperties) {
+            if (this.additionalProperties.isEmpty()) {
+                this.additionalProperties = new HashMap<>();
+            }
             this.additionalProperties.putAll(additionalProperties);
             return this;
         }
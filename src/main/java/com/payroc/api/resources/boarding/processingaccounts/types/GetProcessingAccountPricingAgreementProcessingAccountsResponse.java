@@ -9,11 +9,10 @@ import com.fasterxml.jackson.core.JsonParser;
 import com.fasterxml.jackson.databind.DeserializationContext;
 import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
 import com.fasterxml.jackson.databind.deser.std.StdDeserializer;
-import com.payroc.api.core.ObjectMappers;
+import com.payroc.api.core.BufferedJsonValue;
 import com.payroc.api.types.PricingAgreementUs40;
 import com.payroc.api.types.PricingAgreementUs50;
 import java.io.IOException;
-import java.util.Map;
 import java.util.Objects;
 
 @JsonDeserialize(using = GetProcessingAccountPricingAgreementProcessingAccountsResponse.Deserializer.class)
@@ -86,24 +85,12 @@ public final class GetProcessingAccountPricingAgreementProcessingAccountsRespons
         @java.lang.Override
         public GetProcessingAccountPricingAgreementProcessingAccountsResponse deserialize(
                 JsonParser p, DeserializationContext context) throws IOException {
-            Object value = p.readValueAs(Object.class);
-            if (value instanceof Map<?, ?>
-                    && ((Map<?, ?>) value).containsKey("country")
-                    && ((Map<?, ?>) value).containsKey("version")
-                    && ((Map<?, ?>) value).containsKey("base")) {
-                try {
-                    return of(ObjectMappers.JSON_MAPPER.convertValue(value, PricingAgreementUs40.class));
-                } catch (RuntimeException e) {
-                }
+            BufferedJsonValue value = BufferedJsonValue.read(p, context);
+            if (value.hasFields("country", "version", "base") && !value.fieldEquals("version", "5.0")) {
+                return of(value.readAs(PricingAgreementUs40.class, context));
             }
-            if (value instanceof Map<?, ?>
-                    && ((Map<?, ?>) value).containsKey("country")
-                    && ((Map<?, ?>) value).containsKey("version")
-                    && ((Map<?, ?>) value).containsKey("base")) {
-                try {
-                    return of(ObjectMappers.JSON_MAPPER.convertValue(value, PricingAgreementUs50.class));
-                } catch (RuntimeException e) {
-                }
+            if (value.hasFields("country", "version", "base")) {
+                return of(value.readAs(PricingAgreementUs50.class, context));
             }
             throw new JsonParseException(p, "Failed to deserialize");
         }
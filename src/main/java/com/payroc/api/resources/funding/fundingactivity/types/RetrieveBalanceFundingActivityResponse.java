@@ -16,6 +16,7 @@ import com.payroc.api.types.IPaginatedList;
 import com.payroc.api.types.Link;
 import com.payroc.api.types.MerchantBalance;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -143,8 +144,7 @@ public final class RetrieveBalanceFundingActivityResponse implements IPaginatedL
 
         private List<MerchantBalance> data = new ArrayList<>();
 
-        @JsonAnySetter
-        private Map<String, Object> additionalProperties = new HashMap<>();
+        private Map<String, Object> additionalProperties = Collections.emptyMap();
 
         private Builder() {}
 
@@ -242,12 +242,19 @@ public final class RetrieveBalanceFundingActivityResponse implements IPaginatedL
             return new RetrieveBalanceFundingActivityResponse(limit, count, hasMore, links, data, additionalProperties);
         }
 
+        @JsonAnySetter
         public Builder additionalProperty(String key, Object value) {
+            if (this.additionalProperties.isEmpty()) {
+                this.additionalProperties = new HashMap<>();
+            }
             this.additionalProperties.put(key, value);
             return this;
         }
 
         public Builder additionalProperties(Map<String, Object> additionalProperties) {
+            if (this.additionalProperties.isEmpty()) {
+                this.additionalProperties = new HashMap<>();
+            }
             this.additionalProperties.putAll(additionalProperties);
             return this;
         }
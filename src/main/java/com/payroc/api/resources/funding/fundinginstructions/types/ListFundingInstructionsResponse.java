@@ -15,6 +15,7 @@ import com.payroc.api.core.ObjectMappers;
 import com.payroc.api.types.IPaginatedList;
 import com.payroc.api.types.Link;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -141,8 +142,7 @@ public final class ListFundingInstructionsResponse implements IPaginatedList {
 
         private List<ListFundingInstructionsResponseDataItem> data = new ArrayList<>();
 
-        @JsonAnySetter
-        private Map<String, Object> additionalProperties = new HashMap<>();
+        private Map<String, Object> additionalProperties = Collections.emptyMap();
 
         private Builder() {}
 
@@ -240,12 +240,19 @@ public final class ListFundingInstructionsResponse implements IPaginatedList {
             return new ListFundingInstructionsResponse(limit, count, hasMore, links, data, additionalProperties);
         }
 
+        @JsonAnySetter
         public Builder additionalProperty(String key, Object value) {
+            if (this.additionalProperties.isEmpty()) {
+                this.additionalProperties = new HashMap<>();
+            }
             this.additionalProperties.put(key, value);
             return this;
         }
 
         public Builder additionalProperties(Map<String, Object> additionalProperties) {
+            if (this.additionalProperties.isEmpty()) {
+                this.additionalProperties = new HashMap<>();
+            }
             this.additionalProperties.putAll(additionalProperties);
             return this;
         }
@@ -16,6 +16,7 @@ import com.payroc.api.types.IInstruction;
 import com.payroc.api.types.InstructionMerchantsItem;
 import com.payroc.api.types.InstructionStatus;
 import com.payroc.api.types.Link;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -181,8 +182,7 @@ public final class ListFundingInstructionsResponseDataItem implements IInstructi
 
         private Optional<Link> link = Optional.empty();
 
-        @JsonAnySetter
-        private Map<String, Object> additionalProperties = new HashMap<>();
+        private Map<String, Object> additionalProperties = Collections.emptyMap();
 
         private Builder() {}
 
@@ -309,12 +309,19 @@ public final class ListFundingInstructionsResponseDataItem implements IInstructi
                     additionalProperties);
         }
 
+        @JsonAnySetter
         public Builder additionalProperty(String key, Object value) {
+            if (this.additionalProperties.isEmpty()) {
+                this.additionalProperties = new HashMap<>();
+            }
             this.additionalProperties.put(key, value);
             return this;
         }
 
         public Builder additionalProperties(Map<String, Object> additionalProperties) {
+            if (this.additionalProperties.isEmpty()) {
+                this.additionalProperties = new HashMap<>();
+            }
             this.additionalProperties.putAll(additionalProperties);
             return this;
         }
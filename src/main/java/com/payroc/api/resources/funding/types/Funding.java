@@ -16,6 +16,7 @@ import com.payroc.api.types.CommonFundingFundingSchedule;
 import com.payroc.api.types.CommonFundingStatus;
 import com.payroc.api.types.FundingAccountSummary;
 import com.payroc.api.types.ICommonFunding;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -147,8 +148,7 @@ public final class Funding implements ICommonFunding {
 
         private Optional<List<FundingAccountSummary>> fundingAccounts = Optional.empty();
 
-        @JsonAnySetter
-        private Map<String, Object> additionalProperties = new HashMap<>();
+        private Map<String, Object> additionalProperties = Collections.emptyMap();
 
         private Builder() {}
 
@@ -244,12 +244,19 @@ public final class Funding implements ICommonFunding {
                     additionalProperties);
         }
 
+        @JsonAnySetter
         public Builder additionalProperty(String key, Object value) {
+            if (this.additionalProperties.isEmpty()) {
+                this.additionalProperties = new HashMap<>();
+            }
             this.additionalProperties.put(key, value);
             return this;
         }
 
         public Builder additionalProperties(Map<String, Object> additionalProperties) {
+            if (this.additionalProperties.isEmpty()) {
+                this.additionalProperties = new HashMap<>();
+            }
             this.additionalProperties.putAll(additionalProperties);
             return this;
         }
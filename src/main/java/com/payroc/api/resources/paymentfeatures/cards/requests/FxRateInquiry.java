@@ -15,6 +15,7 @@ import com.payroc.api.core.ObjectMappers;
 import com.payroc.api.resources.paymentfeatures.cards.types.FxRateInquiryChannel;
 import com.payroc.api.resources.paymentfeatures.cards.types.FxRateInquiryPaymentMethod;
 import com.payroc.api.types.Currency;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.Objects;
@@ -221,8 +222,7 @@ public final class FxRateInquiry {
 
         private Optional<String> operator = Optional.empty();
 
-        @JsonAnySetter
-        private Map<String, Object> additionalProperties = new HashMap<>();
+        private Map<String, Object> additionalProperties = Collections.emptyMap();
 
         private Builder() {}
 
@@ -338,13 +338,20 @@ public final class FxRateInquiry {
         }
 
         @java.lang.Override
+        @JsonAnySetter
         public Builder additionalProperty(String key, Object value) {
+            if (this.additionalProperties.isEmpty()) {
+                this.additionalProperties = new HashMap<>();
+            }
             this.additionalProperties.put(key, value);
             return this;
         }
 
         @java.lang.Override
         public Builder additionalProperties(Map<String, Object> additionalProperties) {
+            if (this.additionalProperties.isEmpty()) {
+                this.additionalProperties = new HashMap<>();
+            }
             this.additionalProperties.putAll(additionalProperties);
             return this;
         }
@@ -16,6 +16,7 @@ import com.payroc.api.resources.paymentlinks.types.ListPaymentLinksRequestCharge
 import com.payroc.api.resources.paymentlinks.types.ListPaymentLinksRequestLinkType;
 import com.payroc.api.resources.paymentlinks.types.ListPaymentLinksRequestStatus;
 import java.time.LocalDate;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.Objects;
@@ -243,8 +244,7 @@ public final class ListPaymentLinksRequest {
 
         private Optional<Integer> limit = Optional.empty();
 
-        @JsonAnySetter
-        private Map<String, Object> additionalProperties = new HashMap<>();
+        private Map<String, Object> additionalProperties = Collections.emptyMap();
 
         private Builder() {}
 
@@ -439,12 +439,19 @@ public final class ListPaymentLinksRequest {
                     additionalProperties);
         }
 
+        @JsonAnySetter
         public Builder additionalProperty(String key, Object value) {
+            if (this.additionalProperties.isEmpty()) {
+                this.additionalProperties = new HashMap<>();
+            }
             this.additionalProperties.put(key, value);
             return this;
         }
 
         public Builder additionalProperties(Map<String, Object> additionalProperties) {
+            if (this.additionalProperties.isEmpty()) {
+                this.additionalProperties = new HashMap<>();
+            }
             this.additionalProperties.putAll(additionalProperties);
             return this;
         }
@@ -15,6 +15,7 @@ import com.payroc.api.core.ObjectMappers;
 import com.payroc.api.resources.repeatpayments.subscriptions.types.ListSubscriptionsRequestFrequency;
 import com.payroc.api.resources.repeatpayments.subscriptions.types.ListSubscriptionsRequestStatus;
 import java.time.LocalDate;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.Objects;
@@ -224,8 +225,7 @@ public final class ListSubscriptionsRequest {
 
         private Optional<Integer> limit = Optional.empty();
 
-        @JsonAnySetter
-        private Map<String, Object> additionalProperties = new HashMap<>();
+        private Map<String, Object> additionalProperties = Collections.emptyMap();
 
         private Builder() {}
 
@@ -402,12 +402,19 @@ public final class ListSubscriptionsRequest {
                     additionalProperties);
         }
 
+        @JsonAnySetter
         public Builder additionalProperty(String key, Object value) {
+            if (this.additionalProperties.isEmpty()) {
+                this.additionalProperties = new HashMap<>();
+            }
             this.additionalProperties.put(key, value);
             return this;
         }
 
         public Builder additionalProperties(Map<String, Object> additionalProperties) {
+            if (this.additionalProperties.isEmpty()) {
+                this.additionalProperties = new HashMap<>();
+            }
             this.additionalProperties.putAll(additionalProperties);
             return this;
         }
@@ -0,0 +1,199 @@
+package com.payroc.api.resources.reporting.settlement;
+
+import com.payroc.api.core.RequestOptions;
+import com.payroc.api.core.pagination.ParallelExportOptions;
+import com.payroc.api.core.pagination.ParallelPagerExport;
+import com.payroc.api.resources.reporting.settlement.requests.ListReportingSettlementAchDepositsRequest;
+import com.payroc.api.resources.reporting.settlement.requests.ListReportingSettlementAuthorizationsRequest;
+import com.payroc.api.resources.reporting.settlement.requests.ListReportingSettlementBatchesRequest;
+import com.payroc.api.resources.reporting.settlement.requests.ListReportingSettlementTransactionsRequest;
+import com.payroc.api.types.AchDeposit;
+import com.payroc.api.types.Authorization;
+import com.payroc.api.types.Batch;
+import com.payroc.api.types.Transaction;
+import java.time.LocalDate;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+/**
+ * Exports settlement reports over a range of dates with {@link ParallelPagerExport}.
+ *
+ * <p>The settlement listings are filtered by a single date, so each export runs one pager per day of the range
+ * on a {@link SettlementClient} and merges them into one stream.
+ * <pre>{@code
+ * SettlementExports exports = new SettlementExports(client.reporting().settlement());
+ * try (Stream<Batch> batches = exports.exportBatches(
+ *         dateFrom, dateTo, ParallelExportOptions.builder().parallelism(8).build())) {
+ *     batches.forEach(this::process);
+ * }
+ * }</pre>
+ */
+public final class SettlementExports {
+    private final SettlementClient settlement;
+
+    public SettlementExports(SettlementClient settlement) {
+        this.settlement = settlement;
+    }
+
+    /**
+     * Exports transactions for every date from {@code dateFrom} to {@code dateTo} (inclusive), with the filters of
+     * {@code request}, using the default {@link RequestOptions}. See
+     * {@link #exportTransactions(LocalDate, LocalDate, ListReportingSettlementTransactionsRequest, ParallelExportOptions, RequestOptions)}.
+     */
+    public Stream<Transaction> exportTransactions(
+            LocalDate dateFrom,
+            LocalDate dateTo,
+            ListReportingSettlementTransactionsRequest request,
+            ParallelExportOptions exportOptions) {
+        return exportTransactions(dateFrom, dateTo, request, exportOptions, null);
+    }
+
+    /**
+     * Exports transactions for every date from {@code dateFrom} to {@code dateTo} (inclusive) by running
+     * one {@link SettlementClient#listTransactions} pager per day in parallel and merging the results into a single
+     * stream.
+     * <p>The {@code request} supplies the remaining filters and is used as the template of each day's request,
+     * so it must not set a date or a {@code before}/{@code after} cursor. Close the returned stream if you stop
+     * consuming it early.</p>
+     *
+     * @throws IllegalArgumentException if {@code request} sets a date or a cursor
+     */
+    public Stream<Transaction> exportTransactions(
+            LocalDate dateFrom,
+            LocalDate dateTo,
+            ListReportingSettlementTransactionsRequest request,
+            ParallelExportOptions exportOptions,
+            RequestOptions requestOptions) {
+        requireExportTemplate(
+                request.getDate().isPresent(),
+                request.getBefore().isPresent() || request.getAfter().isPresent());
+        return ParallelPagerExport.stream(
+                ParallelPagerExport.days(dateFrom, dateTo),
+                day -> settlement.listTransactions(
+                        ListReportingSettlementTransactionsRequest.builder()
+                                .from(request)
+                                .date(day)
+                                .build(),
+                        requestOptions),
+                exportOptions);
+    }
+
+    /**
+     * Exports batches for every date from {@code dateFrom} to {@code dateTo} (inclusive) for all merchants, using
+     * the default {@link RequestOptions}. See
+     * {@link #exportBatches(LocalDate, LocalDate, Optional, ParallelExportOptions, RequestOptions)}.
+     */
+    public Stream<Batch> exportBatches(LocalDate dateFrom, LocalDate dateTo, ParallelExportOptions exportOptions) {
+        return exportBatches(dateFrom, dateTo, Optional.empty(), exportOptions, null);
+    }
+
+    /**
+     * Exports batches for every date from {@code dateFrom} to {@code dateTo} (inclusive) by running
+     * one {@link SettlementClient#listBatches} pager per day in parallel and merging the results into a single
+     * stream.
+     * <p>Each day's request is filtered by {@code merchantId} when it is present. Close the returned stream if
+     * you stop consuming it early.</p>
+     */
+    public Stream<Batch> exportBatches(
+            LocalDate dateFrom,
+            LocalDate dateTo,
+            Optional<String> merchantId,
+            ParallelExportOptions exportOptions,
+            RequestOptions requestOptions) {
+        return ParallelPagerExport.stream(
+                ParallelPagerExport.days(dateFrom, dateTo),
+                day -> settlement.listBatches(
+                        ListReportingSettlementBatchesRequest.builder()
+                                .date(day)
+                                .merchantId(merchantId)
+                                .build(),
+                        requestOptions),
+                exportOptions);
+    }
+
+    /**
+     * Exports authorizations for every date from {@code dateFrom} to {@code dateTo} (inclusive), with the filters of
+     * {@code request}, using the default {@link RequestOptions}. See
+     * {@link #exportAuthorizations(LocalDate, LocalDate, ListReportingSettlementAuthorizationsRequest, ParallelExportOptions, RequestOptions)}.
+     */
+    public Stream<Authorization> exportAuthorizations(
+            LocalDate dateFrom,
+            LocalDate dateTo,
+            ListReportingSettlementAuthorizationsRequest request,
+            ParallelExportOptions exportOptions) {
+        return exportAuthorizations(dateFrom, dateTo, request, exportOptions, null);
+    }
+
+    /**
+     * Exports authorizations for every date from {@code dateFrom} to {@code dateTo} (inclusive) by running
+     * one {@link SettlementClient#listAuthorizations} pager per day in parallel and merging the results into a
+     * single stream.
+     * <p>The {@code request} supplies the remaining filters and is used as the template of each day's request,
+     * so it must not set a date or a {@code before}/{@code after} cursor. Close the returned stream if you stop
+     * consuming it early.</p>
+     *
+     * @throws IllegalArgumentException if {@code request} sets a date or a cursor
+     */
+    public Stream<Authorization> exportAuthorizations(
+            LocalDate dateFrom,
+            LocalDate dateTo,
+            ListReportingSettlementAuthorizationsRequest request,
+            ParallelExportOptions exportOptions,
+            RequestOptions requestOptions) {
+        requireExportTemplate(
+                request.getDate().isPresent(),
+                request.getBefore().isPresent() || request.getAfter().isPresent());
+        return ParallelPagerExport.stream(
+                ParallelPagerExport.days(dateFrom, dateTo),
+                day -> settlement.listAuthorizations(
+                        ListReportingSettlementAuthorizationsRequest.builder()
+                                .from(request)
+                                .date(day)
+                                .build(),
+                        requestOptions),
+                exportOptions);
+    }
+
+    /**
+     * Exports ACH deposits for every date from {@code dateFrom} to {@code dateTo} (inclusive) for all merchants, using
+     * the default {@link RequestOptions}. See
+     * {@link #exportAchDeposits(LocalDate, LocalDate, Optional, ParallelExportOptions, RequestOptions)}.
+     */
+    public Stream<AchDeposit> exportAchDeposits(
+            LocalDate dateFrom, LocalDate dateTo, ParallelExportOptions exportOptions) {
+        return exportAchDeposits(dateFrom, dateTo, Optional.empty(), exportOptions, null);
+    }
+
+    /**
+     * Exports ACH deposits for every date from {@code dateFrom} to {@code dateTo} (inclusive) by running
+     * one {@link SettlementClient#listAchDeposits} pager per day in parallel and merging the results into a single
+     * stream.
+     * <p>Each day's request is filtered by {@code merchantId} when it is present. Close the returned stream if
+     * you stop consuming it early.</p>
+     */
+    public Stream<AchDeposit> exportAchDeposits(
+            LocalDate dateFrom,
+            LocalDate dateTo,
+            Optional<String> merchantId,
+            ParallelExportOptions exportOptions,
+            RequestOptions requestOptions) {
+        return ParallelPagerExport.stream(
+                ParallelPagerExport.days(dateFrom, dateTo),
+                day -> settlement.listAchDeposits(
+                        ListReportingSettlementAchDepositsRequest.builder()
+                                .date(day)
+                                .merchantId(merchantId)
+                                .build(),
+                        requestOptions),
+                exportOptions);
+    }
+
+    private static void requireExportTemplate(boolean hasDate, boolean hasCursor) {
+        if (hasDate) {
+            throw new IllegalArgumentException("The export request must not set a date; the date range sets it");
+        }
+        if (hasCursor) {
+            throw new IllegalArgumentException("The export request must not set a before or after cursor");
+        }
+    }
+}
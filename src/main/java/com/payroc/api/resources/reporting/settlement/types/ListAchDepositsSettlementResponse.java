@@ -16,6 +16,7 @@ import com.payroc.api.types.AchDeposit;
 import com.payroc.api.types.IPaginatedList;
 import com.payroc.api.types.Link;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -142,8 +143,7 @@ public final class ListAchDepositsSettlementResponse implements IPaginatedList {
 
         private List<AchDeposit> data = new ArrayList<>();
 
-        @JsonAnySetter
-        private Map<String, Object> additionalProperties = new HashMap<>();
+        private Map<String, Object> additionalProperties = Collections.emptyMap();
 
         private Builder() {}
 
@@ -241,12 +241,19 @@ public final class ListAchDepositsSettlementResponse implements IPaginatedList {
             return new ListAchDepositsSettlementResponse(limit, count, hasMore, links, data, additionalProperties);
         }
 
+        @JsonAnySetter
         public Builder additionalProperty(String key, Object value) {
+            if (this.additionalProperties.isEmpty()) {
+                this.additionalProperties = new HashMap<>();
+            }
             this.additionalProperties.put(key, value);
             return this;
         }
 
         public Builder additionalProperties(Map<String, Object> additionalProperties) {
+            if (this.additionalProperties.isEmpty()) {
+                this.additionalProperties = new HashMap<>();
+            }
             this.additionalProperties.putAll(additionalProperties);
             return this;
         }
@@ -5,7 +5,11 @@ package com.payroc.api.types;
 
 import com.fasterxml.jackson.annotation.JsonCreator;
 import com.fasterxml.jackson.annotation.JsonValue;
+import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+import com.payroc.api.core.EnumValueTable;
+import java.util.Arrays;
 
+@JsonDeserialize(using = Currency.Deserializer.class)
 public final class Currency {
     public static final Currency NIO = new Currency(Value.NIO, "NIO");
 
@@ -349,6 +353,20 @@ public final class Currency {
 
     public static final Currency UYU = new Currency(Value.UYU, "UYU");
 
+    private static final EnumValueTable<Currency> VALUES = new EnumValueTable<>(
+            Arrays.asList(
+                    NIO, ETB, MXV, VND, UGX, EUR, AZN, VES, NOK, MMK, RSD, SEK, TWD, BND, KYD, AOA, USN, ZMW, CNY, PYG,
+                    KZT, AFN, BOV, CZK, AED, GHS, ILS, CDF, COU, BOB, EGP, KPW, SDG, MDL, AWG, MXN, SGD, ZWL, SBD, LTL,
+                    ISK, BZD, CRC, SAR, TRY, OMR, TZS, MVR, XCD, CHE, HKD, INR, CHF, ANG, CLP, NZD, IDR, THB, BWP, CAD,
+                    XPF, MOP, STN, PKR, KRW, BIF, FKP, MGA, MRO, FJD, JPY, BBD, LSL, PGK, SOS, AMD, LKR, ALL, TND, KMF,
+                    GIP, CUP, LRD, MUR, PAB, YER, BMD, BGN, TMT, RUB, MNT, SLL, SRD, TTD, BYR, MWK, BRL, UZS, GNF, JMD,
+                    LAK, SYP, XAF, NAD, UYI, MZN, USS, PLN, SZL, BAM, QAR, TOP, VEF, CVE, DKK, IQD, ERN, AUD, GMD, HTG,
+                    KGS, RWF, XOF, UAH, WST, BDT, GBP, BTN, CUC, DJF, GTQ, RON, KES, PHP, BSD, JOD, MKD, HRK, HUF, KHR,
+                    MAD, NGN, DZD, ARS, MYR, COP, ZAR, KWD, GYD, LYD, DOP, VUV, SVC, MRU, LVL, SHP, HNL, CLF, PEN, IRR,
+                    TJS, SCR, BHD, USD, STD, NPR, CHW, SSP, GEL, LBP, UYU),
+            Currency::toString,
+            value -> new Currency(Value.UNKNOWN, value));
+
     private final Value value;
 
     private final String string;
@@ -730,351 +748,12 @@ public final class Currency {
 
     @JsonCreator(mode = JsonCreator.Mode.DELEGATING)
     public static Currency valueOf(String value) {
-        switch (value) {
-            case "NIO":
-                return NIO;
-            case "ETB":
-                return ETB;
-            case "MXV":
-                return MXV;
-            case "VND":
-                return VND;
-            case "UGX":
-                return UGX;
-            case "EUR":
-                return EUR;
-            case "AZN":
-                return AZN;
-            case "VES":
-                return VES;
-            case "NOK":
-                return NOK;
-            case "MMK":
-                return MMK;
-            case "RSD":
-                return RSD;
-            case "SEK":
-                return SEK;
-            case "TWD":
-                return TWD;
-            case "BND":
-                return BND;
-            case "KYD":
-                return KYD;
-            case "AOA":
-                return AOA;
-            case "USN":
-                return USN;
-            case "ZMW":
-                return ZMW;
-            case "CNY":
-                return CNY;
-            case "PYG":
-                return PYG;
-            case "KZT":
-                return KZT;
-            case "AFN":
-                return AFN;
-            case "BOV":
-                return BOV;
-            case "CZK":
-                return CZK;
-            case "AED":
-                return AED;
-            case "GHS":
-                return GHS;
-            case "ILS":
-                return ILS;
-            case "CDF":
-                return CDF;
-            case "COU":
-                return COU;
-            case "BOB":
-                return BOB;
-            case "EGP":
-                return EGP;
-            case "KPW":
-                return KPW;
-            case "SDG":
-                return SDG;
-            case "MDL":
-                return MDL;
-            case "AWG":
-                return AWG;
-            case "MXN":
-                return MXN;
-            case "SGD":
-                return SGD;
-            case "ZWL":
-                return ZWL;
-            case "SBD":
-                return SBD;
-            case "LTL":
-                return LTL;
-            case "ISK":
-                return ISK;
-            case "BZD":
-                return BZD;
-            case "CRC":
-                return CRC;
-            case "SAR":
-                return SAR;
-            case "TRY":
-                return TRY;
-            case "OMR":
-                return OMR;
-            case "TZS":
-                return TZS;
-            case "MVR":
-                return MVR;
-            case "XCD":
-                return XCD;
-            case "CHE":
-                return CHE;
-            case "HKD":
-                return HKD;
-            case "INR":
-                return INR;
-            case "CHF":
-                return CHF;
-            case "ANG":
-                return ANG;
-            case "CLP":
-                return CLP;
-            case "NZD":
-                return NZD;
-            case "IDR":
-                return IDR;
-            case "THB":
-                return THB;
-            case "BWP":
-                return BWP;
-            case "CAD":
-                return CAD;
-            case "XPF":
-                return XPF;
-            case "MOP":
-                return MOP;
-            case "STN":
-                return STN;
-            case "PKR":
-                return PKR;
-            case "KRW":
-                return KRW;
-            case "BIF":
-                return BIF;
-            case "FKP":
-                return FKP;
-            case "MGA":
-                return MGA;
-            case "MRO":
-                return MRO;
-            case "FJD":
-                return FJD;
-            case "JPY":
-                return JPY;
-            case "BBD":
-                return BBD;
-            case "LSL":
-                return LSL;
-            case "PGK":
-                return PGK;
-            case "SOS":
-                return SOS;
-            case "AMD":
-                return AMD;
-            case "LKR":
-                return LKR;
-            case "ALL":
-                return ALL;
-            case "TND":
-                return TND;
-            case "KMF":
-                return KMF;
-            case "GIP":
-                return GIP;
-            case "CUP":
-                return CUP;
-            case "LRD":
-                return LRD;
-            case "MUR":
-                return MUR;
-            case "PAB":
-                return PAB;
-            case "YER":
-                return YER;
-            case "BMD":
-                return BMD;
-            case "BGN":
-                return BGN;
-            case "TMT":
-                return TMT;
-            case "RUB":
-                return RUB;
-            case "MNT":
-                return MNT;
-            case "SLL":
-                return SLL;
-            case "SRD":
-                return SRD;
-            case "TTD":
-                return TTD;
-            case "BYR":
-                return BYR;
-            case "MWK":
-                return MWK;
-            case "BRL":
-                return BRL;
-            case "UZS":
-                return UZS;
-            case "GNF":
-                return GNF;
-            case "JMD":
-                return JMD;
-            case "LAK":
-                return LAK;
-            case "SYP":
-                return SYP;
-            case "XAF":
-                return XAF;
-            case "NAD":
-                return NAD;
-            case "UYI":
-                return UYI;
-            case "MZN":
-                return MZN;
-            case "USS":
-                return USS;
-            case "PLN":
-                return PLN;
-            case "SZL":
-                return SZL;
-            case "BAM":
-                return BAM;
-            case "QAR":
-                return QAR;
-            case "TOP":
-                return TOP;
-            case "VEF":
-                return VEF;
-            case "CVE":
-                return CVE;
-            case "DKK":
-                return DKK;
-            case "IQD":
-                return IQD;
-            case "ERN":
-                return ERN;
-            case "AUD":
-                return AUD;
-            case "GMD":
-                return GMD;
-            case "HTG":
-                return HTG;
-            case "KGS":
-                return KGS;
-            case "RWF":
-                return RWF;
-            case "XOF":
-                return XOF;
-            case "UAH":
-                return UAH;
-            case "WST":
-                return WST;
-            case "BDT":
-                return BDT;
-            case "GBP":
-                return GBP;
-            case "BTN":
-                return BTN;
-            case "CUC":
-                return CUC;
-            case "DJF":
-                return DJF;
-            case "GTQ":
-                return GTQ;
-            case "RON":
-                return RON;
-            case "KES":
-                return KES;
-            case "PHP":
-                return PHP;
-            case "BSD":
-                return BSD;
-            case "JOD":
-                return JOD;
-            case "MKD":
-                return MKD;
-            case "HRK":
-                return HRK;
-            case "HUF":
-                return HUF;
-            case "KHR":
-                return KHR;
-            case "MAD":
-                return MAD;
-            case "NGN":
-                return NGN;
-            case "DZD":
-                return DZD;
-            case "ARS":
-                return ARS;
-            case "MYR":
-                return MYR;
-            case "COP":
-                return COP;
-            case "ZAR":
-                return ZAR;
-            case "KWD":
-                return KWD;
-            case "GYD":
-                return GYD;
-            case "LYD":
-                return LYD;
-            case "DOP":
-                return DOP;
-            case "VUV":
-                return VUV;
-            case "SVC":
-                return SVC;
-            case "MRU":
-                return MRU;
-            case "LVL":
-                return LVL;
-            case "SHP":
-                return SHP;
-            case "HNL":
-                return HNL;
-            case "CLF":
-                return CLF;
-            case "PEN":
-                return PEN;
-            case "IRR":
-                return IRR;
-            case "TJS":
-                return TJS;
-            case "SCR":
-                return SCR;
-            case "BHD":
-                return BHD;
-            case "USD":
-                return USD;
-            case "STD":
-                return STD;
-            case "NPR":
-                return NPR;
-            case "CHW":
-                return CHW;
-            case "SSP":
-                return SSP;
-            case "GEL":
-                return GEL;
-            case "LBP":
-                return LBP;
-            case "UYU":
-                return UYU;
-            default:
-                return new Currency(Value.UNKNOWN, value);
+        return VALUES.get(value);
+    }
+
+    static final class Deserializer extends EnumValueTable.Deserializer<Currency> {
+        Deserializer() {
+            super(Currency.class, VALUES);
         }
     }
 
@@ -9,9 +9,8 @@ import com.fasterxml.jackson.core.JsonParser;
 import com.fasterxml.jackson.databind.DeserializationContext;
 import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
 import com.fasterxml.jackson.databind.deser.std.StdDeserializer;
-import com.payroc.api.core.ObjectMappers;
+import com.payroc.api.core.BufferedJsonValue;
 import java.io.IOException;
-import java.util.Map;
 import java.util.Objects;
 
 @JsonDeserialize(using = ProcessingTerminalFeaturesEbt.Deserializer.class)
@@ -82,20 +81,12 @@ public final class ProcessingTerminalFeaturesEbt {
         @java.lang.Override
         public ProcessingTerminalFeaturesEbt deserialize(JsonParser p, DeserializationContext context)
                 throws IOException {
-            Object value = p.readValueAs(Object.class);
-            if (value instanceof Map<?, ?>
-                    && ((Map<?, ?>) value).containsKey("enabled")
-                    && ((Map<?, ?>) value).containsKey("ebtType")) {
-                try {
-                    return of(ObjectMappers.JSON_MAPPER.convertValue(value, EbtEnabled.class));
-                } catch (RuntimeException e) {
-                }
+            BufferedJsonValue value = BufferedJsonValue.read(p, context);
+            if (value.hasFields("enabled", "ebtType")) {
+                return of(value.readAs(EbtEnabled.class, context));
             }
-            if (value instanceof Map<?, ?> && ((Map<?, ?>) value).containsKey("enabled")) {
-                try {
-                    return of(ObjectMappers.JSON_MAPPER.convertValue(value, EbtDisabled.class));
-                } catch (RuntimeException e) {
-                }
+            if (value.hasFields("enabled")) {
+                return of(value.readAs(EbtDisabled.class, context));
             }
             throw new JsonParseException(p, "Failed to deserialize");
         }
@@ -9,9 +9,8 @@ import com.fasterxml.jackson.core.JsonParser;
 import com.fasterxml.jackson.databind.DeserializationContext;
 import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
 import com.fasterxml.jackson.databind.deser.std.StdDeserializer;
-import com.payroc.api.core.ObjectMappers;
+import com.payroc.api.core.BufferedJsonValue;
 import java.io.IOException;
-import java.util.Map;
 import java.util.Objects;
 
 @JsonDeserialize(using = ProcessingTerminalFeaturesTips.Deserializer.class)
@@ -82,18 +81,12 @@ public final class ProcessingTerminalFeaturesTips {
         @java.lang.Override
         public ProcessingTerminalFeaturesTips deserialize(JsonParser p, DeserializationContext context)
                 throws IOException {
-            Object value = p.readValueAs(Object.class);
-            if (value instanceof Map<?, ?> && ((Map<?, ?>) value).containsKey("enabled")) {
-                try {
-                    return of(ObjectMappers.JSON_MAPPER.convertValue(value, TipProcessingEnabled.class));
-                } catch (RuntimeException e) {
-                }
+            BufferedJsonValue value = BufferedJsonValue.read(p, context);
+            if (value.hasFields("enabled") && !value.fieldEquals("enabled", "false")) {
+                return of(value.readAs(TipProcessingEnabled.class, context));
             }
-            if (value instanceof Map<?, ?> && ((Map<?, ?>) value).containsKey("enabled")) {
-                try {
-                    return of(ObjectMappers.JSON_MAPPER.convertValue(value, TipProcessingDisabled.class));
-                } catch (RuntimeException e) {
-                }
+            if (value.hasFields("enabled")) {
+                return of(value.readAs(TipProcessingDisabled.class, context));
             }
             throw new JsonParseException(p, "Failed to deserialize");
         }
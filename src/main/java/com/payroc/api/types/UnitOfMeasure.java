@@ -5,7 +5,11 @@ package com.payroc.api.types;
 
 import com.fasterxml.jackson.annotation.JsonCreator;
 import com.fasterxml.jackson.annotation.JsonValue;
+import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+import com.payroc.api.core.EnumValueTable;
+import java.util.Arrays;
 
+@JsonDeserialize(using = UnitOfMeasure.Deserializer.class)
 public final class UnitOfMeasure {
     public static final UnitOfMeasure GBQ = new UnitOfMeasure(Value.GBQ, "GBQ");
 
@@ -439,6 +443,22 @@ public final class UnitOfMeasure {
 
     public static final UnitOfMeasure KVA = new UnitOfMeasure(Value.KVA, "KVA");
 
+    private static final EnumValueTable<UnitOfMeasure> VALUES = new EnumValueTable<>(
+            Arrays.asList(
+                    GBQ, MWH, MAW, HPA, YDK, ATT, KSH, AMP, CTM, MMK, KPO, NIU, DAA, MTS, BHP, NRL, GRT, COU, DLT, KHZ,
+                    NMP, QTI, FTK, KNT, BHX, HUR, KTN, MIL, TNE, ASV, CCT, SAN, KEL, LTN, GWH, MGM, EA, LTR, QTR, BTU,
+                    CLT, DPC, GII, NEW, NPL, RPS, KVR, APZ, AMH, BX, BUA, PSC, WCD, JOU, KSD, MTK, HGM, DPT, SST, BUI,
+                    KMQ, GRM, GRO, KWT, WSD, OZA, KPP, WTT, DAD, QTD, PGL, WEB, LEF, MBE, OZI, TAH, KGS, KPH, CS, CNP,
+                    MHZ, GGR, FOT, HIU, MON, CEL, HLT, ITM, ST, DAY, PTI, FAR, HBA, GLI, MAL, HMT, BAR, INH, KMH, BQL,
+                    KVT, QTL, TSH, LUX, SCR, DZP, LBR, CGM, KBA, GRN, KMT, MTQ, YDQ, CMK, RPM, DRL, BIL, MAM, GLL, NMR,
+                    HTZ, MIN, CDL, TQD, DMT, FTQ, HAR, SEC, FAH, STI, NAR, NMB, TPR, KNI, DTH, INQ, MBR, GFI, CEN, SMI,
+                    KUR, NMI, BLD, GLD, PCB, DMK, MMQ, MSK, PCE, DRM, KPA, MIK, MQH, PK, MBF, NBB, BLL, DZN, MCU, ATM,
+                    LPA, KJO, MIO, MPA, VLT, DZR, DEC, DRA, NPT, CNT, LBS, MQS, LUM, MTR, ACR, MVA, QAN, ASM, DRI, NCL,
+                    HMQ, SIE, WHR, KGM, ARE, EAC, SCO, MMT, SET, CMT, CWA, DWT, KMK, INK, MIU, PAL, MLT, PTD, CKG, DTN,
+                    MLD, TRL, KNS, PTL, NTT, TSD, KWH, OHM, WEE, ONZ, CLF, BFT, CUR, DMQ, SHT, KVA),
+            UnitOfMeasure::toString,
+            value -> new UnitOfMeasure(Value.UNKNOWN, value));
+
     private final Value value;
 
     private final String string;
@@ -911,441 +931,12 @@ public final class UnitOfMeasure {
 
     @JsonCreator(mode = JsonCreator.Mode.DELEGATING)
     public static UnitOfMeasure valueOf(String value) {
-        switch (value) {
-            case "GBQ":
-                return GBQ;
-            case "MWH":
-                return MWH;
-            case "MAW":
-                return MAW;
-            case "HPA":
-                return HPA;
-            case "YDK":
-                return YDK;
-            case "ATT":
-                return ATT;
-            case "KSH":
-                return KSH;
-            case "AMP":
-                return AMP;
-            case "CTM":
-                return CTM;
-            case "MMK":
-                return MMK;
-            case "KPO":
-                return KPO;
-            case "NIU":
-                return NIU;
-            case "DAA":
-                return DAA;
-            case "MTS":
-                return MTS;
-            case "BHP":
-                return BHP;
-            case "NRL":
-                return NRL;
-            case "GRT":
-                return GRT;
-            case "COU":
-                return COU;
-            case "DLT":
-                return DLT;
-            case "KHZ":
-                return KHZ;
-            case "NMP":
-                return NMP;
-            case "QTI":
-                return QTI;
-            case "FTK":
-                return FTK;
-            case "KNT":
-                return KNT;
-            case "BHX":
-                return BHX;
-            case "HUR":
-                return HUR;
-            case "KTN":
-                return KTN;
-            case "MIL":
-                return MIL;
-            case "TNE":
-                return TNE;
-            case "ASV":
-                return ASV;
-            case "CCT":
-                return CCT;
-            case "SAN":
-                return SAN;
-            case "KEL":
-                return KEL;
-            case "LTN":
-                return LTN;
-            case "GWH":
-                return GWH;
-            case "MGM":
-                return MGM;
-            case "EA":
-                return EA;
-            case "LTR":
-                return LTR;
-            case "QTR":
-                return QTR;
-            case "BTU":
-                return BTU;
-            case "CLT":
-                return CLT;
-            case "DPC":
-                return DPC;
-            case "GII":
-                return GII;
-            case "NEW":
-                return NEW;
-            case "NPL":
-                return NPL;
-            case "RPS":
-                return RPS;
-            case "KVR":
-                return KVR;
-            case "APZ":
-                return APZ;
-            case "AMH":
-                return AMH;
-            case "BX":
-                return BX;
-            case "BUA":
-                return BUA;
-            case "PSC":
-                return PSC;
-            case "WCD":
-                return WCD;
-            case "JOU":
-                return JOU;
-            case "KSD":
-                return KSD;
-            case "MTK":
-                return MTK;
-            case "HGM":
-                return HGM;
-            case "DPT":
-                return DPT;
-            case "SST":
-                return SST;
-            case "BUI":
-                return BUI;
-            case "KMQ":
-                return KMQ;
-            case "GRM":
-                return GRM;
-            case "GRO":
-                return GRO;
-            case "KWT":
-                return KWT;
-            case "WSD":
-                return WSD;
-            case "OZA":
-                return OZA;
-            case "KPP":
-                return KPP;
-            case "WTT":
-                return WTT;
-            case "DAD":
-                return DAD;
-            case "QTD":
-                return QTD;
-            case "PGL":
-                return PGL;
-            case "WEB":
-                return WEB;
-            case "LEF":
-                return LEF;
-            case "MBE":
-                return MBE;
-            case "OZI":
-                return OZI;
-            case "TAH":
-                return TAH;
-            case "KGS":
-                return KGS;
-            case "KPH":
-                return KPH;
-            case "CS":
-                return CS;
-            case "CNP":
-                return CNP;
-            case "MHZ":
-                return MHZ;
-            case "GGR":
-                return GGR;
-            case "FOT":
-                return FOT;
-            case "HIU":
-                return HIU;
-            case "MON":
-                return MON;
-            case "CEL":
-                return CEL;
-            case "HLT":
-                return HLT;
-            case "ITM":
-                return ITM;
-            case "ST":
-                return ST;
-            case "DAY":
-                return DAY;
-            case "PTI":
-                return PTI;
-            case "FAR":
-                return FAR;
-            case "HBA":
-                return HBA;
-            case "GLI":
-                return GLI;
-            case "MAL":
-                return MAL;
-            case "HMT":
-                return HMT;
-            case "BAR":
-                return BAR;
-            case "INH":
-                return INH;
-            case "KMH":
-                return KMH;
-            case "BQL":
-                return BQL;
-            case "KVT":
-                return KVT;
-            case "QTL":
-                return QTL;
-            case "TSH":
-                return TSH;
-            case "LUX":
-                return LUX;
-            case "SCR":
-                return SCR;
-            case "DZP":
-                return DZP;
-            case "LBR":
-                return LBR;
-            case "CGM":
-                return CGM;
-            case "KBA":
-                return KBA;
-            case "GRN":
-                return GRN;
-            case "KMT":
-                return KMT;
-            case "MTQ":
-                return MTQ;
-            case "YDQ":
-                return YDQ;
-            case "CMK":
-                return CMK;
-            case "RPM":
-                return RPM;
-            case "DRL":
-                return DRL;
-            case "BIL":
-                return BIL;
-            case "MAM":
-                return MAM;
-            case "GLL":
-                return GLL;
-            case "NMR":
-                return NMR;
-            case "HTZ":
-                return HTZ;
-            case "MIN":
-                return MIN;
-            case "CDL":
-                return CDL;
-            case "TQD":
-                return TQD;
-            case "DMT":
-                return DMT;
-            case "FTQ":
-                return FTQ;
-            case "HAR":
-                return HAR;
-            case "SEC":
-                return SEC;
-            case "FAH":
-                return FAH;
-            case "STI":
-                return STI;
-            case "NAR":
-                return NAR;
-            case "NMB":
-                return NMB;
-            case "TPR":
-                return TPR;
-            case "KNI":
-                return KNI;
-            case "DTH":
-                return DTH;
-            case "INQ":
-                return INQ;
-            case "MBR":
-                return MBR;
-            case "GFI":
-                return GFI;
-            case "CEN":
-                return CEN;
-            case "SMI":
-                return SMI;
-            case "KUR":
-                return KUR;
-            case "NMI":
-                return NMI;
-            case "BLD":
-                return BLD;
-            case "GLD":
-                return GLD;
-            case "PCB":
-                return PCB;
-            case "DMK":
-                return DMK;
-            case "MMQ":
-                return MMQ;
-            case "MSK":
-                return MSK;
-            case "PCE":
-                return PCE;
-            case "DRM":
-                return DRM;
-            case "KPA":
-                return KPA;
-            case "MIK":
-                return MIK;
-            case "MQH":
-                return MQH;
-            case "PK":
-                return PK;
-            case "MBF":
-                return MBF;
-            case "NBB":
-                return NBB;
-            case "BLL":
-                return BLL;
-            case "DZN":
-                return DZN;
-            case "MCU":
-                return MCU;
-            case "ATM":
-                return ATM;
-            case "LPA":
-                return LPA;
-            case "KJO":
-                return KJO;
-            case "MIO":
-                return MIO;
-            case "MPA":
-                return MPA;
-            case "VLT":
-                return VLT;
-            case "DZR":
-                return DZR;
-            case "DEC":
-                return DEC;
-            case "DRA":
-                return DRA;
-            case "NPT":
-                return NPT;
-            case "CNT":
-                return CNT;
-            case "LBS":
-                return LBS;
-            case "MQS":
-                return MQS;
-            case "LUM":
-                return LUM;
-            case "MTR":
-                return MTR;
-            case "ACR":
-                return ACR;
-            case "MVA":
-                return MVA;
-            case "QAN":
-                return QAN;
-            case "ASM":
-                return ASM;
-            case "DRI":
-                return DRI;
-            case "NCL":
-                return NCL;
-            case "HMQ":
-                return HMQ;
-            case "SIE":
-                return SIE;
-            case "WHR":
-                return WHR;
-            case "KGM":
-                return KGM;
-            case "ARE":
-                return ARE;
-            case "EAC":
-                return EAC;
-            case "SCO":
-                return SCO;
-            case "MMT":
-                return MMT;
-            case "SET":
-                return SET;
-            case "CMT":
-                return CMT;
-            case "CWA":
-                return CWA;
-            case "DWT":
-                return DWT;
-            case "KMK":
-                return KMK;
-            case "INK":
-                return INK;
-            case "MIU":
-                return MIU;
-            case "PAL":
-                return PAL;
-            case "MLT":
-                return MLT;
-            case "PTD":
-                return PTD;
-            case "CKG":
-                return CKG;
-            case "DTN":
-                return DTN;
-            case "MLD":
-                return MLD;
-            case "TRL":
-                return TRL;
-            case "KNS":
-                return KNS;
-            case "PTL":
-                return PTL;
-            case "NTT":
-                return NTT;
-            case "TSD":
-                return TSD;
-            case "KWH":
-                return KWH;
-            case "OHM":
-                return OHM;
-            case "WEE":
-                return WEE;
-            case "ONZ":
-                return ONZ;
-            case "CLF":
-                return CLF;
-            case "BFT":
-                return BFT;
-            case "CUR":
-                return CUR;
-            case "DMQ":
-                return DMQ;
-            case "SHT":
-                return SHT;
-            case "KVA":
-                return KVA;
-            default:
-                return new UnitOfMeasure(Value.UNKNOWN, value);
+        return VALUES.get(value);
+    }
+
+    static final class Deserializer extends EnumValueTable.Deserializer<UnitOfMeasure> {
+        Deserializer() {
+            super(UnitOfMeasure.class, VALUES);
         }
     }
 
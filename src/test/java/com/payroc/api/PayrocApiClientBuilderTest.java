@@ -0,0 +1,163 @@
+package com.payroc.api;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.payroc.api.core.CircuitBreaker;
+import com.payroc.api.core.CircuitBreakerConfig;
+import com.payroc.api.core.CircuitBreakerOpenException;
+import com.payroc.api.core.Environment;
+import com.payroc.api.core.PayrocApiException;
+import com.payroc.api.core.RetryBudgetConfig;
+import com.payroc.api.resources.auth.requests.RetrieveTokenAuthRequest;
+import java.util.concurrent.atomic.AtomicInteger;
+import okhttp3.OkHttpClient;
+import okhttp3.mockwebserver.MockResponse;
+import okhttp3.mockwebserver.MockWebServer;
+import okhttp3.mockwebserver.RecordedRequest;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class PayrocApiClientBuilderTest {
+    private static final String TOKEN_RESPONSE =
+            "{\"access_token\":\"access_token\",\"token_type\":\"Bearer\",\"expires_in\":3600}";
+
+    private MockWebServer server;
+
+    @BeforeEach
+    public void setup() throws Exception {
+        server = new MockWebServer();
+        server.start();
+    }
+
+    @AfterEach
+    public void teardown() throws Exception {
+        server.shutdown();
+    }
+
+    @Test
+    public void testTokenClientSharesHttpClient() throws Exception {
+        server.enqueue(new MockResponse().setResponseCode(200).setBody(TOKEN_RESPONSE));
+        server.enqueue(new MockResponse().setResponseCode(200).setBody(TOKEN_RESPONSE));
+        AtomicInteger intercepted = new AtomicInteger();
+        OkHttpClient httpClient = new OkHttpClient.Builder()
+                .addInterceptor(chain -> {
+                    intercepted.incrementAndGet();
+                    return chain.proceed(chain.request());
+                })
+                .build();
+        PayrocApiClient client = PayrocApiClient.builder()
+                .apiKey("x-api-key")
+                .httpClient(httpClient)
+                .environment(Environment.custom()
+                        .api(server.url("/").toString())
+                        .identity(server.url("/").toString())
+                        .build())
+                .build();
+
+        client.auth()
+                .retrieveToken(
+                        RetrieveTokenAuthRequest.builder().apiKey("x-api-key").build());
+
+        RecordedRequest tokenRequest = server.takeRequest();
+        RecordedRequest apiRequest = server.takeRequest();
+        assertNull(tokenRequest.getHeader("Authorization"));
+        assertEquals("Bearer access_token", apiRequest.getHeader("Authorization"));
+        // The user's interceptor sees the token request too, and both requests reuse one connection
+        assertEquals(2, intercepted.get());
+        assertEquals(0, tokenRequest.getSequenceNumber());
+        assertEquals(1, apiRequest.getSequenceNumber());
+    }
+
+    @Test
+    public void testDefaultTokenClientSharesConnectionPool() throws Exception {
+        server.enqueue(new MockResponse().setResponseCode(200).setBody(TOKEN_RESPONSE));
+        server.enqueue(new MockResponse().setResponseCode(200).setBody(TOKEN_RESPONSE));
+        PayrocApiClient client = PayrocApiClient.builder()
+                .apiKey("x-api-key")
+                .environment(Environment.custom()
+                        .api(server.url("/").toString())
+                        .identity(server.url("/").toString())
+                        .build())
+                .build();
+
+        client.auth()
+                .retrieveToken(
+                        RetrieveTokenAuthRequest.builder().apiKey("x-api-key").build());
+
+        assertEquals(0, server.takeRequest().getSequenceNumber());
+        assertEquals(1, server.takeRequest().getSequenceNumber());
+    }
+
+    @Test
+    public void testTokenClientDoesNotShareApiInterceptors() throws Exception {
+        server.enqueue(new MockResponse().setResponseCode(200).setBody(TOKEN_RESPONSE));
+        server.enqueue(new MockResponse().setResponseCode(404).setBody("{}"));
+        PayrocApiClient client = PayrocApiClient.builder()
+                .apiKey("x-api-key")
+                .maxRetries(0)
+                .retryBudget(RetryBudgetConfig.builder().build())
+                .circuitBreaker(CircuitBreakerConfig.builder().build())
+                .environment(Environment.custom()
+                        .api(server.url("/api/").toString())
+                        .identity(server.url("/identity/").toString())
+                        .build())
+                .build();
+
+        assertThrows(
+                RuntimeException.class, () -> client.cardPayments().payments().retrieve("1"));
+
+        assertTrue(server.takeRequest().getPath().startsWith("/identity/"));
+        assertTrue(server.takeRequest().getPath().startsWith("/api/"));
+        // Only the API request is counted against the API client's retry budget and circuit breaker
+        assertEquals(1, client.retryBudget().get().getRequests());
+        assertEquals(0, client.circuitBreakers().get(server.url("/").host()).getConsecutiveFailures());
+    }
+
+    @Test
+    public void testTokenClientFollowsMaxRetries() {
+        server.enqueue(new MockResponse().setResponseCode(503).setBody("{}"));
+        server.enqueue(new MockResponse().setResponseCode(200).setBody(TOKEN_RESPONSE));
+        PayrocApiClient client = PayrocApiClient.builder()
+                .apiKey("x-api-key")
+                .maxRetries(0)
+                .environment(Environment.custom()
+                        .api(server.url("/api/").toString())
+                        .identity(server.url("/identity/").toString())
+                        .build())
+                .build();
+
+        assertThrows(
+                RuntimeException.class, () -> client.cardPayments().payments().retrieve("1"));
+
+        assertEquals(1, server.getRequestCount());
+    }
+
+    @Test
+    public void testResilienceStateIsQueryableThroughClient() {
+        server.enqueue(new MockResponse().setResponseCode(500).setBody("{}"));
+        PayrocApiClient client = PayrocApiClient.builder()
+                .maxRetries(0)
+                .retryBudget(RetryBudgetConfig.builder().build())
+                .circuitBreaker(
+                        CircuitBreakerConfig.builder().failureThreshold(1).build())
+                .environment(Environment.custom()
+                        .api(server.url("/").toString())
+                        .identity(server.url("/").toString())
+                        .build())
+                .build();
+        RetrieveTokenAuthRequest request =
+                RetrieveTokenAuthRequest.builder().apiKey("x-api-key").build();
+
+        assertThrows(PayrocApiException.class, () -> client.auth().retrieveToken(request));
+        PayrocApiException rejected =
+                assertThrows(PayrocApiException.class, () -> client.auth().retrieveToken(request));
+
+        assertInstanceOf(CircuitBreakerOpenException.class, rejected.getCause());
+        assertEquals(
+                CircuitBreaker.State.OPEN,
+                client.circuitBreakers().get(server.url("/").host()).getState());
+        assertEquals(2, client.retryBudget().get().getRequests());
+        assertEquals(1, server.getRequestCount());
+    }
+}
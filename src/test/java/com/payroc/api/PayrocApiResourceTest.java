@@ -0,0 +1,125 @@
+package com.payroc.api;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.fasterxml.jackson.databind.JavaType;
+import com.payroc.api.core.ObjectMappers;
+import java.io.IOException;
+import java.lang.reflect.Type;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Checks {@link PayrocApiResource} against the raw clients, so that a new or changed endpoint cannot drop out of
+ * warm-up. The body types only appear inside the raw client methods, so they are read from the sources.
+ */
+public class PayrocApiResourceTest {
+    private static final Path RESOURCES = Paths.get("src/main/java/com/payroc/api/resources");
+
+    private static final Pattern PACKAGE = Pattern.compile("package ([\\w.]+);");
+
+    private static final Pattern IMPORT = Pattern.compile("import ([\\w.]+\\.(\\w+));");
+
+    private static final Pattern REQUEST_BODY =
+            Pattern.compile("JsonRequestBody\\.of\\(clientOptions, request(\\.getBody\\(\\))?[,)]");
+
+    private static final Pattern REQUEST_PARAMETER = Pattern.compile("(\\w+)\\s+request\\s*[,)]");
+
+    private static final Pattern RESPONSE_BODY = Pattern.compile(
+            "readBody\\(responseBody, (?:new TypeReference<List<(\\w+)>>\\(\\) \\{}|(\\w+)\\.class)\\)");
+
+    @Test
+    public void testEveryResourceDirectoryHasAConstant() throws IOException {
+        Set<String> constants = new HashSet<>();
+        for (PayrocApiResource resource : PayrocApiResource.values()) {
+            constants.add(directoryName(resource));
+        }
+        try (Stream<Path> directories = Files.list(RESOURCES)) {
+            Set<String> names = directories
+                    .filter(Files::isDirectory)
+                    .map(path -> path.getFileName().toString())
+                    .collect(Collectors.toSet());
+            assertEquals(names, constants);
+        }
+    }
+
+    @Test
+    public void testResourcesListEveryEndpointBodyType() throws Exception {
+        for (PayrocApiResource resource : PayrocApiResource.values()) {
+            Set<JavaType> requestTypes = new HashSet<>();
+            Set<JavaType> responseTypes = new HashSet<>();
+            List<Path> rawClients;
+            try (Stream<Path> files = Files.walk(RESOURCES.resolve(directoryName(resource)))) {
+                rawClients = files.filter(path -> path.getFileName().toString().matches("(Async)?Raw\\w+Client\\.java"))
+                        .collect(Collectors.toList());
+            }
+            assertFalse(rawClients.isEmpty(), resource.name());
+            for (Path rawClient : rawClients) {
+                collectBodyTypes(rawClient, requestTypes, responseTypes);
+            }
+
+            assertEquals(requestTypes, new HashSet<>(resource.getRequestTypes()), resource.name());
+            assertEquals(responseTypes, new HashSet<>(resource.getResponseTypes()), resource.name());
+        }
+    }
+
+    private static String directoryName(PayrocApiResource resource) {
+        return resource.name().replace("_", "").toLowerCase(Locale.ROOT);
+    }
+
+    private static void collectBodyTypes(Path rawClient, Set<JavaType> requestTypes, Set<JavaType> responseTypes)
+            throws Exception {
+        String source = new String(Files.readAllBytes(rawClient), StandardCharsets.UTF_8);
+        Matcher packageMatcher = PACKAGE.matcher(source);
+        assertTrue(packageMatcher.find(), rawClient.toString());
+        String packageName = packageMatcher.group(1);
+        Map<String, String> imports = new HashMap<>();
+        Matcher importMatcher = IMPORT.matcher(source);
+        while (importMatcher.find()) {
+            imports.put(importMatcher.group(2), importMatcher.group(1));
+        }
+
+        for (String method : source.split("\n    public ")) {
+            Matcher requestBody = REQUEST_BODY.matcher(method);
+            if (requestBody.find()) {
+                Matcher parameter = REQUEST_PARAMETER.matcher(method);
+                assertTrue(parameter.find(), rawClient.toString());
+                Class<?> requestClass = resolve(parameter.group(1), imports, packageName);
+                Type bodyType = requestBody.group(1) != null
+                        ? requestClass.getMethod("getBody").getGenericReturnType()
+                        : requestClass;
+                requestTypes.add(ObjectMappers.JSON_MAPPER.constructType(bodyType));
+            }
+            Matcher responseBody = RESPONSE_BODY.matcher(method);
+            while (responseBody.find()) {
+                if (responseBody.group(1) != null) {
+                    responseTypes.add(ObjectMappers.JSON_MAPPER
+                            .getTypeFactory()
+                            .constructCollectionType(List.class, resolve(responseBody.group(1), imports, packageName)));
+                } else {
+                    responseTypes.add(ObjectMappers.JSON_MAPPER.constructType(
+                            resolve(responseBody.group(2), imports, packageName)));
+                }
+            }
+        }
+    }
+
+    private static Class<?> resolve(String simpleName, Map<String, String> imports, String packageName)
+            throws ClassNotFoundException {
+        String className = imports.getOrDefault(simpleName, packageName + "." + simpleName);
+        return Class.forName(className);
+    }
+}
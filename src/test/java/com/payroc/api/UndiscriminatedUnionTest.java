@@ -5,8 +5,16 @@ package com.payroc.api;
 
 import static org.junit.jupiter.api.Assertions.*;
 
+import com.fasterxml.jackson.core.JsonParseException;
 import com.payroc.api.core.ObjectMappers;
+import com.payroc.api.resources.boarding.processingaccounts.types.GetProcessingAccountPricingAgreementProcessingAccountsResponse;
+import com.payroc.api.types.EbtDisabled;
+import com.payroc.api.types.EbtEnabled;
+import com.payroc.api.types.PricingAgreementUs40;
+import com.payroc.api.types.PricingAgreementUs50;
+import com.payroc.api.types.ProcessingTerminalFeaturesEbt;
 import com.payroc.api.types.ProcessingTerminalFeaturesTips;
+import com.payroc.api.types.TipProcessingDisabled;
 import com.payroc.api.types.TipProcessingEnabled;
 import org.junit.jupiter.api.Test;
 
@@ -19,4 +27,51 @@ public final class UndiscriminatedUnionTest {
         assertTrue(
                 union.get() instanceof TipProcessingEnabled, "Expected TipProcessingEnabled but got different variant");
     }
+
+    @Test
+    public void testProcessingTerminalFeaturesTips_TipProcessingDisabled() throws Exception {
+        String json = "{\"enabled\":false}";
+        ProcessingTerminalFeaturesTips union =
+                ObjectMappers.JSON_MAPPER.readValue(json, ProcessingTerminalFeaturesTips.class);
+        assertTrue(
+                union.get() instanceof TipProcessingDisabled,
+                "Expected TipProcessingDisabled but got different variant");
+    }
+
+    @Test
+    public void testProcessingTerminalFeaturesEbt_Variants() throws Exception {
+        ProcessingTerminalFeaturesEbt enabled = ObjectMappers.JSON_MAPPER.readValue(
+                "{\"enabled\":true,\"ebtType\":\"foodStamp\",\"fnsNumber\":\"1234567\"}",
+                ProcessingTerminalFeaturesEbt.class);
+        ProcessingTerminalFeaturesEbt disabled =
+                ObjectMappers.JSON_MAPPER.readValue("{\"enabled\":false}", ProcessingTerminalFeaturesEbt.class);
+        assertTrue(enabled.get() instanceof EbtEnabled, "Expected EbtEnabled but got different variant");
+        assertEquals("1234567", ((EbtEnabled) enabled.get()).getFnsNumber().get());
+        assertTrue(disabled.get() instanceof EbtDisabled, "Expected EbtDisabled but got different variant");
+    }
+
+    @Test
+    public void testPricingAgreement_SelectsVariantByVersion() throws Exception {
+        GetProcessingAccountPricingAgreementProcessingAccountsResponse us40 = ObjectMappers.JSON_MAPPER.readValue(
+                "{\"country\":\"US\",\"version\":\"4.0\",\"base\":{}}",
+                GetProcessingAccountPricingAgreementProcessingAccountsResponse.class);
+        GetProcessingAccountPricingAgreementProcessingAccountsResponse us50 = ObjectMappers.JSON_MAPPER.readValue(
+                "{\"base\":{},\"version\":\"5.0\",\"country\":\"US\",\"services\":[]}",
+                GetProcessingAccountPricingAgreementProcessingAccountsResponse.class);
+        assertTrue(
+                us40.get() instanceof PricingAgreementUs40, "Expected PricingAgreementUs40 but got different variant");
+        assertTrue(
+                us50.get() instanceof PricingAgreementUs50, "Expected PricingAgreementUs50 but got different variant");
+    }
+
+    @Test
+    public void testProcessingTerminalFeaturesTips_NoMatchingVariant() {
+        assertThrows(
+                JsonParseException.class,
+                () -> ObjectMappers.JSON_MAPPER.readValue("[true]", ProcessingTerminalFeaturesTips.class));
+        assertThrows(
+                JsonParseException.class,
+                () -> ObjectMappers.JSON_MAPPER.readValue(
+                        "{\"tipPrompt\":true}", ProcessingTerminalFeaturesTips.class));
+    }
 }
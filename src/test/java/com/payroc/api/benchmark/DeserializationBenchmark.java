@@ -0,0 +1,91 @@
+package com.payroc.api.benchmark;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.module.afterburner.AfterburnerModule;
+import com.payroc.api.TestResources;
+import com.payroc.api.core.ObjectMappers;
+import com.payroc.api.resources.reporting.settlement.types.ListTransactionsSettlementResponse;
+import com.payroc.api.types.PaymentPaginatedListForRead;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Compares decoding throughput of the default mapper with the Afterburner profile.
+ *
+ * <p>Not a unit test. Run the {@code main} method with the test runtime classpath, for example from an IDE,
+ * optionally passing the number of items per page (default 100) and the seconds to measure each case (default 5).
+ */
+public final class DeserializationBenchmark {
+
+    private DeserializationBenchmark() {}
+
+    public static void main(String[] args) throws Exception {
+        int items = args.length > 0 ? Integer.parseInt(args[0]) : 100;
+        long measureNanos = (args.length > 1 ? Long.parseLong(args[1]) : 5) * 1_000_000_000L;
+
+        byte[] payments = page(
+                "{\"limit\":" + items + ",\"count\":" + items + ",\"hasMore\":true,\"links\":[],\"data\":[",
+                TestResources.loadResource("/wire-tests/CardPaymentsPaymentsWireTest_testRetrieve_response.json"),
+                items);
+        byte[] transactions = page(
+                "{\"limit\":" + items + ",\"count\":" + items + ",\"hasMore\":true,\"links\":[],\"data\":[",
+                TestResources.loadResource(
+                        "/wire-tests/ReportingSettlementWireTest_testRetrieveTransaction_response.json"),
+                items);
+
+        // Same configuration as the shared mapper, plus the module that the opt-in profile registers
+        ObjectMapper afterburner = ObjectMappers.JSON_MAPPER.copy().registerModule(new AfterburnerModule());
+
+        System.out.printf("items per page: %d, java %s%n", items, System.getProperty("java.version"));
+        run("PaymentPaginatedListForRead", payments, PaymentPaginatedListForRead.class, afterburner, measureNanos);
+        run(
+                "ListTransactionsSettlementResponse",
+                transactions,
+                ListTransactionsSettlementResponse.class,
+                afterburner,
+                measureNanos);
+    }
+
+    private static void run(String name, byte[] payload, Class<?> type, ObjectMapper afterburner, long measureNanos)
+            throws Exception {
+        ObjectReader defaultReader = ObjectMappers.JSON_MAPPER.readerFor(type);
+        ObjectReader afterburnerReader = afterburner.readerFor(type);
+        // Alternate the cases so that JIT warm-up and GC noise affect both equally
+        for (int round = 0; round < 3; round++) {
+            double baseline = pagesPerSecond(defaultReader, payload, measureNanos);
+            double optimized = pagesPerSecond(afterburnerReader, payload, measureNanos);
+            if (round > 0) {
+                System.out.printf(
+                        "%s round %d: default %.0f pages/s, afterburner %.0f pages/s (%+.1f%%)%n",
+                        name, round, baseline, optimized, (optimized / baseline - 1) * 100);
+            }
+        }
+    }
+
+    private static double pagesPerSecond(ObjectReader reader, byte[] payload, long measureNanos) throws Exception {
+        long pages = 0;
+        long start = System.nanoTime();
+        long elapsed;
+        Object sink = null;
+        do {
+            sink = reader.readValue(payload);
+            pages++;
+            elapsed = System.nanoTime() - start;
+        } while (elapsed < measureNanos);
+        if (sink == null) {
+            throw new IllegalStateException();
+        }
+        return pages * 1_000_000_000.0 / elapsed;
+    }
+
+    private static byte[] page(String prefix, String item, int items) {
+        StringBuilder json = new StringBuilder(prefix);
+        for (int i = 0; i < items; i++) {
+            if (i > 0) {
+                json.append(',');
+            }
+            json.append(item);
+        }
+        return json.append("]}").toString().getBytes(StandardCharsets.UTF_8);
+    }
+}
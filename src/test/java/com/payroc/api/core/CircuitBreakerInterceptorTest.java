@@ -0,0 +1,135 @@
+package com.payroc.api.core;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import okhttp3.OkHttpClient;
+import okhttp3.Request;
+import okhttp3.Response;
+import okhttp3.mockwebserver.MockResponse;
+import okhttp3.mockwebserver.MockWebServer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class CircuitBreakerInterceptorTest {
+    private final MutableClock clock = new MutableClock(Instant.parse("2024-07-02T12:00:00Z"));
+
+    private MockWebServer server;
+
+    private CircuitBreakerInterceptor interceptor;
+
+    private OkHttpClient client;
+
+    @BeforeEach
+    public void setup() throws Exception {
+        server = new MockWebServer();
+        server.start();
+        interceptor = new CircuitBreakerInterceptor(
+                CircuitBreakerConfig.builder()
+                        .failureThreshold(2)
+                        .openDuration(Duration.ofSeconds(30))
+                        .build(),
+                clock);
+        client = new OkHttpClient.Builder().addInterceptor(interceptor).build();
+    }
+
+    @AfterEach
+    public void teardown() throws Exception {
+        server.shutdown();
+    }
+
+    @Test
+    public void testConsecutiveFailuresOpenTheBreaker() throws Exception {
+        server.enqueue(new MockResponse().setResponseCode(500));
+        server.enqueue(new MockResponse().setResponseCode(503));
+
+        assertEquals(500, call());
+        assertEquals(CircuitBreaker.State.CLOSED, state());
+        assertEquals(503, call());
+        assertEquals(CircuitBreaker.State.OPEN, state());
+
+        assertThrows(CircuitBreakerOpenException.class, this::call);
+        assertEquals(2, server.getRequestCount());
+    }
+
+    @Test
+    public void testSuccessResetsFailureCount() throws Exception {
+        server.enqueue(new MockResponse().setResponseCode(500));
+        server.enqueue(new MockResponse().setResponseCode(404));
+        server.enqueue(new MockResponse().setResponseCode(500));
+
+        call();
+        call();
+        call();
+
+        assertEquals(CircuitBreaker.State.CLOSED, state());
+        assertEquals(1, interceptor.circuitBreakers().get(host()).getConsecutiveFailures());
+    }
+
+    @Test
+    public void testHalfOpenProbeClosesOrReopensTheBreaker() throws Exception {
+        server.enqueue(new MockResponse().setResponseCode(500));
+        server.enqueue(new MockResponse().setResponseCode(500));
+        server.enqueue(new MockResponse().setResponseCode(500));
+        server.enqueue(new MockResponse().setResponseCode(200));
+        call();
+        call();
+
+        clock.advanceMillis(30000);
+        assertEquals(CircuitBreaker.State.HALF_OPEN, state());
+        assertEquals(500, call());
+        assertEquals(CircuitBreaker.State.OPEN, state());
+        assertThrows(CircuitBreakerOpenException.class, this::call);
+
+        clock.advanceMillis(30000);
+        assertEquals(200, call());
+        assertEquals(CircuitBreaker.State.CLOSED, state());
+    }
+
+    private int call() throws Exception {
+        Request request = new Request.Builder().url(server.url("/batches")).build();
+        try (Response response = client.newCall(request).execute()) {
+            return response.code();
+        }
+    }
+
+    private CircuitBreaker.State state() {
+        return interceptor.circuitBreakers().get(host()).getState();
+    }
+
+    private String host() {
+        return server.url("/").host();
+    }
+
+    private static final class MutableClock extends Clock {
+        private volatile Instant now;
+
+        private MutableClock(Instant now) {
+            this.now = now;
+        }
+
+        private void advanceMillis(long millis) {
+            now = now.plusMillis(millis);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return now;
+        }
+    }
+}
@@ -0,0 +1,90 @@
+package com.payroc.api.core;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.concurrent.TimeUnit;
+import okhttp3.Headers;
+import okhttp3.OkHttpClient;
+import org.junit.jupiter.api.Test;
+
+public class ClientOptionsTest {
+
+    @Test
+    public void testHttpClientWithTimeoutIsReusedPerTimeout() {
+        ClientOptions clientOptions = ClientOptions.builder().build();
+
+        OkHttpClient thirtySeconds = clientOptions.httpClientWithTimeout(
+                RequestOptions.builder().timeout(30).build());
+        OkHttpClient sameTimeout = clientOptions.httpClientWithTimeout(
+                RequestOptions.builder().timeout(30_000, TimeUnit.MILLISECONDS).build());
+        OkHttpClient tenSeconds = clientOptions.httpClientWithTimeout(
+                RequestOptions.builder().timeout(10).build());
+
+        assertSame(thirtySeconds, sameTimeout);
+        assertNotSame(thirtySeconds, tenSeconds);
+        assertEquals(30_000, thirtySeconds.callTimeoutMillis());
+        assertEquals(10_000, tenSeconds.callTimeoutMillis());
+        assertSame(clientOptions.httpClient().connectionPool(), thirtySeconds.connectionPool());
+        assertSame(clientOptions.httpClient().dispatcher(), thirtySeconds.dispatcher());
+    }
+
+    @Test
+    public void testHttpClientWithTimeoutWithoutTimeoutReturnsBaseClient() {
+        ClientOptions clientOptions = ClientOptions.builder().build();
+
+        assertSame(clientOptions.httpClient(), clientOptions.httpClientWithTimeout(null));
+        assertSame(
+                clientOptions.httpClient(),
+                clientOptions.httpClientWithTimeout(RequestOptions.builder().build()));
+    }
+
+    @Test
+    public void testHttpHeadersReusesStaticHeaders() {
+        ClientOptions clientOptions =
+                ClientOptions.builder().addHeader("X-Static", "static").build();
+
+        Headers headers = clientOptions.httpHeaders(null);
+
+        assertSame(headers, clientOptions.httpHeaders(RequestOptions.builder().build()));
+        assertEquals("static", headers.get("X-Static"));
+        assertEquals("JAVA", headers.get("X-Fern-Language"));
+    }
+
+    @Test
+    public void testHttpHeadersLayersSuppliersAndRequestHeaders() {
+        ClientOptions clientOptions = ClientOptions.builder()
+                .addHeader("X-Static", "static")
+                .addHeader("X-Overridden", "static")
+                .addHeader("Authorization", () -> "Bearer token")
+                .build();
+        RequestOptions requestOptions = RequestOptions.builder()
+                .addHeader("x-overridden", "request")
+                .addHeader("X-Request-Id", () -> "id")
+                .build();
+
+        Headers headers = clientOptions.httpHeaders(requestOptions);
+
+        assertEquals("static", headers.get("X-Static"));
+        assertEquals("Bearer token", headers.get("Authorization"));
+        assertEquals("id", headers.get("X-Request-Id"));
+        assertEquals(1, headers.values("X-Overridden").size());
+        assertEquals("request", headers.get("X-Overridden"));
+        assertEquals("static", clientOptions.httpHeaders(null).get("X-Overridden"));
+    }
+
+    @Test
+    public void testIdempotencyKeyIsGeneratedOnlyWhenEmpty() {
+        ClientOptions clientOptions = ClientOptions.builder()
+                .idempotencyKeyGenerator(() -> "generated")
+                .build();
+
+        assertEquals(
+                "8e03978e-40d5-43e8-bc93-6894a57f9324",
+                clientOptions.idempotencyKey("8e03978e-40d5-43e8-bc93-6894a57f9324"));
+        assertEquals("generated", clientOptions.idempotencyKey(""));
+        assertEquals("generated", clientOptions.idempotencyKey(" "));
+        assertEquals(
+                "generated", ClientOptions.Builder.from(clientOptions).build().idempotencyKey(null));
+        assertEquals(36, ClientOptions.builder().build().idempotencyKey("").length());
+    }
+}
@@ -0,0 +1,92 @@
+package com.payroc.api.core;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.time.LocalDateTime;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.time.temporal.TemporalAccessor;
+import java.time.temporal.TemporalQueries;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+public class DateTimeDeserializerTest {
+
+    @ParameterizedTest
+    @ValueSource(
+            strings = {
+                "2024-07-02T15:30:00Z",
+                "2024-07-02T15:30:00.1Z",
+                "2024-07-02T15:30:00.123Z",
+                "2024-07-02T15:30:00.123456789Z",
+                "2024-07-02T15:30:00+02:00",
+                "2024-07-02T15:30:00.250-05:30",
+                "2024-02-29T23:59:59-00:00",
+                "2024-07-02T15:30:00",
+                "2024-07-02T15:30:00.5"
+            })
+    public void testFixedWidthFormsMatchGeneralParser(String text) throws Exception {
+        OffsetDateTime fixedWidth = DateTimeDeserializer.parseFixedWidth(text);
+
+        assertNotNull(fixedWidth, text);
+        assertEquals(generalParse(text), fixedWidth);
+        assertEquals(fixedWidth, ObjectMappers.JSON_MAPPER.readValue("\"" + text + "\"", OffsetDateTime.class));
+    }
+
+    @ParameterizedTest
+    @ValueSource(
+            strings = {
+                "2024-07-02T15:30Z",
+                "2024-07-02t15:30:00Z",
+                "2024-07-02T15:30:00+0200",
+                "2024-07-02T15:30:00+02:00[Europe/Paris]",
+                "2024-07-02T15:30:00.Z",
+                "2024-07-02T15:30:00.1234567891Z",
+                "2023-02-29T15:30:00Z",
+                "2024-07-02T24:00:00Z",
+                "+12024-07-02T15:30:00Z",
+                "2024-07-02"
+            })
+    public void testOtherFormsUseGeneralParser(String text) {
+        assertNull(DateTimeDeserializer.parseFixedWidth(text), text);
+    }
+
+    @ParameterizedTest
+    @ValueSource(
+            strings = {
+                "2024-07-02T15:30Z",
+                "2024-07-02t15:30:00Z",
+                "2024-07-02T15:30:00.Z",
+                "2024-07-02T15:30:00+02:00[Europe/Paris]"
+            })
+    public void testGeneralParserFallback(String text) throws Exception {
+        assertEquals(generalParse(text), ObjectMappers.JSON_MAPPER.readValue("\"" + text + "\"", OffsetDateTime.class));
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"2023-02-29T15:30:00Z", "2024-07-02T25:30:00Z"})
+    public void testInvalidValuesStillFail(String text) {
+        assertThrows(
+                DateTimeParseException.class,
+                () -> ObjectMappers.JSON_MAPPER.readValue("\"" + text + "\"", OffsetDateTime.class));
+    }
+
+    @Test
+    public void testEpochSeconds() throws Exception {
+        assertEquals(
+                OffsetDateTime.of(2024, 7, 2, 0, 0, 0, 0, ZoneOffset.UTC),
+                ObjectMappers.JSON_MAPPER.readValue("1719878400", OffsetDateTime.class));
+    }
+
+    private static OffsetDateTime generalParse(String text) {
+        TemporalAccessor temporal =
+                DateTimeFormatter.ISO_DATE_TIME.parseBest(text, OffsetDateTime::from, LocalDateTime::from);
+        if (temporal.query(TemporalQueries.offset()) == null) {
+            return LocalDateTime.from(temporal).atOffset(ZoneOffset.UTC);
+        }
+        return OffsetDateTime.from(temporal);
+    }
+}
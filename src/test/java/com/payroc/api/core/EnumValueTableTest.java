@@ -0,0 +1,58 @@
+package com.payroc.api.core;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.exc.MismatchedInputException;
+import com.payroc.api.types.Currency;
+import com.payroc.api.types.UnitOfMeasure;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+public class EnumValueTableTest {
+
+    @Test
+    public void testKnownValuesDecodeToConstants() throws Exception {
+        List<Currency> currencies = ObjectMappers.JSON_MAPPER.readValue(
+                "[\"USD\",\"EUR\",\"NIO\"]".getBytes(StandardCharsets.UTF_8), new TypeReference<List<Currency>>() {});
+
+        assertEquals(Arrays.asList(Currency.USD, Currency.EUR, Currency.NIO), currencies);
+        assertSame(Currency.USD, currencies.get(0));
+        assertSame(UnitOfMeasure.KVA, ObjectMappers.JSON_MAPPER.readValue("\"KVA\"", UnitOfMeasure.class));
+        assertSame(Currency.USD, Currency.valueOf("USD"));
+    }
+
+    @Test
+    public void testUnknownValuesAreReused() throws Exception {
+        Currency first = ObjectMappers.JSON_MAPPER.readValue("\"XYZ\"", Currency.class);
+        Currency second =
+                ObjectMappers.JSON_MAPPER.readValue("\"XYZ\"".getBytes(StandardCharsets.UTF_8), Currency.class);
+
+        assertSame(first, second);
+        assertSame(first, Currency.valueOf("XYZ"));
+        assertEquals(Currency.Value.UNKNOWN, first.getEnumValue());
+        assertEquals("XYZ", first.toString());
+    }
+
+    @Test
+    public void testLookupByCharacterRegion() {
+        EnumValueTable<String> table =
+                new EnumValueTable<>(Arrays.asList("AB", "BA", "ABC"), value -> value, value -> "unknown:" + value);
+        char[] buffer = "xxABCxx".toCharArray();
+
+        assertEquals("ABC", table.get(buffer, 2, 3));
+        assertEquals("AB", table.get(buffer, 2, 2));
+        assertEquals("unknown:BC", table.get(buffer, 3, 2));
+        assertEquals("BA", table.get("BA"));
+    }
+
+    @Test
+    public void testNonStringTokens() throws Exception {
+        assertEquals(
+                "42", ObjectMappers.JSON_MAPPER.readValue("42", Currency.class).toString());
+        assertThrows(
+                MismatchedInputException.class, () -> ObjectMappers.JSON_MAPPER.readValue("[\"USD\"]", Currency.class));
+    }
+}
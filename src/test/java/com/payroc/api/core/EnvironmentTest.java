@@ -0,0 +1,32 @@
+package com.payroc.api.core;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import org.junit.jupiter.api.Test;
+
+public class EnvironmentTest {
+
+    @Test
+    public void testHttpUrlsAreParsedOnce() {
+        Environment environment = Environment.PRODUCTION;
+
+        assertSame(environment.getApiHttpUrl(), environment.getApiHttpUrl());
+        assertEquals("https://api.payroc.com/v1", environment.getApiHttpUrl().toString());
+        assertEquals(
+                "https://identity.payroc.com/", environment.getIdentityHttpUrl().toString());
+    }
+
+    @Test
+    public void testInvalidUrlFailsWhenUsed() {
+        Environment environment = Environment.custom()
+                .api("not a url")
+                .identity("https://identity.example.com")
+                .build();
+
+        assertEquals("not a url", environment.getApiURL());
+        assertThrows(IllegalStateException.class, environment::getApiHttpUrl);
+        assertEquals(
+                "https://identity.example.com/",
+                environment.getIdentityHttpUrl().toString());
+    }
+}
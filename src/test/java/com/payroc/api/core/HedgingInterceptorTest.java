@@ -0,0 +1,202 @@
+package com.payroc.api.core;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import okhttp3.Call;
+import okhttp3.Callback;
+import okhttp3.Request;
+import okhttp3.Response;
+import okhttp3.mockwebserver.Dispatcher;
+import okhttp3.mockwebserver.MockResponse;
+import okhttp3.mockwebserver.MockWebServer;
+import okhttp3.mockwebserver.RecordedRequest;
+import org.jetbrains.annotations.NotNull;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class HedgingInterceptorTest {
+    private MockWebServer server;
+
+    @BeforeEach
+    public void setup() throws Exception {
+        server = new MockWebServer();
+        server.start();
+        // The first request stalls; any later one answers at once
+        server.setDispatcher(new Dispatcher() {
+            private final AtomicInteger count = new AtomicInteger();
+
+            @Override
+            public MockResponse dispatch(RecordedRequest request) {
+                int attempt = count.incrementAndGet();
+                MockResponse response = new MockResponse().setResponseCode(200).setBody("attempt " + attempt);
+                return attempt == 1 ? response.setHeadersDelay(2, TimeUnit.SECONDS) : response;
+            }
+        });
+    }
+
+    @AfterEach
+    public void teardown() throws Exception {
+        server.shutdown();
+    }
+
+    @Test
+    public void testSlowGetIsHedged() throws Exception {
+        ClientOptions clientOptions = clientOptions(
+                HedgingConfig.builder().maxDelay(Duration.ofMillis(100)).build());
+
+        long start = System.nanoTime();
+        try (Response response = HttpCalls.execute(clientOptions.httpClient(), get())) {
+            assertEquals("attempt 2", response.body().string());
+        }
+
+        assertTrue(System.nanoTime() - start < TimeUnit.SECONDS.toNanos(1));
+        assertEquals(2, server.getRequestCount());
+        assertEquals(1, clientOptions.hedgingBudget().get().getRetries());
+    }
+
+    @Test
+    public void testSlowAsyncGetIsHedged() throws Exception {
+        ClientOptions clientOptions = clientOptions(
+                HedgingConfig.builder().maxDelay(Duration.ofMillis(100)).build());
+        CompletableFuture<String> future = new CompletableFuture<>();
+
+        HttpCalls.enqueue(clientOptions.httpClient(), get(), new Callback() {
+            @Override
+            public void onResponse(@NotNull Call call, @NotNull Response response) throws IOException {
+                try (Response closed = response) {
+                    future.complete(closed.body().string());
+                }
+            }
+
+            @Override
+            public void onFailure(@NotNull Call call, @NotNull IOException e) {
+                future.completeExceptionally(e);
+            }
+        });
+
+        assertEquals("attempt 2", future.get(1, TimeUnit.SECONDS));
+        assertEquals(2, server.getRequestCount());
+    }
+
+    @Test
+    public void testHedgeIsNotSentWhenBudgetIsSpent() throws Exception {
+        ClientOptions clientOptions = clientOptions(HedgingConfig.builder()
+                .maxDelay(Duration.ofMillis(100))
+                .budget(RetryBudgetConfig.builder().ratio(0).minRetries(0).build())
+                .build());
+
+        try (Response response = HttpCalls.execute(clientOptions.httpClient(), get())) {
+            assertEquals("attempt 1", response.body().string());
+        }
+
+        assertEquals(1, server.getRequestCount());
+    }
+
+    @Test
+    public void testPostIsNotHedged() throws Exception {
+        ClientOptions clientOptions = clientOptions(
+                HedgingConfig.builder().maxDelay(Duration.ofMillis(100)).build());
+        Request request = new Request.Builder()
+                .url(server.url("/payments"))
+                .post(JsonRequestBody.buffered("{}"))
+                .build();
+
+        try (Response response = HttpCalls.execute(clientOptions.httpClient(), request)) {
+            assertEquals("attempt 1", response.body().string());
+        }
+
+        assertEquals(1, server.getRequestCount());
+    }
+
+    @Test
+    public void testRaceLatencyIsRecordedFromStartOfRace() throws Exception {
+        // Every primary stalls and every hedge answers at once
+        server.setDispatcher(new Dispatcher() {
+            private final AtomicInteger count = new AtomicInteger();
+
+            @Override
+            public MockResponse dispatch(RecordedRequest request) {
+                MockResponse response = new MockResponse().setResponseCode(200);
+                return count.incrementAndGet() % 2 == 1 ? response.setHeadersDelay(2, TimeUnit.SECONDS) : response;
+            }
+        });
+        ClientOptions clientOptions = clientOptions(HedgingConfig.builder()
+                .minDelay(Duration.ofMillis(1))
+                .maxDelay(Duration.ofMillis(50))
+                .budget(RetryBudgetConfig.builder().ratio(1).minRetries(100).build())
+                .build());
+        HedgingInterceptor hedging = HttpCalls.find(clientOptions.httpClient(), HedgingInterceptor.class)
+                .get();
+
+        for (int i = 0; i < 20; i++) {
+            HttpCalls.execute(clientOptions.httpClient(), get()).close();
+        }
+
+        // Each race answered only after the hedge delay, so a hedge's own short latency is not what is recorded
+        assertTrue(hedging.hedgeDelayMillis() >= 50);
+    }
+
+    @Test
+    public void testCancellingPrimaryCallEndsRace() throws Exception {
+        server.setDispatcher(new Dispatcher() {
+            @Override
+            public MockResponse dispatch(RecordedRequest request) {
+                return new MockResponse().setResponseCode(200).setHeadersDelay(5, TimeUnit.SECONDS);
+            }
+        });
+        ClientOptions clientOptions = clientOptions(
+                HedgingConfig.builder().maxDelay(Duration.ofMillis(100)).build());
+        CompletableFuture<Call> primary = new CompletableFuture<>();
+
+        CompletableFuture<Response> race = CompletableFuture.supplyAsync(() -> {
+            try {
+                return HttpCalls.execute(clientOptions.httpClient(), get(), primary::complete);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        });
+        // Wait until the hedge has been sent as well
+        assertNotNull(server.takeRequest(5, TimeUnit.SECONDS));
+        assertNotNull(server.takeRequest(5, TimeUnit.SECONDS));
+        primary.get(5, TimeUnit.SECONDS).cancel();
+
+        ExecutionException failure = assertThrows(ExecutionException.class, () -> race.get(2, TimeUnit.SECONDS));
+        assertInstanceOf(UncheckedIOException.class, failure.getCause());
+    }
+
+    @Test
+    public void testHedgeDelayFollowsPercentileOfLatencies() {
+        HedgingInterceptor interceptor = new HedgingInterceptor(HedgingConfig.builder()
+                .percentile(0.9)
+                .minDelay(Duration.ofMillis(10))
+                .maxDelay(Duration.ofSeconds(1))
+                .build());
+
+        assertEquals(1000, interceptor.hedgeDelayMillis());
+        for (int i = 1; i <= 100; i++) {
+            interceptor.recordLatency(i * 5);
+        }
+        assertEquals(450, interceptor.hedgeDelayMillis());
+
+        for (int i = 0; i < 128; i++) {
+            interceptor.recordLatency(1);
+        }
+        assertEquals(10, interceptor.hedgeDelayMillis());
+    }
+
+    private ClientOptions clientOptions(HedgingConfig hedging) {
+        return ClientOptions.builder().maxRetries(0).hedging(hedging).build();
+    }
+
+    private Request get() {
+        return new Request.Builder().url(server.url("/payments/1")).get().build();
+    }
+}
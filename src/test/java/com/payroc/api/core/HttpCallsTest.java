@@ -0,0 +1,129 @@
+package com.payroc.api.core;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.IOException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import okhttp3.Call;
+import okhttp3.Callback;
+import okhttp3.OkHttpClient;
+import okhttp3.Request;
+import okhttp3.Response;
+import okhttp3.mockwebserver.Dispatcher;
+import okhttp3.mockwebserver.MockResponse;
+import okhttp3.mockwebserver.MockWebServer;
+import okhttp3.mockwebserver.RecordedRequest;
+import okhttp3.mockwebserver.SocketPolicy;
+import org.jetbrains.annotations.NotNull;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class HttpCallsTest {
+    private MockWebServer server;
+
+    @BeforeEach
+    public void setup() throws Exception {
+        server = new MockWebServer();
+        server.start();
+    }
+
+    @AfterEach
+    public void teardown() throws Exception {
+        server.shutdown();
+    }
+
+    @Test
+    public void testAsyncRetryDoesNotHoldDispatcherThread() throws Exception {
+        CountDownLatch fastServed = new CountDownLatch(1);
+        server.setDispatcher(new Dispatcher() {
+            private final AtomicInteger slowAttempts = new AtomicInteger();
+
+            @Override
+            public MockResponse dispatch(RecordedRequest request) throws InterruptedException {
+                if (request.getPath().equals("/fast")) {
+                    fastServed.countDown();
+                } else if (slowAttempts.getAndIncrement() == 0) {
+                    return new MockResponse().setResponseCode(503).setHeader("Retry-After", "1");
+                } else {
+                    // The retry is answered only once the other call has been served, which cannot happen if
+                    // the retry holds the only dispatcher slot while it waits
+                    fastServed.await(10, TimeUnit.SECONDS);
+                }
+                return new MockResponse().setResponseCode(200).setBody(request.getPath());
+            }
+        });
+        OkHttpClient client = ClientOptions.builder().maxRetries(2).build().httpClient();
+        // A single dispatcher slot: a retry sleeping inside the chain would block the second call
+        client.dispatcher().setMaxRequests(1);
+
+        CompletableFuture<String> slow = enqueue(client, "/slow");
+        assertEquals("/slow", server.takeRequest(10, TimeUnit.SECONDS).getPath());
+        CompletableFuture<String> fast = enqueue(client, "/fast");
+
+        assertEquals("/fast", fast.get(10, TimeUnit.SECONDS));
+        assertEquals("/slow", slow.get(10, TimeUnit.SECONDS));
+        assertEquals(3, server.getRequestCount());
+    }
+
+    @Test
+    public void testAsyncRetriesStopAtMaxRetries() throws Exception {
+        server.setDispatcher(new Dispatcher() {
+            @Override
+            public MockResponse dispatch(RecordedRequest request) {
+                return new MockResponse().setResponseCode(429).setHeader("Retry-After", "1");
+            }
+        });
+        OkHttpClient client = ClientOptions.builder().maxRetries(1).build().httpClient();
+
+        assertEquals("429", enqueue(client, "/limited").get(5, TimeUnit.SECONDS));
+        assertEquals(2, server.getRequestCount());
+    }
+
+    @Test
+    public void testClientWithoutRetryInterceptorIsCalledOnce() throws Exception {
+        server.enqueue(new MockResponse().setResponseCode(503));
+
+        assertEquals("503", enqueue(new OkHttpClient(), "/plain").get(5, TimeUnit.SECONDS));
+        assertEquals(1, server.getRequestCount());
+    }
+
+    @Test
+    public void testAsyncNetworkFailureIsRetriedWithIdempotencyKey() throws Exception {
+        server.enqueue(new MockResponse().setSocketPolicy(SocketPolicy.DISCONNECT_AFTER_REQUEST));
+        server.enqueue(new MockResponse().setResponseCode(200).setBody("created"));
+        OkHttpClient client = ClientOptions.builder().maxRetries(1).build().httpClient();
+        Request request = new Request.Builder()
+                .url(server.url("/payments"))
+                .header("Idempotency-Key", "8e03978e-40d5-43e8-bc93-6894a57f9324")
+                .build();
+
+        assertEquals("created", enqueue(client, request).get(5, TimeUnit.SECONDS));
+        assertEquals(2, server.getRequestCount());
+    }
+
+    private CompletableFuture<String> enqueue(OkHttpClient client, String path) {
+        return enqueue(client, new Request.Builder().url(server.url(path)).build());
+    }
+
+    private CompletableFuture<String> enqueue(OkHttpClient client, Request request) {
+        CompletableFuture<String> future = new CompletableFuture<>();
+        HttpCalls.enqueue(client, request, new Callback() {
+            @Override
+            public void onResponse(@NotNull Call call, @NotNull Response response) throws IOException {
+                try (Response closed = response) {
+                    future.complete(response.isSuccessful() ? closed.body().string() : String.valueOf(closed.code()));
+                }
+            }
+
+            @Override
+            public void onFailure(@NotNull Call call, @NotNull IOException e) {
+                future.completeExceptionally(e);
+            }
+        });
+        return future;
+    }
+}
@@ -0,0 +1,182 @@
+package com.payroc.api.core;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.payroc.api.resources.auth.AuthClient;
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import okhttp3.mockwebserver.MockResponse;
+import okhttp3.mockwebserver.MockWebServer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class InferredAuthTokenSupplierTest {
+    private MockWebServer server;
+    private MutableClock clock;
+    private InferredAuthTokenSupplier supplier;
+
+    @BeforeEach
+    public void setup() throws Exception {
+        server = new MockWebServer();
+        server.start();
+        clock = new MutableClock(Instant.parse("2024-07-02T12:00:00Z"));
+        AuthClient authClient = new AuthClient(ClientOptions.builder()
+                .environment(Environment.custom()
+                        .api(server.url("/").toString())
+                        .identity(server.url("/").toString())
+                        .build())
+                .maxRetries(0)
+                .build());
+        supplier = new InferredAuthTokenSupplier("x-api-key", authClient, clock);
+    }
+
+    @AfterEach
+    public void teardown() throws Exception {
+        server.shutdown();
+    }
+
+    @Test
+    public void testConcurrentCallersShareOneFetch() throws Exception {
+        server.enqueue(tokenResponse("first", 3600).setBodyDelay(200, TimeUnit.MILLISECONDS));
+
+        int callers = 8;
+        ExecutorService executor = Executors.newFixedThreadPool(callers);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<String>> headers = new ArrayList<>();
+        try {
+            for (int i = 0; i < callers; i++) {
+                headers.add(executor.submit(() -> {
+                    start.await();
+                    return supplier.get().get("Authorization");
+                }));
+            }
+            start.countDown();
+            for (Future<String> header : headers) {
+                assertEquals("Bearer first", header.get(5, TimeUnit.SECONDS));
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        assertEquals(1, server.getRequestCount());
+    }
+
+    @Test
+    public void testCachedTokenIsReusedUntilRefreshWindow() {
+        server.enqueue(tokenResponse("first", 3600));
+
+        assertEquals("Bearer first", supplier.get().get("Authorization"));
+        clock.advanceSeconds(1800);
+        assertEquals("Bearer first", supplier.get().get("Authorization"));
+
+        assertEquals(1, server.getRequestCount());
+    }
+
+    @Test
+    public void testRefreshesInBackgroundBeforeExpiry() throws Exception {
+        server.enqueue(tokenResponse("first", 3600));
+        server.enqueue(tokenResponse("second", 3600));
+
+        assertEquals("Bearer first", supplier.get().get("Authorization"));
+
+        // Inside the refresh window but before the expiry buffer: the current token is still served
+        clock.advanceSeconds(3600 - 120 - 30);
+        assertEquals("Bearer first", supplier.get().get("Authorization"));
+
+        assertNotNull(server.takeRequest(5, TimeUnit.SECONDS));
+        assertNotNull(server.takeRequest(5, TimeUnit.SECONDS));
+        long deadline = System.currentTimeMillis() + 5000;
+        while (!"Bearer second".equals(supplier.get().get("Authorization")) && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10);
+        }
+        assertEquals("Bearer second", supplier.get().get("Authorization"));
+        assertEquals(2, server.getRequestCount());
+    }
+
+    @Test
+    public void testFailedBackgroundRefreshBacksOff() throws Exception {
+        server.enqueue(tokenResponse("first", 3600));
+        server.enqueue(new MockResponse().setResponseCode(500).setBody("{}"));
+        server.enqueue(tokenResponse("second", 3600));
+
+        assertEquals("Bearer first", supplier.get().get("Authorization"));
+        clock.advanceSeconds(3600 - 120 - 30);
+        assertEquals("Bearer first", supplier.get().get("Authorization"));
+        assertNotNull(server.takeRequest(5, TimeUnit.SECONDS));
+        assertNotNull(server.takeRequest(5, TimeUnit.SECONDS));
+
+        // The failed refresh is not retried by every caller, and the current token is still served
+        Thread.sleep(200);
+        assertEquals("Bearer first", supplier.get().get("Authorization"));
+        assertEquals("Bearer first", supplier.get().get("Authorization"));
+        Thread.sleep(200);
+        assertEquals(2, server.getRequestCount());
+
+        clock.advanceSeconds(1);
+        assertEquals("Bearer first", supplier.get().get("Authorization"));
+        assertNotNull(server.takeRequest(5, TimeUnit.SECONDS));
+    }
+
+    @Test
+    public void testExpiredTokenIsRefreshedBeforeReturning() {
+        server.enqueue(tokenResponse("first", 3600));
+        server.enqueue(tokenResponse("second", 3600));
+
+        assertEquals("Bearer first", supplier.get().get("Authorization"));
+        clock.advanceSeconds(3600);
+        assertEquals("Bearer second", supplier.get().get("Authorization"));
+    }
+
+    @Test
+    public void testFailedRefreshIsRetriedByNextCaller() {
+        server.enqueue(new MockResponse().setResponseCode(500).setBody("{}"));
+        server.enqueue(tokenResponse("first", 3600));
+
+        assertThrows(PayrocApiException.class, () -> supplier.get());
+        assertEquals("Bearer first", supplier.get().get("Authorization"));
+    }
+
+    private static MockResponse tokenResponse(String accessToken, int expiresIn) {
+        return new MockResponse()
+                .setResponseCode(200)
+                .setBody("{\"access_token\":\"" + accessToken + "\",\"token_type\":\"Bearer\",\"expires_in\":"
+                        + expiresIn + "}");
+    }
+
+    private static final class MutableClock extends Clock {
+        private volatile Instant now;
+
+        private MutableClock(Instant now) {
+            this.now = now;
+        }
+
+        private void advanceSeconds(long seconds) {
+            now = now.plusSeconds(seconds);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return now;
+        }
+    }
+}
@@ -0,0 +1,131 @@
+package com.payroc.api.core;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.payroc.api.types.Link;
+import java.util.Arrays;
+import java.util.List;
+import okhttp3.OkHttpClient;
+import okhttp3.Request;
+import okhttp3.Response;
+import okhttp3.mockwebserver.MockResponse;
+import okhttp3.mockwebserver.MockWebServer;
+import okhttp3.mockwebserver.RecordedRequest;
+import okio.Buffer;
+import org.junit.jupiter.api.Test;
+
+public class JsonRequestBodyTest {
+    private static final List<Link> LINKS = Arrays.asList(
+            Link.builder()
+                    .rel("previous")
+                    .method("GET")
+                    .href("https://example.com/1")
+                    .build(),
+            Link.builder()
+                    .rel("next")
+                    .method("GET")
+                    .href("https://example.com/3")
+                    .build());
+
+    @Test
+    public void testBufferedBodyHasKnownLengthAndCanBeWrittenTwice() throws Exception {
+        byte[] expected = ObjectMappers.JSON_MAPPER.writeValueAsBytes(LINKS);
+
+        JsonRequestBody body = JsonRequestBody.buffered(LINKS);
+
+        assertEquals(expected.length, body.contentLength());
+        assertEquals(MediaTypes.APPLICATION_JSON, body.contentType());
+        assertArrayEquals(expected, write(body));
+        assertArrayEquals(expected, write(body));
+    }
+
+    @Test
+    public void testStreamingBodyHasUnknownLengthAndCanBeWrittenTwice() throws Exception {
+        byte[] expected = ObjectMappers.JSON_MAPPER.writeValueAsBytes(LINKS);
+
+        JsonRequestBody body = JsonRequestBody.streaming(LINKS);
+
+        assertEquals(-1, body.contentLength());
+        assertArrayEquals(expected, write(body));
+        assertArrayEquals(expected, write(body));
+    }
+
+    @Test
+    public void testBodyOfDeclaredTypeUsesWriterForThatType() throws Exception {
+        byte[] expected = ObjectMappers.JSON_MAPPER.writeValueAsBytes(LINKS);
+        TypeReference<List<Link>> type = new TypeReference<List<Link>>() {};
+
+        for (boolean streaming : new boolean[] {false, true}) {
+            ClientOptions clientOptions =
+                    ClientOptions.builder().streamRequestBodies(streaming).build();
+
+            assertArrayEquals(expected, write(JsonRequestBody.of(clientOptions, LINKS, type)));
+        }
+        assertNotSame(ObjectMappers.writer(LINKS.getClass()), ObjectMappers.writer(type.getType()));
+    }
+
+    @Test
+    public void testStreamingBodyLeavesSinkOpen() throws Exception {
+        Buffer sink = new Buffer();
+
+        JsonRequestBody.streaming(LINKS.get(0)).writeTo(sink);
+        sink.writeUtf8("\n");
+
+        assertTrue(sink.readUtf8().endsWith("}\n"));
+    }
+
+    @Test
+    public void testNullValueIsWrittenAsJsonNull() throws Exception {
+        assertEquals("null", new String(write(JsonRequestBody.buffered(null)), "UTF-8"));
+        assertEquals("null", new String(write(JsonRequestBody.streaming(null)), "UTF-8"));
+    }
+
+    @Test
+    public void testOfFollowsClientOption() throws Exception {
+        ClientOptions buffered = ClientOptions.builder().build();
+        ClientOptions streaming =
+                ClientOptions.builder().streamRequestBodies(true).build();
+
+        assertNotEquals(-1, JsonRequestBody.of(buffered, LINKS).contentLength());
+        assertEquals(-1, JsonRequestBody.of(streaming, LINKS).contentLength());
+        assertTrue(ClientOptions.Builder.from(streaming).build().streamRequestBodies());
+    }
+
+    @Test
+    public void testBodiesOnTheWire() throws Exception {
+        MockWebServer server = new MockWebServer();
+        server.start();
+        try {
+            OkHttpClient client = new OkHttpClient();
+            byte[] expected = ObjectMappers.JSON_MAPPER.writeValueAsBytes(LINKS);
+
+            server.enqueue(new MockResponse().setResponseCode(204));
+            post(client, server, JsonRequestBody.buffered(LINKS));
+            RecordedRequest bufferedRequest = server.takeRequest();
+            assertEquals(String.valueOf(expected.length), bufferedRequest.getHeader("Content-Length"));
+            assertArrayEquals(expected, bufferedRequest.getBody().readByteArray());
+
+            server.enqueue(new MockResponse().setResponseCode(204));
+            post(client, server, JsonRequestBody.streaming(LINKS));
+            RecordedRequest streamingRequest = server.takeRequest();
+            assertEquals("chunked", streamingRequest.getHeader("Transfer-Encoding"));
+            assertArrayEquals(expected, streamingRequest.getBody().readByteArray());
+        } finally {
+            server.shutdown();
+        }
+    }
+
+    private static void post(OkHttpClient client, MockWebServer server, JsonRequestBody body) throws Exception {
+        Request request = new Request.Builder().url(server.url("/")).post(body).build();
+        try (Response response = client.newCall(request).execute()) {
+            assertEquals(204, response.code());
+        }
+    }
+
+    private static byte[] write(JsonRequestBody body) throws Exception {
+        Buffer sink = new Buffer();
+        body.writeTo(sink);
+        return sink.readByteArray();
+    }
+}
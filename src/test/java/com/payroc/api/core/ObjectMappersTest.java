@@ -0,0 +1,141 @@
+package com.payroc.api.core;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.core.util.BufferRecycler;
+import com.fasterxml.jackson.core.util.JsonRecyclerPools;
+import com.fasterxml.jackson.core.util.RecyclerPool;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.payroc.api.PayrocApiResource;
+import com.payroc.api.TestResources;
+import com.payroc.api.types.DisputeStatus;
+import com.payroc.api.types.Link;
+import com.payroc.api.types.PatchDocument;
+import com.payroc.api.types.RetrievedPayment;
+import java.util.Collections;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+public class ObjectMappersTest {
+
+    @Test
+    public void testStringifyPrettyPrintsWithoutReconfiguringMapper() {
+        JsonInclude.Value inclusion =
+                ObjectMappers.JSON_MAPPER.getSerializationConfig().getDefaultPropertyInclusion();
+
+        String json = ObjectMappers.stringify(Link.builder()
+                .rel("next")
+                .method("GET")
+                .href("https://example.com")
+                .build());
+
+        assertTrue(json.contains("\n"), "Expected pretty-printed output");
+        assertTrue(json.contains("\"rel\" : \"next\""));
+        assertSame(inclusion, ObjectMappers.JSON_MAPPER.getSerializationConfig().getDefaultPropertyInclusion());
+    }
+
+    @Test
+    public void testReadersAndWritersAreCached() throws Exception {
+        assertSame(ObjectMappers.reader(Link.class), ObjectMappers.reader(Link.class));
+        assertSame(ObjectMappers.writer(Link.class), ObjectMappers.writer(Link.class));
+        assertSame(
+                ObjectMappers.reader(new TypeReference<List<Link>>() {}.getType()),
+                ObjectMappers.reader(new TypeReference<List<Link>>() {}.getType()));
+        assertSame(
+                ObjectMappers.reader(new TypeReference<List<Link>>() {}.getType()),
+                ObjectMappers.reader(
+                        ObjectMappers.JSON_MAPPER.getTypeFactory().constructCollectionType(List.class, Link.class)));
+
+        Link link = Link.builder()
+                .rel("next")
+                .method("GET")
+                .href("https://example.com")
+                .build();
+        assertArrayEquals(
+                ObjectMappers.JSON_MAPPER.writeValueAsBytes(link),
+                ObjectMappers.writer(Link.class).writeValueAsBytes(link));
+    }
+
+    @Test
+    public void testWarmUpBuildsEveryResourceType() {
+        for (PayrocApiResource resource : PayrocApiResource.values()) {
+            assertFalse(resource.getResponseTypes().isEmpty(), resource.name());
+            ObjectMappers.warmUp(resource.getRequestTypes(), resource.getResponseTypes());
+        }
+    }
+
+    @Test
+    public void testResourcesIncludeGenericBodyTypes() {
+        assertTrue(PayrocApiResource.REPORTING
+                .getResponseTypes()
+                .contains(ObjectMappers.JSON_MAPPER.constructType(new TypeReference<List<DisputeStatus>>() {})));
+        assertTrue(PayrocApiResource.REPEAT_PAYMENTS
+                .getRequestTypes()
+                .contains(ObjectMappers.JSON_MAPPER.constructType(new TypeReference<List<PatchDocument>>() {})));
+    }
+
+    @Test
+    public void testUnknownPropertiesAreCapturedOnlyWhenPresent() throws Exception {
+        Link known = ObjectMappers.JSON_MAPPER.readValue(
+                "{\"rel\":\"next\",\"method\":\"GET\",\"href\":\"https://example.com\"}", Link.class);
+        Link unknown = ObjectMappers.JSON_MAPPER.readValue(
+                "{\"rel\":\"next\",\"method\":\"GET\",\"href\":\"https://example.com\",\"title\":\"Next\"}",
+                Link.class);
+
+        assertSame(Collections.emptyMap(), known.getAdditionalProperties());
+        assertEquals(Collections.singletonMap("title", "Next"), unknown.getAdditionalProperties());
+        assertTrue(ObjectMappers.JSON_MAPPER.writeValueAsString(unknown).contains("\"title\":\"Next\""));
+    }
+
+    @Test
+    public void testAfterburnerProfileDecodesLikeDefaultMapper() throws Exception {
+        ObjectMapper afterburner = ObjectMappers.createMapper(true);
+        String json = TestResources.loadResource("/wire-tests/CardPaymentsPaymentsWireTest_testRetrieve_response.json");
+
+        assertTrue(ObjectMappers.isAfterburnerAvailable());
+        assertTrue(afterburner
+                .getRegisteredModuleIds()
+                .contains("com.fasterxml.jackson.module.afterburner.AfterburnerModule"));
+        assertFalse(ObjectMappers.isAfterburnerEnabled());
+        assertEquals(
+                ObjectMappers.JSON_MAPPER.readValue(json, RetrievedPayment.class),
+                afterburner.readValue(json, RetrievedPayment.class));
+    }
+
+    @Test
+    public void testRecyclerPoolSelection() {
+        assertSame(JsonRecyclerPools.sharedConcurrentDequePool(), ObjectMappers.recyclerPool());
+        assertSame(JsonRecyclerPools.sharedConcurrentDequePool(), ObjectMappers.recyclerPool((String) null));
+        assertSame(JsonRecyclerPools.sharedConcurrentDequePool(), ObjectMappers.recyclerPool("unknown"));
+        assertSame(JsonRecyclerPools.threadLocalPool(), ObjectMappers.recyclerPool("Thread-Local"));
+        assertSame(JsonRecyclerPools.nonRecyclingPool(), ObjectMappers.recyclerPool("none"));
+    }
+
+    @Test
+    public void testBuffersAreReusedAcrossThreads() throws Exception {
+        RecyclerPool<BufferRecycler> pool = JsonRecyclerPools.newConcurrentDequePool();
+        ObjectMapper mapper = ObjectMappers.createMapper(false, pool);
+        String json = "{\"rel\":\"next\",\"method\":\"GET\",\"href\":\"https://example.com\"}";
+
+        // Each request runs on a fresh thread, as it would on a virtual thread
+        for (int i = 0; i < 3; i++) {
+            Thread thread = new Thread(() -> {
+                try {
+                    mapper.readValue(json, Link.class);
+                    mapper.writeValueAsBytes(Link.builder()
+                            .rel("next")
+                            .method("GET")
+                            .href("https://example.com")
+                            .build());
+                } catch (Exception e) {
+                    throw new RuntimeException(e);
+                }
+            });
+            thread.start();
+            thread.join();
+            assertEquals(1, pool.pooledCount());
+        }
+    }
+}
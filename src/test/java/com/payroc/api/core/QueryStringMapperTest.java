@@ -3,10 +3,15 @@
  */
 package com.payroc.api.core;
 
+import com.fasterxml.jackson.databind.JsonNode;
+import com.payroc.api.types.Currency;
 import java.time.Instant;
+import java.time.LocalDate;
 import java.time.OffsetDateTime;
 import java.time.ZoneId;
+import java.time.ZoneOffset;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -330,6 +335,35 @@ public final class QueryStringMapperTest {
         Assertions.assertEquals(expectedQueryString, actualQueryString);
     }
 
+    @Test
+    public void testScalarFastPathMatchesTreeConversion() {
+        List<Object> values = Arrays.asList(
+                "plain text",
+                "",
+                42,
+                -7L,
+                true,
+                LocalDate.of(2024, 2, 29),
+                OffsetDateTime.of(2024, 7, 2, 12, 0, 0, 0, ZoneOffset.UTC),
+                OffsetDateTime.of(2024, 7, 2, 12, 30, 15, 120_000_000, ZoneOffset.ofHoursMinutes(-5, -30)),
+                Currency.USD,
+                Currency.valueOf("XYZ"));
+
+        for (Object value : values) {
+            JsonNode node = ObjectMappers.JSON_MAPPER.valueToTree(value);
+            String expected = node.isTextual() ? node.textValue() : node.toString();
+            Assertions.assertEquals(expected, QueryStringMapper.scalarToString(value), String.valueOf(value));
+        }
+    }
+
+    @Test
+    public void testScalarFastPathDefersOtherTypes() {
+        Assertions.assertNull(QueryStringMapper.scalarToString(24000.0));
+        Assertions.assertNull(QueryStringMapper.scalarToString(Arrays.asList("a", "b")));
+        Assertions.assertNull(QueryStringMapper.scalarToString(ZoneOffset.UTC));
+        Assertions.assertNull(QueryStringMapper.scalarToString(null));
+    }
+
     private static String queryString(Map<String, Object> params, boolean arraysAsRepeats) {
         HttpUrl.Builder httpUrl = HttpUrl.parse("http://www.fakewebsite.com/").newBuilder();
         params.forEach((paramName, paramValue) ->
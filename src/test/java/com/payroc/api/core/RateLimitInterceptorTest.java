@@ -0,0 +1,199 @@
+package com.payroc.api.core;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import okhttp3.OkHttpClient;
+import okhttp3.Protocol;
+import okhttp3.Request;
+import okhttp3.Response;
+import okhttp3.mockwebserver.MockResponse;
+import okhttp3.mockwebserver.MockWebServer;
+import org.junit.jupiter.api.Test;
+
+public class RateLimitInterceptorTest {
+    private static final Request PAYMENT = request("GET", "https://api.payroc.com/v1/payments/M2MJOG6O2Y");
+
+    private final MutableClock clock = new MutableClock(Instant.parse("2024-07-02T12:00:00Z"));
+
+    @Test
+    public void testRequestsAreNotDelayedWithoutRateLimitHeaders() {
+        RateLimitInterceptor limiter =
+                new RateLimitInterceptor(RateLimitConfig.builder().build(), clock);
+
+        limiter.update(PAYMENT, response(PAYMENT, 200));
+
+        assertEquals(0, limiter.reserve(PAYMENT));
+    }
+
+    @Test
+    public void testRequestsAreSpreadOnceBelowPacingThreshold() {
+        RateLimitInterceptor limiter =
+                new RateLimitInterceptor(RateLimitConfig.builder().build(), clock);
+
+        limiter.update(PAYMENT, rateLimited(PAYMENT, 200, 100, 50, 10));
+        assertEquals(0, limiter.reserve(PAYMENT));
+
+        // 9 requests remain over the 10 second window: each takes the next of 10 evenly spaced slots
+        limiter.update(PAYMENT, rateLimited(PAYMENT, 200, 100, 9, 10));
+        assertEquals(1000, limiter.reserve(PAYMENT));
+        assertEquals(2000, limiter.reserve(PAYMENT));
+    }
+
+    @Test
+    public void testPacingCheckTakesNoSlot() {
+        RateLimitInterceptor limiter =
+                new RateLimitInterceptor(RateLimitConfig.builder().build(), clock);
+
+        assertFalse(limiter.isPacing(PAYMENT));
+        limiter.update(PAYMENT, rateLimited(PAYMENT, 200, 100, 9, 10));
+
+        assertTrue(limiter.isPacing(PAYMENT));
+        assertTrue(limiter.isPacing(PAYMENT));
+        assertEquals(1000, limiter.reserve(PAYMENT));
+    }
+
+    @Test
+    public void testExhaustedWindowWaitsForReset() {
+        RateLimitInterceptor limiter =
+                new RateLimitInterceptor(RateLimitConfig.builder().build(), clock);
+        long resetEpochSeconds = clock.instant().getEpochSecond() + 5;
+
+        limiter.update(
+                PAYMENT,
+                response(PAYMENT, 200)
+                        .newBuilder()
+                        .header("X-RateLimit-Limit", "100")
+                        .header("X-RateLimit-Remaining", "0")
+                        .header("X-RateLimit-Reset", String.valueOf(resetEpochSeconds))
+                        .build());
+
+        // Waiting requests are spread over the next window: 100 requests over 5 seconds, one every 50ms
+        assertEquals(5000, limiter.reserve(PAYMENT));
+        assertEquals(5050, limiter.reserve(PAYMENT));
+        assertEquals(5100, limiter.reserve(PAYMENT));
+        clock.advanceMillis(5000);
+        assertEquals(0, limiter.reserve(PAYMENT));
+    }
+
+    @Test
+    public void testTooManyRequestsUsesRetryAfter() {
+        RateLimitInterceptor limiter = new RateLimitInterceptor(
+                RateLimitConfig.builder().maxDelay(Duration.ofSeconds(2)).build(), clock);
+
+        limiter.update(
+                PAYMENT,
+                response(PAYMENT, 429).newBuilder().header("Retry-After", "30").build());
+
+        assertEquals(2000, limiter.reserve(PAYMENT));
+    }
+
+    @Test
+    public void testPerEndpointBucketsAreIndependent() {
+        RateLimitInterceptor limiter = new RateLimitInterceptor(
+                RateLimitConfig.builder().perEndpoint(true).build(), clock);
+        Request otherPayment = request("GET", "https://api.payroc.com/v1/payments/ABC123");
+        Request batches = request("GET", "https://api.payroc.com/v1/batches");
+
+        limiter.update(PAYMENT, rateLimited(PAYMENT, 200, 100, 0, 10));
+
+        assertEquals(10000, limiter.reserve(otherPayment));
+        assertEquals(0, limiter.reserve(batches));
+        assertEquals("GET api.payroc.com/v1/payments/{id}", RateLimitInterceptor.endpointKey(PAYMENT));
+        assertEquals("GET api.payroc.com/v1/batches", RateLimitInterceptor.endpointKey(batches));
+    }
+
+    @Test
+    public void testHostsHaveSeparateBuckets() {
+        RateLimitInterceptor limiter =
+                new RateLimitInterceptor(RateLimitConfig.builder().build(), clock);
+        Request token = request("GET", "https://identity.payroc.com/authorize");
+        Request batches = request("GET", "https://api.payroc.com/v1/batches");
+
+        limiter.update(token, rateLimited(token, 200, 100, 0, 10));
+
+        assertEquals(10000, limiter.reserve(token));
+        assertEquals(0, limiter.reserve(PAYMENT));
+        assertEquals(0, limiter.reserve(batches));
+    }
+
+    @Test
+    public void testSyncCallsArePacedByClient() throws Exception {
+        MockWebServer server = new MockWebServer();
+        server.start();
+        try {
+            OkHttpClient client = ClientOptions.builder()
+                    .rateLimiting(RateLimitConfig.builder().build())
+                    .build()
+                    .httpClient();
+            server.enqueue(new MockResponse()
+                    .setResponseCode(200)
+                    .setHeader("X-RateLimit-Limit", "10")
+                    .setHeader("X-RateLimit-Remaining", "0")
+                    .setHeader("X-RateLimit-Reset", "1"));
+            server.enqueue(new MockResponse().setResponseCode(200));
+            Request request = new Request.Builder().url(server.url("/batches")).build();
+
+            client.newCall(request).execute().close();
+            long start = System.nanoTime();
+            client.newCall(request).execute().close();
+
+            assertTrue(System.nanoTime() - start >= 900_000_000L, "Expected the second call to wait for reset");
+        } finally {
+            server.shutdown();
+        }
+    }
+
+    private Response rateLimited(Request request, int code, int limit, int remaining, int resetInSeconds) {
+        return response(request, code)
+                .newBuilder()
+                .header("X-RateLimit-Limit", String.valueOf(limit))
+                .header("X-RateLimit-Remaining", String.valueOf(remaining))
+                .header("X-RateLimit-Reset", String.valueOf(resetInSeconds))
+                .build();
+    }
+
+    private static Response response(Request request, int code) {
+        return new Response.Builder()
+                .request(request)
+                .protocol(Protocol.HTTP_1_1)
+                .code(code)
+                .message("")
+                .build();
+    }
+
+    private static Request request(String method, String url) {
+        return new Request.Builder().method(method, null).url(url).build();
+    }
+
+    private static final class MutableClock extends Clock {
+        private volatile Instant now;
+
+        private MutableClock(Instant now) {
+            this.now = now;
+        }
+
+        private void advanceMillis(long millis) {
+            now = now.plusMillis(millis);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return now;
+        }
+    }
+}
@@ -0,0 +1,125 @@
+package com.payroc.api.core;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import okhttp3.OkHttpClient;
+import okhttp3.Request;
+import okhttp3.Response;
+import okhttp3.mockwebserver.MockResponse;
+import okhttp3.mockwebserver.MockWebServer;
+import org.junit.jupiter.api.Test;
+
+public class RetryBudgetTest {
+    private final MutableClock clock = new MutableClock(Instant.parse("2024-07-02T12:00:00Z"));
+
+    @Test
+    public void testRetriesAreCappedAtRatioOfRequests() {
+        RetryBudget budget = new RetryBudget(
+                RetryBudgetConfig.builder().ratio(0.1).minRetries(0).build(), clock);
+
+        for (int i = 0; i < 20; i++) {
+            budget.recordRequest();
+        }
+
+        assertTrue(budget.tryAcquireRetry());
+        assertTrue(budget.tryAcquireRetry());
+        assertFalse(budget.tryAcquireRetry());
+        assertEquals(20, budget.getRequests());
+        assertEquals(2, budget.getRetries());
+        assertEquals(0, budget.getAvailableRetries());
+    }
+
+    @Test
+    public void testMinRetriesAllowRetriesWithLittleTraffic() {
+        RetryBudget budget =
+                new RetryBudget(RetryBudgetConfig.builder().minRetries(1).build(), clock);
+
+        assertTrue(budget.tryAcquireRetry());
+        assertFalse(budget.tryAcquireRetry());
+    }
+
+    @Test
+    public void testCountsLeaveTheSlidingWindow() {
+        RetryBudget budget = new RetryBudget(
+                RetryBudgetConfig.builder()
+                        .minRetries(1)
+                        .window(Duration.ofSeconds(10))
+                        .build(),
+                clock);
+
+        budget.recordRequest();
+        assertTrue(budget.tryAcquireRetry());
+        clock.advanceMillis(5000);
+        budget.recordRequest();
+        assertEquals(2, budget.getRequests());
+        assertFalse(budget.tryAcquireRetry());
+
+        clock.advanceMillis(5000);
+        assertEquals(1, budget.getRequests());
+        assertEquals(0, budget.getRetries());
+        assertTrue(budget.tryAcquireRetry());
+
+        clock.advanceMillis(60000);
+        assertEquals(0, budget.getRequests());
+    }
+
+    @Test
+    public void testSpentBudgetStopsRetries() throws Exception {
+        MockWebServer server = new MockWebServer();
+        server.start();
+        try {
+            ClientOptions clientOptions = ClientOptions.builder()
+                    .maxRetries(2)
+                    .retryBudget(
+                            RetryBudgetConfig.builder().ratio(0).minRetries(1).build())
+                    .build();
+            OkHttpClient client = clientOptions.httpClient();
+            for (int i = 0; i < 3; i++) {
+                server.enqueue(new MockResponse().setResponseCode(503).setHeader("Retry-After", "1"));
+            }
+            Request request = new Request.Builder().url(server.url("/batches")).build();
+
+            // One retry is allowed, then the budget is spent and the 503 is returned
+            try (Response response = client.newCall(request).execute()) {
+                assertEquals(503, response.code());
+            }
+
+            assertEquals(2, server.getRequestCount());
+            assertEquals(0, clientOptions.retryBudgetState().get().getAvailableRetries());
+        } finally {
+            server.shutdown();
+        }
+    }
+
+    private static final class MutableClock extends Clock {
+        private volatile Instant now;
+
+        private MutableClock(Instant now) {
+            this.now = now;
+        }
+
+        private void advanceMillis(long millis) {
+            now = now.plusMillis(millis);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return now;
+        }
+    }
+}
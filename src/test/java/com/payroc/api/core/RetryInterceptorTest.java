@@ -0,0 +1,74 @@
+package com.payroc.api.core;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.IOException;
+import okhttp3.OkHttpClient;
+import okhttp3.Request;
+import okhttp3.Response;
+import okhttp3.mockwebserver.MockResponse;
+import okhttp3.mockwebserver.MockWebServer;
+import okhttp3.mockwebserver.SocketPolicy;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class RetryInterceptorTest {
+    private MockWebServer server;
+
+    private OkHttpClient client;
+
+    @BeforeEach
+    public void setup() throws Exception {
+        server = new MockWebServer();
+        server.start();
+        client = ClientOptions.builder().maxRetries(1).build().httpClient();
+    }
+
+    @AfterEach
+    public void teardown() throws Exception {
+        server.shutdown();
+    }
+
+    @Test
+    public void testNetworkFailureIsRetriedWithIdempotencyKey() throws Exception {
+        server.enqueue(new MockResponse().setSocketPolicy(SocketPolicy.DISCONNECT_AFTER_REQUEST));
+        server.enqueue(new MockResponse().setResponseCode(200));
+
+        Request request = post().header("Idempotency-Key", "8e03978e-40d5-43e8-bc93-6894a57f9324")
+                .build();
+        try (Response response = client.newCall(request).execute()) {
+            assertEquals(200, response.code());
+        }
+
+        assertEquals(2, server.getRequestCount());
+        assertEquals(
+                "8e03978e-40d5-43e8-bc93-6894a57f9324", server.takeRequest().getHeader("Idempotency-Key"));
+        assertEquals(
+                "8e03978e-40d5-43e8-bc93-6894a57f9324", server.takeRequest().getHeader("Idempotency-Key"));
+    }
+
+    @Test
+    public void testNetworkFailureWithoutIdempotencyKeyIsNotRetried() {
+        server.enqueue(new MockResponse().setSocketPolicy(SocketPolicy.DISCONNECT_AFTER_REQUEST));
+        server.enqueue(new MockResponse().setResponseCode(200));
+
+        assertThrows(IOException.class, () -> client.newCall(post().build()).execute());
+        assertEquals(1, server.getRequestCount());
+    }
+
+    @Test
+    public void testNetworkFailureRetriesStopAtMaxRetries() {
+        server.enqueue(new MockResponse().setSocketPolicy(SocketPolicy.DISCONNECT_AFTER_REQUEST));
+        server.enqueue(new MockResponse().setSocketPolicy(SocketPolicy.DISCONNECT_AFTER_REQUEST));
+        server.enqueue(new MockResponse().setResponseCode(200));
+
+        Request request = post().header("Idempotency-Key", "key").build();
+        assertThrows(IOException.class, () -> client.newCall(request).execute());
+        assertEquals(2, server.getRequestCount());
+    }
+
+    private Request.Builder post() {
+        return new Request.Builder().url(server.url("/payments")).post(JsonRequestBody.streaming("{}"));
+    }
+}
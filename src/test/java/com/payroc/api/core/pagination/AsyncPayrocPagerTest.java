@@ -11,6 +11,7 @@ import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 import java.util.NoSuchElementException;
+import java.util.Optional;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.TimeUnit;
@@ -181,6 +182,40 @@ public class AsyncPayrocPagerTest {
         assertFalse(nextPage.hasNext());
     }
 
+    @Test
+    void testFetchedPageAsyncUpdatesLinksAndResponse() throws Exception {
+        String nextUrl = mockServer.url("/page2").toString();
+        String previousUrl = mockServer.url("/page1").toString();
+
+        mockServer.enqueue(new MockResponse()
+                .setBody("{\"limit\":25,\"count\":0,\"hasMore\":false,\"data\":[],"
+                        + "\"links\":[{\"rel\":\"previous\",\"method\":\"get\",\"href\":\"" + previousUrl + "\"}]}")
+                .addHeader("Content-Type", "application/json"));
+
+        Link nextLink = Link.builder().rel("next").method("GET").href(nextUrl).build();
+
+        PaymentPaginatedListForRead response = PaymentPaginatedListForRead.builder()
+                .limit(10)
+                .count(1)
+                .hasMore(true)
+                .data(Collections.emptyList())
+                .links(Collections.singletonList(nextLink))
+                .build();
+
+        AsyncPayrocPager<RetrievedPayment> pager = AsyncPayrocPager.<RetrievedPayment>createAsync(
+                        response, clientOptions, null)
+                .get(5, TimeUnit.SECONDS);
+
+        pager.nextPageAsync().get(5, TimeUnit.SECONDS);
+
+        assertFalse(pager.hasNext());
+        assertTrue(pager.hasPrevious());
+        assertTrue(pager.getItems().isEmpty());
+        Optional<PaymentPaginatedListForRead> fullResponse = pager.getResponse();
+        assertTrue(fullResponse.isPresent());
+        assertEquals(Optional.of(25), fullResponse.get().getLimit());
+    }
+
     @Test
     void testGetAllItemsAsyncWithSinglePage() throws Exception {
         PaymentPaginatedListForRead response = PaymentPaginatedListForRead.builder()
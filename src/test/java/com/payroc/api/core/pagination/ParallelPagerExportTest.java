@@ -0,0 +1,248 @@
+package com.payroc.api.core.pagination;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.payroc.api.core.ClientOptions;
+import com.payroc.api.resources.reporting.settlement.SettlementClient;
+import com.payroc.api.resources.reporting.settlement.SettlementExports;
+import com.payroc.api.resources.reporting.settlement.requests.ListReportingSettlementTransactionsRequest;
+import com.payroc.api.resources.reporting.settlement.types.ListBatchesSettlementResponse;
+import com.payroc.api.types.Batch;
+import com.payroc.api.types.Link;
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.io.UncheckedIOException;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import okhttp3.OkHttpClient;
+import okhttp3.mockwebserver.Dispatcher;
+import okhttp3.mockwebserver.MockResponse;
+import okhttp3.mockwebserver.MockWebServer;
+import okhttp3.mockwebserver.RecordedRequest;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for ParallelPagerExport.
+ */
+public class ParallelPagerExportTest {
+
+    private MockWebServer mockServer;
+    private ClientOptions clientOptions;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        mockServer = new MockWebServer();
+        mockServer.setDispatcher(new Dispatcher() {
+            @Override
+            public MockResponse dispatch(RecordedRequest request) {
+                // Second page of shard N is served at /shards/N and holds batch N * 10 + 1
+                String path = request.getPath();
+                if (path.equals("/shards/99")) {
+                    return new MockResponse().setResponseCode(500);
+                }
+                if (path.equals("/fill")) {
+                    return new MockResponse()
+                            .setBody("{\"data\":[{\"batchId\":1}],\"links\":[{\"rel\":\"next\",\"method\":\"GET\","
+                                    + "\"href\":\"" + mockServer.url("/stall") + "\"}]}")
+                            .addHeader("Content-Type", "application/json");
+                }
+                int shard = Integer.parseInt(path.substring("/shards/".length()));
+                return new MockResponse()
+                        .setBody("{\"data\":[{\"batchId\":" + (shard * 10 + 1) + "}],\"links\":[]}")
+                        .addHeader("Content-Type", "application/json");
+            }
+        });
+        mockServer.start();
+        clientOptions = ClientOptions.builder().httpClient(new OkHttpClient()).build();
+    }
+
+    @AfterEach
+    void tearDown() throws IOException {
+        mockServer.shutdown();
+    }
+
+    @Test
+    void testDaysSplitsInclusiveWindow() {
+        List<LocalDate> days = ParallelPagerExport.days(LocalDate.of(2024, 2, 28), LocalDate.of(2024, 3, 1));
+
+        assertEquals(
+                Arrays.asList(LocalDate.of(2024, 2, 28), LocalDate.of(2024, 2, 29), LocalDate.of(2024, 3, 1)), days);
+    }
+
+    @Test
+    void testDaysRejectsReversedWindow() {
+        assertThrows(
+                IllegalArgumentException.class,
+                () -> ParallelPagerExport.days(LocalDate.of(2024, 3, 2), LocalDate.of(2024, 3, 1)));
+    }
+
+    @Test
+    void testOrderedExportPreservesShardOrder() {
+        ParallelExportOptions options =
+                ParallelExportOptions.builder().parallelism(3).build();
+
+        List<Integer> batchIds;
+        try (Stream<Batch> batches = ParallelPagerExport.stream(Arrays.asList(1, 2, 3, 4, 5), this::pager, options)) {
+            batchIds = batches.map(batch -> batch.getBatchId().get()).collect(Collectors.toList());
+        }
+
+        assertEquals(Arrays.asList(10, 11, 20, 21, 30, 31, 40, 41, 50, 51), batchIds);
+    }
+
+    @Test
+    void testUnorderedExportReturnsEveryItem() {
+        ParallelExportOptions options =
+                ParallelExportOptions.builder().parallelism(2).ordered(false).build();
+
+        List<Integer> batchIds;
+        try (Stream<Batch> batches = ParallelPagerExport.stream(Arrays.asList(1, 2, 3, 4, 5), this::pager, options)) {
+            batchIds = batches.map(batch -> batch.getBatchId().get()).sorted().collect(Collectors.toList());
+        }
+
+        assertEquals(Arrays.asList(10, 11, 20, 21, 30, 31, 40, 41, 50, 51), batchIds);
+    }
+
+    @Test
+    void testExportWithNoShardsIsEmpty() {
+        try (Stream<Batch> batches = ParallelPagerExport.stream(
+                Collections.<Integer>emptyList(),
+                this::pager,
+                ParallelExportOptions.builder().build())) {
+            assertEquals(0, batches.count());
+        }
+    }
+
+    @Test
+    void testOrderedExportPropagatesShardFailure() {
+        ParallelExportOptions options = ParallelExportOptions.builder().build();
+
+        try (Stream<Batch> batches = ParallelPagerExport.stream(Arrays.asList(1, 99, 3), this::pager, options)) {
+            assertThrows(UncheckedIOException.class, () -> batches.collect(Collectors.toList()));
+        }
+    }
+
+    @Test
+    void testUnorderedExportPropagatesShardFailure() {
+        ParallelExportOptions options =
+                ParallelExportOptions.builder().ordered(false).build();
+
+        try (Stream<Batch> batches = ParallelPagerExport.stream(Arrays.asList(1, 99, 3), this::pager, options)) {
+            assertThrows(UncheckedIOException.class, () -> batches.collect(Collectors.toList()));
+        }
+    }
+
+    @Test
+    void testOrderedExportPropagatesShardError() {
+        ParallelExportOptions options = ParallelExportOptions.builder().build();
+
+        assertTimeoutPreemptively(Duration.ofSeconds(5), () -> {
+            try (Stream<Batch> batches =
+                    ParallelPagerExport.stream(Arrays.asList(1, 2, 3), this::failingPager, options)) {
+                assertThrows(AssertionError.class, () -> batches.collect(Collectors.toList()));
+            }
+        });
+    }
+
+    @Test
+    void testUnorderedExportPropagatesShardError() {
+        ParallelExportOptions options =
+                ParallelExportOptions.builder().ordered(false).build();
+
+        assertTimeoutPreemptively(Duration.ofSeconds(5), () -> {
+            try (Stream<Batch> batches =
+                    ParallelPagerExport.stream(Arrays.asList(1, 2, 3), this::failingPager, options)) {
+                assertThrows(AssertionError.class, () -> batches.collect(Collectors.toList()));
+            }
+        });
+    }
+
+    @Test
+    void testCloseReleasesWorkerBlockedOnFullShard() throws Exception {
+        CountDownLatch stalled = new CountDownLatch(1);
+        OkHttpClient httpClient = new OkHttpClient.Builder()
+                .addInterceptor(chain -> {
+                    if (chain.request().url().encodedPath().equals("/stall")) {
+                        stalled.countDown();
+                        try {
+                            new CountDownLatch(1).await();
+                        } catch (InterruptedException e) {
+                            // Like OkHttp, report the interrupt as an exception and leave the flag cleared
+                            throw new InterruptedIOException();
+                        }
+                    }
+                    return chain.proceed(chain.request());
+                })
+                .build();
+        ClientOptions stallingOptions =
+                ClientOptions.builder().httpClient(httpClient).build();
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        ParallelExportOptions options = ParallelExportOptions.builder()
+                .parallelism(2)
+                .executor(executor)
+                .build();
+
+        // Shard 2 fills its queue with two pages and then stalls, while the consumer is still on shard 1
+        try (Stream<Batch> batches = ParallelPagerExport.stream(
+                Arrays.asList(1, 2), shard -> shard == 1 ? pager(1) : pager(stallingOptions, "/fill", 20), options)) {
+            assertEquals(10, batches.iterator().next().getBatchId().get());
+            assertTrue(stalled.await(5, TimeUnit.SECONDS));
+        }
+
+        executor.shutdown();
+        assertTrue(executor.awaitTermination(5, TimeUnit.SECONDS));
+    }
+
+    @Test
+    void testExportRejectsTemplateWithCursor() {
+        SettlementExports exports = new SettlementExports(new SettlementClient(clientOptions));
+        ListReportingSettlementTransactionsRequest request = ListReportingSettlementTransactionsRequest.builder()
+                .after("8516")
+                .build();
+
+        assertThrows(
+                IllegalArgumentException.class,
+                () -> exports.exportTransactions(
+                        LocalDate.of(2024, 3, 1),
+                        LocalDate.of(2024, 3, 2),
+                        request,
+                        ParallelExportOptions.builder().build()));
+    }
+
+    private PayrocPager<Batch> failingPager(int shard) {
+        if (shard == 2) {
+            throw new AssertionError("shard " + shard);
+        }
+        return pager(shard);
+    }
+
+    private PayrocPager<Batch> pager(int shard) {
+        return pager(clientOptions, "/shards/" + shard, shard * 10);
+    }
+
+    private PayrocPager<Batch> pager(ClientOptions options, String nextPath, int batchId) {
+        ListBatchesSettlementResponse firstPage = ListBatchesSettlementResponse.builder()
+                .data(Collections.singletonList(Batch.builder().batchId(batchId).build()))
+                .links(Collections.singletonList(Link.builder()
+                        .rel("next")
+                        .method("GET")
+                        .href(mockServer.url(nextPath).toString())
+                        .build()))
+                .build();
+        try {
+            return PayrocPager.create(firstPage, options, null);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
@@ -3,10 +3,18 @@ package com.payroc.api.core.pagination;
 import static org.junit.jupiter.api.Assertions.*;
 
 import com.payroc.api.core.ClientOptions;
+import com.payroc.api.core.HedgingConfig;
+import com.payroc.api.resources.reporting.settlement.types.ListBatchesSettlementResponse;
+import com.payroc.api.types.Batch;
 import com.payroc.api.types.Link;
+import com.payroc.api.types.Owner;
+import com.payroc.api.types.PaginatedList;
+import com.payroc.api.types.PaginatedOwners;
 import com.payroc.api.types.PaymentPaginatedListForRead;
 import com.payroc.api.types.RetrievedPayment;
 import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
@@ -14,6 +22,9 @@ import java.util.Iterator;
 import java.util.List;
 import java.util.NoSuchElementException;
 import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
 import java.util.stream.Collectors;
 import okhttp3.OkHttpClient;
 import okhttp3.mockwebserver.MockResponse;
@@ -226,6 +237,38 @@ public class PayrocPagerTest {
         assertFalse(pager.hasNext());
     }
 
+    @Test
+    void testFetchedPageUpdatesLinksAndResponse() throws IOException {
+        String nextUrl = mockServer.url("/page2").toString();
+        String previousUrl = mockServer.url("/page1").toString();
+
+        mockServer.enqueue(new MockResponse()
+                .setBody("{\"limit\":25,\"count\":0,\"hasMore\":false,\"data\":[],"
+                        + "\"links\":[{\"rel\":\"previous\",\"method\":\"get\",\"href\":\"" + previousUrl + "\"}]}")
+                .addHeader("Content-Type", "application/json"));
+
+        Link nextLink = Link.builder().rel("next").method("GET").href(nextUrl).build();
+
+        PaymentPaginatedListForRead response = PaymentPaginatedListForRead.builder()
+                .limit(10)
+                .count(1)
+                .hasMore(true)
+                .data(Collections.emptyList())
+                .links(Collections.singletonList(nextLink))
+                .build();
+
+        PayrocPager<RetrievedPayment> pager = PayrocPager.create(response, clientOptions, null);
+
+        pager.nextPage();
+
+        assertFalse(pager.hasNext());
+        assertTrue(pager.hasPrevious());
+        assertTrue(pager.getItems().isEmpty());
+        Optional<PaymentPaginatedListForRead> fullResponse = pager.getResponse();
+        assertTrue(fullResponse.isPresent());
+        assertEquals(Optional.of(25), fullResponse.get().getLimit());
+    }
+
     @Test
     void testIteratorWithSinglePageNoItems() throws IOException {
         PaymentPaginatedListForRead response = PaymentPaginatedListForRead.builder()
@@ -359,4 +402,159 @@ public class PayrocPagerTest {
 
         assertThrows(IllegalArgumentException.class, () -> PayrocPager.create(invalidResponse, clientOptions, null));
     }
+
+    @Test
+    void testCreateWithUnregisteredPaginatedResponseThrows() {
+        PaginatedList response = PaginatedList.builder().limit(10).count(0).build();
+
+        assertThrows(IllegalArgumentException.class, () -> PayrocPager.create(response, clientOptions, null));
+    }
+
+    @Test
+    void testCreateWithOptionalDataResponse() throws IOException {
+        PaginatedOwners response =
+                PaginatedOwners.builder().limit(10).count(0).hasMore(false).build();
+
+        PayrocPager<Owner> pager = PayrocPager.create(response, clientOptions, null);
+
+        assertTrue(pager.getItems().isEmpty());
+        assertFalse(pager.hasNext());
+    }
+
+    @Test
+    void testPrefetchingIteratesAllPages() throws IOException {
+        String page2Url = mockServer.url("/page2").toString();
+        String page3Url = mockServer.url("/page3").toString();
+
+        mockServer.enqueue(new MockResponse()
+                .setBody("{\"data\":[{\"batchId\":2},{\"batchId\":3}],"
+                        + "\"links\":[{\"rel\":\"next\",\"method\":\"get\",\"href\":\"" + page3Url + "\"}]}")
+                .addHeader("Content-Type", "application/json"));
+        mockServer.enqueue(new MockResponse()
+                .setBody("{\"data\":[{\"batchId\":4}],\"links\":[]}")
+                .addHeader("Content-Type", "application/json"));
+
+        PayrocPager<Batch> pager = PayrocPager.create(batchPage(1, page2Url), clientOptions, null);
+
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        List<Integer> batchIds = new ArrayList<>();
+        try (CloseableIterator<Batch> batches = pager.prefetching(1, executor)) {
+            while (batches.hasNext()) {
+                batchIds.add(batches.next().getBatchId().get());
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        assertEquals(Arrays.asList(1, 2, 3, 4), batchIds);
+        assertEquals(2, mockServer.getRequestCount());
+    }
+
+    @Test
+    void testPrefetchingPropagatesFetchFailure() throws IOException {
+        String page2Url = mockServer.url("/page2").toString();
+
+        mockServer.enqueue(new MockResponse().setResponseCode(500));
+
+        PayrocPager<Batch> pager = PayrocPager.create(batchPage(1, page2Url), clientOptions, null);
+
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try (CloseableIterator<Batch> batches = pager.prefetching(2, executor)) {
+            assertEquals(Optional.of(1), batches.next().getBatchId());
+            assertThrows(UncheckedIOException.class, batches::hasNext);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void testPrefetchingPropagatesError() throws IOException {
+        String page2Url = mockServer.url("/page2").toString();
+        ClientOptions failingOptions = ClientOptions.builder()
+                .httpClient(new OkHttpClient.Builder()
+                        .addInterceptor(chain -> {
+                            throw new AssertionError("boom");
+                        })
+                        .build())
+                .build();
+
+        PayrocPager<Batch> pager = PayrocPager.create(batchPage(1, page2Url), failingOptions, null);
+
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try (CloseableIterator<Batch> batches = pager.prefetching(1, executor)) {
+            assertEquals(Optional.of(1), batches.next().getBatchId());
+            assertTimeoutPreemptively(
+                    Duration.ofSeconds(5), () -> assertThrows(AssertionError.class, batches::hasNext));
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void testPrefetchingCloseStopsIteration() throws IOException {
+        String page2Url = mockServer.url("/page2").toString();
+
+        mockServer.enqueue(new MockResponse()
+                .setBody("{\"data\":[{\"batchId\":2}],\"links\":[]}")
+                .addHeader("Content-Type", "application/json"));
+
+        PayrocPager<Batch> pager = PayrocPager.create(batchPage(1, page2Url), clientOptions, null);
+
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            CloseableIterator<Batch> batches = pager.prefetching(1, executor);
+            assertTrue(batches.hasNext());
+            batches.close();
+            assertFalse(batches.hasNext());
+            assertThrows(NoSuchElementException.class, batches::next);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void testNextPageIsHedged() throws IOException {
+        String page2Url = mockServer.url("/page2").toString();
+        ClientOptions hedgingOptions = ClientOptions.builder()
+                .maxRetries(0)
+                .hedging(
+                        HedgingConfig.builder().maxDelay(Duration.ofMillis(100)).build())
+                .build();
+
+        mockServer.enqueue(new MockResponse()
+                .setBody("{\"data\":[{\"batchId\":2}],\"links\":[]}")
+                .addHeader("Content-Type", "application/json")
+                .setHeadersDelay(5, TimeUnit.SECONDS));
+        mockServer.enqueue(new MockResponse()
+                .setBody("{\"data\":[{\"batchId\":3}],\"links\":[]}")
+                .addHeader("Content-Type", "application/json"));
+
+        PayrocPager<Batch> pager = PayrocPager.create(batchPage(1, page2Url), hedgingOptions, null);
+        pager.nextPage();
+
+        assertEquals(Optional.of(3), pager.getItems().get(0).getBatchId());
+        assertEquals(2, mockServer.getRequestCount());
+        assertEquals(1, hedgingOptions.hedgingBudget().get().getRetries());
+    }
+
+    @Test
+    void testPrefetchingRejectsNonPositiveDepth() throws IOException {
+        PayrocPager<Batch> pager = PayrocPager.create(batchPage(1, null), clientOptions, null);
+
+        assertThrows(IllegalArgumentException.class, () -> pager.prefetching(0, Runnable::run));
+    }
+
+    private static ListBatchesSettlementResponse batchPage(int batchId, String nextUrl) {
+        return ListBatchesSettlementResponse.builder()
+                .data(Collections.singletonList(Batch.builder().batchId(batchId).build()))
+                .links(
+                        nextUrl == null
+                                ? Collections.emptyList()
+                                : Collections.singletonList(Link.builder()
+                                        .rel("next")
+                                        .method("GET")
+                                        .href(nextUrl)
+                                        .build()))
+                .build();
+    }
 }